@@ -1,8 +1,11 @@
 package com.forbidden.island;
 
+import com.forbidden.island.utils.AssetPreloader;
 import com.forbidden.island.view.SplashScreen;
+import com.forbidden.island.view.TileGridPanel;
 
 import javax.swing.*;
+import java.util.Arrays;
 
 /**
  * Main application class for the Forbidden Island game.
@@ -15,8 +18,12 @@ public class Application {
      * Uses SwingUtilities.invokeLater to ensure all Swing components are created
      * and modified in the Event Dispatch Thread (EDT), which is a best practice
      * for Swing applications to avoid threading issues.
+     * The option --board-canvas draws the board with a single custom-painted component (BoardCanvas).
+     * The images are preloaded in the background while the splash screen plays (AssetPreloader).
      */
     public static void main(String[] args) {
+        TileGridPanel.setCustomPainted(Arrays.asList(args).contains("--board-canvas"));
+        AssetPreloader.start();
         SwingUtilities.invokeLater(() -> {
             // Create and show the splash screen with the title image
             new SplashScreen("/TitleScreen.png");
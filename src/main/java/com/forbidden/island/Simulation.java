@@ -0,0 +1,101 @@
+package com.forbidden.island;
+
+import com.forbidden.island.bot.BatchSimulation;
+import com.forbidden.island.bot.BotPolicy;
+import com.forbidden.island.bot.SimulationStats;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless entry point that plays many complete games with bots on all cores and prints aggregate statistics:
+ * win rate, loss causes, game length and captured figurines. Used to calibrate the difficulty levels and to check rule changes.
+ * The games run on GameEngine, which follows the rules of the client: the Pilot flies once per turn and a short
+ * flood draw pile gets the reshuffled discard pile below it before the flood phase, as FloodDeck does.
+ * <p>
+ * Usage: {@code Simulation [--games N] [--players 2-4] [--water 1-9] [--bot random|greedy|mcts] [--seed S] [--threads T]}
+ */
+public class Simulation {
+
+    private static final String USAGE = "Usage: Simulation [--games N] [--players 2-4] [--water 1-9] "
+            + "[--bot random|greedy|mcts] [--seed S] [--threads T]";
+
+    /**
+     * Main method that runs the simulation.
+     */
+    public static void main(String[] args) {
+        long games = 10_000;
+        int players = 4;
+        int waterLevel = 1;
+        BotPolicy policy = BotPolicy.GREEDY;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games":
+                        games = Long.parseLong(value);
+                        break;
+                    case "--players":
+                        players = Integer.parseInt(value);
+                        break;
+                    case "--water":
+                        waterLevel = Integer.parseInt(value);
+                        break;
+                    case "--bot":
+                        policy = BotPolicy.of(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+            if (players < 2 || players > 4 || waterLevel < 1 || waterLevel > 9 || games < 1 || threads < 1) {
+                throw new IllegalArgumentException("Value out of range");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        System.out.printf("Simulating %d games: %d players, water level %d, %s bot, seed %d, %d threads%n",
+                games, players, waterLevel, policy.name().toLowerCase(), seed, threads);
+        long start = System.nanoTime();
+        SimulationStats stats = run(games, players, waterLevel, policy, seed, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(stats.report());
+        System.out.printf("Elapsed:      %.2f s (%.0f games/s)%n", seconds, games / seconds);
+    }
+
+    /**
+     * Plays a batch of games on a dedicated ForkJoinPool.
+     *
+     * @param games number of games
+     * @param players number of players
+     * @param waterLevel starting water level
+     * @param policy bot policy playing every seat
+     * @param seed seed of the batch
+     * @param threads number of worker threads
+     * @return aggregated results
+     */
+    public static SimulationStats run(long games, int players, int waterLevel, BotPolicy policy, long seed, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.invoke(new BatchSimulation(players, waterLevel, policy, seed, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
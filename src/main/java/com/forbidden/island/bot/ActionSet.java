@@ -0,0 +1,50 @@
+package com.forbidden.island.bot;
+
+/**
+ * ActionSet is a reusable set of encoded actions with O(1) add and lookup.
+ * It is an open-addressing table whose entries are valid only for the current generation,
+ * so clearing it is a single increment instead of a fill.
+ */
+final class ActionSet {
+    /** Table size, a power of two well above Action.MAX_ACTIONS */
+    private static final int SIZE = 1 << 13;
+    private static final int MASK = SIZE - 1;
+
+    private final int[] keys = new int[SIZE];
+    private final int[] generations = new int[SIZE];
+    private int generation = 1;
+
+    /**
+     * Removes all actions.
+     */
+    void clear() {
+        generation++;
+    }
+
+    void add(int action) {
+        int index = hash(action);
+        while (generations[index] == generation) {
+            if (keys[index] == action) {
+                return;
+            }
+            index = (index + 1) & MASK;
+        }
+        keys[index] = action;
+        generations[index] = generation;
+    }
+
+    boolean contains(int action) {
+        int index = hash(action);
+        while (generations[index] == generation) {
+            if (keys[index] == action) {
+                return true;
+            }
+            index = (index + 1) & MASK;
+        }
+        return false;
+    }
+
+    private static int hash(int action) {
+        return (action * 0x9E3779B1) >>> (32 - 13);
+    }
+}
@@ -0,0 +1,81 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BatchSimulation plays a range of complete games with bots on a ForkJoinPool.
+ * <p>
+ * The range is split in halves until it is small enough for one worker, and the partial SimulationStats are
+ * merged on the way back. Game i always gets the same random source derived from the seed, so the results
+ * do not depend on the number of threads or on how the range was split.
+ * The games are played by GameEngine on a GameState, with the same rules as GameSession in the client.
+ */
+public class BatchSimulation extends RecursiveTask<SimulationStats> {
+    private static final long serialVersionUID = 1L;
+
+    /** Games played by one task without splitting further */
+    private static final int BATCH_SIZE = 16;
+
+    /** Actions after which a game is stopped as unfinished, guards against bots that never end a turn */
+    public static final int MAX_ACTIONS_PER_GAME = 20_000;
+
+    private final int players;
+    private final int waterLevel;
+    private final BotPolicy policy;
+    private final long seed;
+    private final long from;
+    private final long to;
+
+    /**
+     * @param players number of players (2-4)
+     * @param waterLevel starting water level (difficulty)
+     * @param policy bot policy playing every seat
+     * @param seed seed of the batch
+     * @param from first game index
+     * @param to end of the game range (exclusive)
+     */
+    public BatchSimulation(int players, int waterLevel, BotPolicy policy, long seed, long from, long to) {
+        this.players = players;
+        this.waterLevel = waterLevel;
+        this.policy = policy;
+        this.seed = seed;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (to - from <= BATCH_SIZE) {
+            SimulationStats stats = new SimulationStats();
+            for (long game = from; game < to; game++) {
+                playGame(game, stats);
+            }
+            return stats;
+        }
+        long middle = (from + to) >>> 1;
+        BatchSimulation left = new BatchSimulation(players, waterLevel, policy, seed, from, middle);
+        BatchSimulation right = new BatchSimulation(players, waterLevel, policy, seed, middle, to);
+        left.fork();
+        SimulationStats stats = right.compute();
+        return stats.merge(left.join());
+    }
+
+    private void playGame(long game, SimulationStats stats) {
+        SplittableRandom random = new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L);
+        GameState state = GameState.newGame(players, waterLevel, random.split());
+        GameEngine engine = new GameEngine(state);
+        Bot bot = policy.create(random.split());
+
+        int actions = 0;
+        while (!state.isOver() && actions < MAX_ACTIONS_PER_GAME) {
+            engine.apply(bot.chooseAction(engine));
+            engine.clearHistory();
+            actions++;
+        }
+        stats.add(state.getOutcome(), state.getTurn(), actions, Integer.bitCount(state.getFigurines()));
+    }
+}
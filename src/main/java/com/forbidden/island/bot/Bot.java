@@ -0,0 +1,19 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.GameEngine;
+
+/**
+ * A Bot chooses actions for the players of a game played on a GameEngine.
+ * Bots keep their own buffers and random sources, so one instance must only be used by one thread.
+ */
+public interface Bot {
+
+    /**
+     * Chooses the next action of a game in progress.
+     * The bot may apply and undo actions on the engine, but must leave its state as it was.
+     *
+     * @param engine engine holding the current state, which is not over
+     * @return encoded action, legal in the current state
+     */
+    int chooseAction(GameEngine engine);
+}
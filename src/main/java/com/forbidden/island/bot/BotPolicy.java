@@ -0,0 +1,55 @@
+package com.forbidden.island.bot;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Bot policies that can be selected by name, e.g. on the command line of the batch simulation.
+ */
+public enum BotPolicy {
+    /** Uniformly random legal actions */
+    RANDOM {
+        @Override
+        public Bot create(RandomGenerator random) {
+            return new RandomBot(random);
+        }
+    },
+    /** One-action lookahead on Heuristics */
+    GREEDY {
+        @Override
+        public Bot create(RandomGenerator random) {
+            return new GreedyBot(random);
+        }
+    },
+    /** Information-set MCTS with a fixed playout budget and no time limit, so batches stay reproducible */
+    MCTS {
+        @Override
+        public Bot create(RandomGenerator random) {
+            return new MctsBot(BATCH_PLAYOUTS, 1, 0, 4, random);
+        }
+    };
+
+    /** Playouts per decision of the MCTS policy */
+    static final int BATCH_PLAYOUTS = 1_000;
+
+    /**
+     * Creates a bot of this policy.
+     *
+     * @param random random source owned by the bot
+     * @return new bot, to be used by one thread
+     */
+    public abstract Bot create(RandomGenerator random);
+
+    /**
+     * Looks up a policy by name, ignoring case.
+     *
+     * @param name policy name
+     * @return the policy
+     */
+    public static BotPolicy of(String name) {
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown bot policy: " + name);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.GameEngine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * GreedyBot looks one action ahead: it applies every legal action, scores the result with Heuristics
+ * and undoes it again, then plays the best one (ties broken at random).
+ * Ending the actions is scored as the current state, so the bot stops once no action improves the score
+ * instead of gambling on the draw.
+ */
+public class GreedyBot implements Bot {
+    private final int[] actions = new int[Action.MAX_ACTIONS];
+    private final RandomGenerator random;
+
+    /**
+     * @param random random source used to break ties
+     */
+    public GreedyBot(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseAction(GameEngine engine) {
+        int count = engine.legalActions(actions);
+        double current = Heuristics.evaluate(engine.getState());
+        double best = Double.NEGATIVE_INFINITY;
+        int choice = actions[0];
+        int ties = 0;
+        for (int i = 0; i < count; i++) {
+            int action = actions[i];
+            double score;
+            if (Action.type(action) == Action.END_ACTIONS) {
+                score = current;
+            } else {
+                engine.apply(action);
+                score = Heuristics.evaluate(engine.getState());
+                engine.undo();
+            }
+            if (score > best) {
+                best = score;
+                choice = action;
+                ties = 1;
+            } else if (score == best && random.nextInt(++ties) == 0) {
+                choice = action;
+            }
+        }
+        return choice;
+    }
+}
@@ -0,0 +1,122 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.FloodRisk;
+import com.forbidden.island.model.engine.GameState;
+
+/**
+ * Heuristics scores game states for the bots: higher is better for the (cooperating) players.
+ * <p>
+ * Finished games score WIN or LOSS. Otherwise the score rewards captured figurines, collected treasure cards
+ * (especially when one player holds most of a kind), holders of four cards close to a shrine, special cards in
+ * hand, and all pawns close to Fools' Landing once every figurine is captured. It penalises the water level,
+ * flooded and sunk tiles, flooded Fools' Landing and shrines (most of all when their sinking would lose the game),
+ * treasures that have lost one of their shrines, and the chance that the next flood phase sinks a tile the game
+ * cannot afford to lose.
+ */
+public final class Heuristics {
+    /** Score of a won game */
+    public static final double WIN = 1_000_000;
+    /** Score of a lost game */
+    public static final double LOSS = -1_000_000;
+
+    /** Flood odds of the evaluated state, one per thread as the parallel searches evaluate concurrently */
+    private static final ThreadLocal<FloodRisk> FLOOD_RISK = ThreadLocal.withInitial(FloodRisk::new);
+
+    private Heuristics() {
+    }
+
+    /**
+     * @param state game state
+     * @return score of the state
+     */
+    public static double evaluate(GameState state) {
+        if (state.isOver()) {
+            // Losing later is better than losing early
+            return state.getOutcome() == GameState.WON ? WIN : LOSS + state.getTurn();
+        }
+        BoardState board = state.getBoard();
+        int exist = board.getExistMask();
+        int flooded = board.getFloodedMask();
+        int landing = board.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID);
+
+        double score = -60.0 * state.getWaterLevel()
+                - 10.0 * Integer.bitCount(flooded)
+                - 12.0 * Integer.bitCount(board.getSunkMask());
+        int critical = IslandLayout.bit(landing);
+        // A flooded tile that must not sink is one flood card away from losing the game
+        int fatal = IslandLayout.bit(landing);
+
+        for (int treasure = 0; treasure < 4; treasure++) {
+            if (state.isCaptured(treasure)) {
+                score += 600;
+                continue;
+            }
+            int shrines = IslandLayout.bit(board.getSlotOfTile(2 * treasure + 1))
+                    | IslandLayout.bit(board.getSlotOfTile(2 * treasure + 2));
+            critical |= shrines;
+            if (Integer.bitCount(shrines & exist) == 1) {
+                score -= 80;
+                fatal |= shrines;
+            }
+
+            int total = 0;
+            int best = 0;
+            int holder = 0;
+            for (int seat = 0; seat < state.getNumPlayers(); seat++) {
+                int count = Cards.count(state.getHand(seat) & Cards.treasureMask(treasure));
+                total += count;
+                if (count > best) {
+                    best = count;
+                    holder = seat;
+                }
+            }
+            score += 25.0 * Math.min(total, Cards.CAPTURE_COST) + 40.0 * Math.min(best, Cards.CAPTURE_COST);
+            if (best >= Cards.CAPTURE_COST) {
+                score -= 15.0 * distance(state.getPawnSlot(holder), shrines & exist);
+            }
+        }
+        score -= 40.0 * Integer.bitCount(flooded & critical) + 150.0 * Integer.bitCount(flooded & fatal & exist);
+        // Exact chance that the next flood phase alone loses the game
+        score -= 1500.0 * FLOOD_RISK.get().compute(state).getLossProbability();
+        // Pawns should stay close to the flooded tiles that matter, to shore them up next turn
+        for (int rest = flooded & critical; rest != 0; rest &= rest - 1) {
+            int tile = Integer.numberOfTrailingZeros(rest);
+            int nearest = 6;
+            for (int seat = 0; seat < state.getNumPlayers(); seat++) {
+                nearest = Math.min(nearest, distance(state.getPawnSlot(seat), 1 << tile));
+            }
+            score -= 8.0 * nearest;
+        }
+
+        for (int seat = 0; seat < state.getNumPlayers(); seat++) {
+            int hand = state.getHand(seat);
+            score += 30.0 * Cards.count(hand & Cards.HELICOPTER_MASK) + 15.0 * Cards.count(hand & Cards.SANDBAG_MASK);
+            if (state.getFigurines() == 0b1111) {
+                score -= 20.0 * distance(state.getPawnSlot(seat), IslandLayout.bit(landing) & exist);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * @param slot slot of a pawn
+     * @param targets mask of target slots
+     * @return smallest number of orthogonal steps from the slot to a target, ignoring holes; 6 without targets
+     */
+    static int distance(int slot, int targets) {
+        if (slot == BoardState.NO_SLOT || targets == 0) {
+            return 6;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int rest = targets; rest != 0; rest &= rest - 1) {
+            int target = Integer.numberOfTrailingZeros(rest);
+            int steps = Math.abs(IslandLayout.xOf(target) - IslandLayout.xOf(slot))
+                    + Math.abs(IslandLayout.yOf(target) - IslandLayout.yOf(slot));
+            best = Math.min(best, steps);
+        }
+        return best;
+    }
+}
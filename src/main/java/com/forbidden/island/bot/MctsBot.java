@@ -0,0 +1,293 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * MctsBot chooses actions with information-set Monte Carlo Tree Search (single observer, determinized).
+ * <p>
+ * The players see everything except the order of the treasure and flood draw piles. Every playout therefore
+ * starts by re-dealing both draw piles on a private copy of the state (IntDeck.shuffleUnknown, which keeps the
+ * cards put back on top of the flood deck on top), and then walks one shared tree whose nodes are keyed by action:
+ * <ul>
+ *     <li>selection only considers children whose action is legal in the current determinization, using UCB with
+ *     the number of times the child was available instead of the parent's visits</li>
+ *     <li>expansion adds one untried legal action</li>
+ *     <li>the new leaf is scored by a short random rollout followed by Heuristics, measured from the score of the
+ *     root and squashed into [0, 1]</li>
+ *     <li>the engine undoes the whole path, so a playout does not copy the state</li>
+ * </ul>
+ * All turn structure comes from the engine: up to three actions, ending the actions (the Stage23 draw and the
+ * flood, sampled from the determinized decks), hand-limit discards, swimming and the free Helicopter Lift and
+ * Sandbag plays.
+ * <p>
+ * With more than one thread the search is root parallel: every thread grows its own tree on its own
+ * determinizations and the root visit counts are summed. A decision stops at the playout budget or the time
+ * limit, whichever comes first, and plays the most visited root action.
+ */
+public class MctsBot implements Bot {
+    /** Default playouts per decision */
+    public static final int DEFAULT_PLAYOUTS = 2_000;
+    /** Default time limit per decision */
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 100;
+
+    /** UCB exploration constant, tuned against GreedyBot with the playout budget of BotPolicy.MCTS */
+    private static final double EXPLORATION = 0.2;
+    /** Heuristic gain over the root that moves the squashed reward from 0.5 to about 0.73 */
+    private static final double SCORE_SCALE = 50;
+
+    private final int playouts;
+    private final int threads;
+    private final long timeLimitNanos;
+    private final int rolloutActions;
+    private final RandomGenerator random;
+
+    /**
+     * Creates a bot with the default playout budget and time limit, searching on the calling thread.
+     *
+     * @param random random source of the bot
+     */
+    public MctsBot(RandomGenerator random) {
+        this(DEFAULT_PLAYOUTS, 1, DEFAULT_TIME_LIMIT_MILLIS, 4, random);
+    }
+
+    /**
+     * @param playouts playouts per decision, shared by all threads
+     * @param threads number of search threads (root parallelism)
+     * @param timeLimitMillis time limit per decision, 0 for none (reproducible decisions)
+     * @param rolloutActions random actions played after a new leaf before it is scored
+     * @param random random source of the bot
+     */
+    public MctsBot(int playouts, int threads, long timeLimitMillis, int rolloutActions, RandomGenerator random) {
+        this.playouts = playouts;
+        this.threads = threads;
+        this.timeLimitNanos = timeLimitMillis * 1_000_000;
+        this.rolloutActions = rolloutActions;
+        this.random = random;
+    }
+
+    @Override
+    public int chooseAction(GameEngine engine) {
+        GameState root = engine.getState();
+        int[] actions = new int[Action.MAX_ACTIONS];
+        int count = engine.legalActions(actions);
+        if (count == 1) {
+            return actions[0];
+        }
+
+        long deadline = timeLimitNanos > 0 ? System.nanoTime() + timeLimitNanos : Long.MAX_VALUE;
+        Search[] searches = new Search[threads];
+        for (int i = 0; i < threads; i++) {
+            int budget = playouts / threads + (i < playouts % threads ? 1 : 0);
+            searches[i] = new Search(new GameState(root, new SplittableRandom(random.nextLong())),
+                    budget, deadline, new SplittableRandom(random.nextLong()));
+        }
+        if (threads == 1) {
+            searches[0].compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    invokeAll(searches);
+                    return null;
+                }
+            });
+        }
+
+        // Sum the root visits of all trees
+        int best = actions[0];
+        long bestVisits = -1;
+        for (int i = 0; i < count; i++) {
+            long visits = 0;
+            for (Search search : searches) {
+                Node child = search.root.child(actions[i]);
+                visits += child == null ? 0 : child.visits;
+            }
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = actions[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Node of the search tree, reached by playing action from its parent.
+     */
+    private static final class Node {
+        final int action;
+        final ArrayList<Node> children = new ArrayList<>();
+        int visits;
+        /** Number of playouts in which this node's action was legal at its parent */
+        int available;
+        double reward;
+
+        Node(int action) {
+            this.action = action;
+        }
+
+        Node child(int action) {
+            for (Node child : children) {
+                if (child.action == action) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One search thread: a private state copy and tree.
+     */
+    private final class Search extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        final Node root = new Node(0);
+        final GameState state;
+        final GameEngine engine;
+        final int budget;
+        final long deadline;
+        final SplittableRandom random;
+        final int[] actions = new int[Action.MAX_ACTIONS];
+        /** Legal actions of the current node */
+        final ActionSet legal = new ActionSet();
+        /** Actions of the children of the current node */
+        final ActionSet tried = new ActionSet();
+        final ArrayList<Node> path = new ArrayList<>();
+        /** Heuristic score of the root, rewards measure the gain over it */
+        final double rootScore;
+
+        Search(GameState state, int budget, long deadline, SplittableRandom random) {
+            this.state = state;
+            this.engine = new GameEngine(state);
+            this.budget = budget;
+            this.deadline = deadline;
+            this.random = random;
+            this.rootScore = Heuristics.evaluate(state);
+        }
+
+        @Override
+        protected Void compute() {
+            for (int i = 0; i < budget; i++) {
+                // Check the clock every few playouts only
+                if ((i & 15) == 0 && System.nanoTime() > deadline && i > 0) {
+                    break;
+                }
+                playout();
+            }
+            return null;
+        }
+
+        private void playout() {
+            // Determinize: sample a deck order consistent with what the players know
+            state.getTreasureDeck().shuffleUnknown();
+            state.getFloodDeck().shuffleUnknown();
+
+            path.clear();
+            Node node = root;
+            path.add(node);
+            int depth = engine.getDepth();
+            boolean expanded = false;
+            while (!state.isOver() && !expanded) {
+                int count = engine.legalActions(actions);
+                Node next = select(node, count);
+                if (next == null) {
+                    // Expand one untried action
+                    int action = untried(node, count);
+                    next = new Node(action);
+                    next.available = 1;
+                    node.children.add(next);
+                    expanded = true;
+                }
+                engine.apply(next.action);
+                node = next;
+                path.add(node);
+            }
+
+            for (int i = 0; i < rolloutActions && !state.isOver(); i++) {
+                int count = engine.legalActions(actions);
+                engine.apply(actions[random.nextInt(count)]);
+            }
+            double reward = reward(state, rootScore);
+
+            while (engine.getDepth() > depth) {
+                engine.undo();
+            }
+            for (Node visited : path) {
+                visited.visits++;
+                visited.reward += reward;
+            }
+        }
+
+        /**
+         * UCB selection among the children legal in this determinization, counting their availability.
+         * @return selected child, null if some legal action has not been tried yet
+         */
+        private Node select(Node node, int count) {
+            legal.clear();
+            for (int i = 0; i < count; i++) {
+                legal.add(actions[i]);
+            }
+            int legalChildren = 0;
+            for (Node child : node.children) {
+                if (legal.contains(child.action)) {
+                    legalChildren++;
+                }
+            }
+            if (legalChildren < count) {
+                return null;
+            }
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Node child : node.children) {
+                if (!legal.contains(child.action)) {
+                    continue;
+                }
+                child.available++;
+                double value = child.reward / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.available) / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private int untried(Node node, int count) {
+            tried.clear();
+            for (Node child : node.children) {
+                tried.add(child.action);
+            }
+            int start = random.nextInt(count);
+            for (int i = 0; i < count; i++) {
+                int action = actions[(start + i) % count];
+                if (!tried.contains(action)) {
+                    return action;
+                }
+            }
+            throw new IllegalStateException("No untried action");
+        }
+    }
+
+    /**
+     * The score is measured from the root, as every captured figurine adds 600 to it and would push the rewards of
+     * a late game to the flat end of the curve.
+     *
+     * @param rootScore heuristic score of the root
+     * @return 1 for a win, 0 for a loss, otherwise the heuristic gain over the root squashed into (0, 1)
+     */
+    private static double reward(GameState state, double rootScore) {
+        if (state.isOver()) {
+            return state.getOutcome() == GameState.WON ? 1 : 0;
+        }
+        return 1 / (1 + Math.exp(-(Heuristics.evaluate(state) - rootScore) / SCORE_SCALE));
+    }
+}
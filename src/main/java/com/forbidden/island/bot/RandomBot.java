@@ -0,0 +1,27 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.GameEngine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * RandomBot picks a uniformly random legal action. It is the baseline every other bot has to beat.
+ */
+public class RandomBot implements Bot {
+    private final int[] actions = new int[Action.MAX_ACTIONS];
+    private final RandomGenerator random;
+
+    /**
+     * @param random random source of the bot
+     */
+    public RandomBot(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseAction(GameEngine engine) {
+        int count = engine.legalActions(actions);
+        return actions[random.nextInt(count)];
+    }
+}
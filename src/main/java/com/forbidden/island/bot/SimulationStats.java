@@ -0,0 +1,119 @@
+package com.forbidden.island.bot;
+
+import com.forbidden.island.model.engine.GameState;
+
+/**
+ * SimulationStats aggregates the results of simulated games: outcomes by cause, game lengths and captured figurines.
+ * Partial results of parallel workers are combined with merge.
+ */
+public class SimulationStats {
+    /** Names of the outcomes, indexed like the GameState outcome constants */
+    private static final String[] OUTCOMES = {"Unfinished", "Won", "Skull reached", "Fools' Landing sunk",
+            "Shrines sunk", "Drowned"};
+
+    private long games;
+    /** Outcome → number of games, index 0 counts games stopped at the action limit */
+    private final long[] outcomes = new long[OUTCOMES.length];
+    private long totalTurns;
+    private long totalActions;
+    private long totalFigurines;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+
+    /**
+     * Records one game.
+     *
+     * @param outcome outcome of the game (GameState.ONGOING if it was stopped)
+     * @param turns number of finished turns
+     * @param actions number of applied actions
+     * @param figurines number of captured figurines
+     */
+    public void add(int outcome, int turns, int actions, int figurines) {
+        games++;
+        outcomes[outcome]++;
+        totalTurns += turns;
+        totalActions += actions;
+        totalFigurines += figurines;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+    }
+
+    /**
+     * Adds the games of another result to this one.
+     *
+     * @param other partial result
+     * @return this result
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] += other.outcomes[i];
+        }
+        totalTurns += other.totalTurns;
+        totalActions += other.totalActions;
+        totalFigurines += other.totalFigurines;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return outcomes[GameState.WON];
+    }
+
+    /**
+     * @param outcome GameState outcome constant
+     * @return number of games with that outcome
+     */
+    public long getOutcomeCount(int outcome) {
+        return outcomes[outcome];
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) getWins() / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public double getAverageActions() {
+        return games == 0 ? 0 : (double) totalActions / games;
+    }
+
+    public double getAverageFigurines() {
+        return games == 0 ? 0 : (double) totalFigurines / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * @return multi-line report of the results
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Games:        %d%n", games));
+        report.append(String.format("Win rate:     %.2f%%%n", 100 * getWinRate()));
+        for (int outcome = GameState.LOST_WATER; outcome < OUTCOMES.length; outcome++) {
+            report.append(String.format("  %-20s %d (%.2f%%)%n", OUTCOMES[outcome] + ":", outcomes[outcome],
+                    games == 0 ? 0 : 100.0 * outcomes[outcome] / games));
+        }
+        if (outcomes[GameState.ONGOING] > 0) {
+            report.append(String.format("  %-20s %d%n", OUTCOMES[GameState.ONGOING] + ":", outcomes[GameState.ONGOING]));
+        }
+        report.append(String.format("Game length:  %.1f turns avg (min %d, max %d), %.1f actions avg%n",
+                getAverageTurns(), getMinTurns(), getMaxTurns(), getAverageActions()));
+        report.append(String.format("Figurines:    %.2f captured avg%n", getAverageFigurines()));
+        return report.toString();
+    }
+}
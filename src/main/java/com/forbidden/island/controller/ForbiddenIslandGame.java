@@ -3,89 +3,50 @@ package com.forbidden.island.controller;
 import com.forbidden.island.utils.LogUtil;
 import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.handler.RenderingEngine;
-import com.forbidden.island.model.adventurer.Adventurer;
-import com.forbidden.island.model.adventurer.Engineer;
+import com.forbidden.island.view.handler.RenderingListener;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 
 /**
- * ForbiddenIslandGame class is the core game controller that manages the game flow and state.
- * It handles round progression, player actions, game phases, and victory/defeat conditions.
- * The class maintains game state including current round, action counts, and special game modes.
+ * ForbiddenIslandGame class is the core game controller that manages the game flow for the Swing client.
+ * It handles round progression, player actions, game phases, and victory/defeat conditions
+ * on the client's GameSession; the interface follows the session through a RenderingListener.
+ * The interface submits its commands to the game loop, which runs them off the EDT.
  */
 public class ForbiddenIslandGame {
     /**
-     * Current round number (starting from 0)
+     * Game-logic thread of the Swing client
      */
-    private static int roundNum = 0;
-
-    /**
-     * Virtual round number (used during rescue phase)
-     */
-    private static int fakeRoundNum = -1;
-
-    /**
-     * Number of actions taken by current player (maximum 3 per round)
-     */
-    private static int actionCount = 0;
-
-    /**
-     * Virtual action count (used during rescue to limit movement to 2 steps)
-     */
-    private static int fakeActionCount = 0;
-
-    /**
-     * Total number of players in current game
-     */
-    private static int numOfPlayer;
-
-    /**
-     * Indicates if current round has completed treasure card drawing and tile sinking phases
-     */
-    private static boolean stage23Done = false;
-
-    /**
-     * Indicates if game is in rescue mode (players need to be saved from water)
-     */
-    private static boolean need2save = false;
-
-    /**
-     * Indicates if currently in virtual round (handling players in water)
-     */
-    private static boolean inFakeRound = false;
-
-    /**
-     * List of player IDs currently in water
-     */
-    private static ArrayList<Integer> playerIDinWater;
+    private static final GameLoop loop = new GameLoop();
 
     /**
      * Initializes the game with specified number of players and water level.
-     * Sets up game elements, renders initial interface, and starts first round.
+     * Sets up game elements, connects the renderers to the session, and starts first round.
      */
     public static void init(int numOfPlayers, int waterLevel) {
-        numOfPlayer = numOfPlayers;
-        playerIDinWater = new ArrayList<>();
-
         // Initialize game element engine (card decks, characters, map, etc.)
         ElementEngine.init(numOfPlayers, waterLevel);
         LogUtil.console("Initialise Players...");
 
-        // Initialize rendering engine (responsible for GUI updates)
+        // Initialize rendering engine (responsible for GUI updates) and let it follow the session
         RenderingEngine.init();
+        session().addListener(new RenderingListener());
 
         // Initial tile sinking
-        LogUtil.console("Island starts to sink...");
-        RenderingEngine.getFloodRendering().update();
-        ElementEngine.getBoard().sinkTiles(ElementEngine.getFloodDeck().getCards());
-        ElementEngine.getFloodDeck().discard(); // Add drawn cards to discard pile
-        ElementEngine.getFloodDeck().set2Norm(); // Reset deck to normal mode
+        session().start();
+    }
 
-        // Game start message
-        LogUtil.console("[ Game Start ! ]");
-        LogUtil.console("[ Player " + (roundNum + 1) + " ]\n(" + ElementEngine.getAdventurers()[roundNum].getName() + "'s Round)");
-        LogUtil.console("Please Take Up To 3 Actions");
+    /**
+     * Queues a command of the interface for the game-logic thread.
+     *
+     * @param command game logic to run
+     */
+    public static void submit(Runnable command) {
+        loop.submit(command);
+    }
+
+    public static GameLoop getLoop() {
+        return loop;
     }
 
     /**
@@ -93,38 +54,7 @@ public class ForbiddenIslandGame {
      * Also processes any water rise cards drawn and updates game state accordingly.
      */
     public static void Stage23() {
-        // Draw 2 treasure cards
-        ElementEngine.getDisplayedTreasureCard().addAll(ElementEngine.getTreasureDeck().getCards());
-        actionCount = 3;    // Mark phase as complete by setting action count to 3
-
-        RenderingEngine.getTreasureRendering().update();
-
-        // Check for water rise cards and handle them
-        Iterator<Integer> iterator = ElementEngine.getDisplayedTreasureCard().iterator();
-        while (iterator.hasNext()) {
-            Integer treasureID = iterator.next();
-            if (treasureID == 25 || treasureID == 26 || treasureID == 27) { // Special cards: Water Rise
-                ElementEngine.getWaterMeter().WaterRise();  // Increase water level
-                ElementEngine.getFloodDeck().putBack2Top(); // Return flood discard pile to top
-                ElementEngine.getTreasureDeck().discard(treasureID);     // Discard the card
-                iterator.remove();  // Remove card to avoid duplicate processing
-            }
-        }
-
-        // Update interface displays
-        RenderingEngine.getTreasureRendering().update();
-        RenderingEngine.getPlayerRendering().update();
-        RenderingEngine.getWaterMeterRendering().update();
-        RenderingEngine.getBoardRendering().update();
-
-        // Draw flood cards and sink corresponding tiles
-        RenderingEngine.getFloodRendering().update();
-        ElementEngine.getBoard().sinkTiles(ElementEngine.getFloodDeck().getCards());
-
-        ElementEngine.getFloodDeck().discard(); // Add sunk cards to discard pile
-
-        // Mark phase as complete
-        stage23Done = true;
+        session().stage23();
     }
 
     /**
@@ -135,40 +65,7 @@ public class ForbiddenIslandGame {
      * - Prepares for next player's turn
      */
     public static void RoundEnd() {
-        // If card count exceeds limit (hand + displayed > 5), require discard first
-        if (ElementEngine.getAdventurers()[roundNum].getHandCards().size() + ElementEngine.getDisplayedTreasureCard().size() > 5) {
-            LogUtil.console("You Have More Than 5 Cards, Please Discard First!");
-            ElementEngine.resetCardsInRound();  // Reset round-related state
-            return;
-        } else {
-            // Merge hand cards and clear display area
-            ElementEngine.getAdventurers()[roundNum].getHandCards().addAll(ElementEngine.getDisplayedTreasureCard());
-            ElementEngine.getDisplayedTreasureCard().clear();
-            ElementEngine.selectPawn(-1);   // Cancel selected character
-            ElementEngine.resetCardsInRound();  // Reset round data
-            RenderingEngine.getTreasureRendering().update();
-            RenderingEngine.getPlayerRendering().update();
-        }
-
-        // Check for game failure: all shrines are sunk
-        if (ElementEngine.getBoard().isShrinesFlooded()) {
-            LogUtil.console("[!] Shrines And Treasures Are Sunk");
-            finish(false);    // Game over (failure)
-            return;
-        }
-
-        // Reset state and prepare for next player's turn
-        ElementEngine.selectPawn(-1);
-        if (ElementEngine.getAdventurers()[roundNum] instanceof Engineer) {
-            ((Engineer) ElementEngine.getAdventurers()[roundNum]).resetShoreUpCount();  // Reset Engineer's special ability usage count
-        }
-        actionCount = 0;
-        roundNum++;
-        roundNum = roundNum % numOfPlayer;  // Rotate turn order
-        stage23Done = false;
-
-        LogUtil.console("[ Player " + (roundNum + 1) + " ]\n(" + ElementEngine.getAdventurers()[roundNum].getName() + "'s Round)");
-        RenderingEngine.getPlayerRendering().update();  // Update player panel
+        session().roundEnd();
     }
 
     /**
@@ -176,159 +73,96 @@ public class ForbiddenIslandGame {
      * Allows them to move to adjacent tiles to save themselves.
      */
     public static void SavePlayersRound() {
-        // All players rescued, return to normal round
-        if (playerIDinWater.isEmpty()) {
-            roundNum = fakeRoundNum;
-            fakeRoundNum = -1;
-            actionCount = 3;
-            need2save = false;
-            inFakeRound = false;
-            RenderingEngine.getControllersRendering().update();
-            return;
-        }
-
-        // Handle next player in water
-        for (Adventurer adventurer : ElementEngine.getAdventurers()) {
-            if (playerIDinWater.contains(adventurer.getId())) {
-                roundNum = adventurer.getOrder();
-                actionCount = 2; // Players in water can only move 2 steps
-                RenderingEngine.getControllersRendering().update();
-                playerIDinWater.remove((Integer) adventurer.getId());
-
-                int x = adventurer.getX();
-                int y = adventurer.getY();
-
-                // Non-special characters must have at least one adjacent tile to swim to
-                boolean canSwim = checkCanSwim(x, y, adventurer.getName());
-                if (!canSwim) {
-                    finish(false);
-                    LogUtil.console("[!] No Adjacent Tile To Swim To");
-                    return;
-                }
-                return;
-            }
-        }
+        session().savePlayersRound();
     }
 
     /**
-     * Checks if there are any adjacent tiles the player can swim to from current position.
-     * Considers boundary conditions and Explorer's diagonal movement ability.
+     * Game end logic
+     * @param outcome GameState.WON or one of the GameState.LOST_* causes
      */
-    private static boolean checkCanSwim(int x, int y, String name) {
-        boolean isExplorer = name.equals("Explorer");
-
-        // Check four basic directions
-        boolean up = x > 0 && ElementEngine.getBoard().getTile(x - 1, y).isExist();
-        boolean down = x < 5 && ElementEngine.getBoard().getTile(x + 1, y).isExist();
-        boolean left = y > 0 && ElementEngine.getBoard().getTile(x, y - 1).isExist();
-        boolean right = y < 5 && ElementEngine.getBoard().getTile(x, y + 1).isExist();
-
-        // Explorer can also check diagonals
-        boolean upLeft = isExplorer && x > 0 && y > 0 && ElementEngine.getBoard().getTile(x - 1, y - 1).isExist();
-        boolean upRight = isExplorer && x > 0 && y < 5 && ElementEngine.getBoard().getTile(x - 1, y + 1).isExist();
-        boolean downLeft = isExplorer && x < 5 && y > 0 && ElementEngine.getBoard().getTile(x + 1, y - 1).isExist();
-        boolean downRight = isExplorer && x < 5 && y < 5 && ElementEngine.getBoard().getTile(x + 1, y + 1).isExist();
-
-        return up || down || left || right || upLeft || upRight || downLeft || downRight;
+    public static void finish(int outcome) {
+        session().finish(outcome);
     }
 
     /**
-     * Game end logic (true for victory, false for failure)
-     * Updates the interface and displays appropriate message.
+     * Session played by the Swing client
      */
-    public static void finish(boolean isWin) {
-        if (isWin) {
-            System.out.println("Game Success");
-            LogUtil.console("[Congrats!] Game Success!");
-        } else {
-            System.out.println("Game failed");
-            LogUtil.console("[Oops!] Game failed...");
-        }
-        try {
-            Thread.sleep(1000);
-            RenderingEngine.getBoardRendering().finish();
-            RenderingEngine.getTreasureRendering().finish();
-            RenderingEngine.getWaterMeterRendering().finish();
-            RenderingEngine.getFloodRendering().finish();
-            RenderingEngine.getControllersRendering().finish();
-            RenderingEngine.getPlayerRendering().finish();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    private static GameSession session() {
+        return ElementEngine.getSession();
     }
 
     /**
      * Increment action count when player takes an action
      */
     public static void doAction() {
-        actionCount += 1;
+        session().doAction();
     }
 
     /**
      * Decrement action count (used for special abilities that grant extra actions)
      */
     public static void moreAction() {
-        actionCount -= 1;
+        session().moreAction();
     }
 
     // Getters and setters
     public static void setPlayerIDinWater(ArrayList<Integer> playerIDinWater) {
-        ForbiddenIslandGame.playerIDinWater.addAll(playerIDinWater);
+        session().setPlayerIDinWater(playerIDinWater);
     }
 
     public static int getNumOfPlayer() {
-        return numOfPlayer;
+        return session().getNumOfPlayer();
     }
 
     public static int getActionCount() {
-        return actionCount;
+        return session().getActionCount();
     }
 
     public static void setActionCount(int num) {
-        actionCount = num;
+        session().setActionCount(num);
     }
 
     public static int getFakeActionCount() {
-        return fakeActionCount;
+        return session().getFakeActionCount();
     }
 
     public static void setFakeActionCount(int fakeActionCount) {
-        ForbiddenIslandGame.fakeActionCount = fakeActionCount;
+        session().setFakeActionCount(fakeActionCount);
     }
 
     public static int getRoundNum() {
-        return roundNum;
+        return session().getRoundNum();
     }
 
     public static void setRoundNum(int roundNum) {
-        ForbiddenIslandGame.roundNum = roundNum;
+        session().setRoundNum(roundNum);
     }
 
     public static int getFakeRoundNum() {
-        return fakeRoundNum;
+        return session().getFakeRoundNum();
     }
 
     public static void setFakeRoundNum(int fakeRoundNum) {
-        ForbiddenIslandGame.fakeRoundNum = fakeRoundNum;
+        session().setFakeRoundNum(fakeRoundNum);
     }
 
     public static boolean isStage23Done() {
-        return stage23Done;
+        return session().isStage23Done();
     }
 
     public static boolean isNeed2save() {
-        return need2save;
+        return session().isNeed2save();
     }
 
     public static void setNeed2save(boolean need2saveFlag) {
-        need2save = need2saveFlag;
+        session().setNeed2save(need2saveFlag);
     }
 
     public static boolean isInFakeRound() {
-        return inFakeRound;
+        return session().isInFakeRound();
     }
 
     public static void setInFakeRound(boolean inFakeRound) {
-        ForbiddenIslandGame.inFakeRound = inFakeRound;
+        session().setInFakeRound(inFakeRound);
     }
 }
@@ -2,6 +2,7 @@ package com.forbidden.island.controller;
 
 import com.forbidden.island.model.adventurer.Adventurer;
 import com.forbidden.island.model.adventurer.Engineer;
+import com.forbidden.island.model.engine.GameState;
 import com.forbidden.island.model.enums.TileStatus;
 import com.forbidden.island.model.enums.TreasureFigurines;
 import com.forbidden.island.utils.LogUtil;
@@ -19,6 +20,7 @@ import java.util.Iterator;
  * Game controller class responsible for binding all player operation buttons with specific game logic events,
  * including movement, shore up flooded tiles, card passing, treasure capture, lift off, and special actions.
  * Implements player behaviors in the game by listening to button events on the operation panel.
+ * The listeners only submit the behaviors to the game loop, which runs them on the game-logic thread.
  */
 public class GameController {
     private static GameController instance;
@@ -46,6 +48,16 @@ public class GameController {
         return instance;
     }
 
+    /**
+     * Binds an operation button to a command run on the game-logic thread.
+     *
+     * @param button index of the button in OperatePanel.opButtons
+     * @param command game logic of the button
+     */
+    private static void onClick(int button, Runnable command) {
+        OperatePanel.opButtons.get(button).addActionListener(e -> ForbiddenIslandGame.submit(command));
+    }
+
     /**
      * Binds movement operation button listener.
      * If player's action count is less than 3 and current tile allows movement,
@@ -53,8 +65,9 @@ public class GameController {
      * Otherwise prompts that movement is not allowed or maximum actions exceeded.
      */
     private void moveToController() {
-        OperatePanel.opButtons.get(1).addActionListener(e -> {
-            if (ForbiddenIslandGame.getActionCount() < 3) { // Check action count limit
+        onClick(1, () -> {
+            // Check action count limit, the second step of a Navigator push is free
+            if (ForbiddenIslandGame.getActionCount() < 3 || ElementEngine.getSession().isPushInProgress()) {
                 if (ElementEngine.getBoard().isCanMove()) { // Check if movement is allowed
                     Adventurer currentPlayer = ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()];
                     
@@ -69,7 +82,7 @@ public class GameController {
                         LogUtil.console("Move To " + Arrays.toString(Map.coordinatesMatcher.get(currentPlayer.getPos())));
                     }
 
-                    RenderingEngine.getBoardRendering().update(); // Update interface
+                    RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering()); // Update interface
                     if (ForbiddenIslandGame.isNeed2save()) { // Check if round state needs saving
                         ForbiddenIslandGame.SavePlayersRound();
                     }
@@ -88,13 +101,13 @@ public class GameController {
      * executes shore up action. Engineer role gets an additional action opportunity.
      */
     private void shoreUpController() {
-        OperatePanel.opButtons.get(2).addActionListener(e -> {
+        onClick(2, () -> {
             if (ForbiddenIslandGame.getActionCount() < 3) {
                 if (ElementEngine.getBoard().isCanShoreUp()) {  // Check if shore up is allowed
                     ElementEngine.shoreUp();    // Execute shore up operation
                     LogUtil.console("Shore Up " + Arrays.toString(Map.coordinatesMatcher.get(
                             ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getShoredPos())));
-                    RenderingEngine.getBoardRendering().update();
+                    RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
 
                     ForbiddenIslandGame.doAction();
                     // Engineer's special ability: gets an additional action after shore up
@@ -121,7 +134,7 @@ public class GameController {
      * executes pass operation and consumes one action if conditions are met.
      */
     private void passToController() {
-        OperatePanel.opButtons.get(3).addActionListener(e -> {
+        onClick(3, () -> {
             if (ForbiddenIslandGame.getActionCount() < 3 && ElementEngine.getSelectedPawn() != -1) {
                 if (ElementEngine.getBoard().getTile(ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getX(), ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getY())
                         .CanPass(ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()], ElementEngine.getAdventurers()[ElementEngine.getSelectedPawn()])
@@ -131,8 +144,8 @@ public class GameController {
                     if (ElementEngine.passTo()) {
                         LogUtil.console(ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getName()
                                 + " Passed A Card To " + ElementEngine.getAdventurers()[ElementEngine.getSelectedPawn()].getName());
-                        RenderingEngine.getPlayerRendering().update();
-                        RenderingEngine.getTreasureRendering().update();
+                        RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+                        RenderingEngine.requestUpdate(RenderingEngine.getTreasureRendering());
                         ForbiddenIslandGame.doAction(); // Consume one action
                         ElementEngine.selectPawn(-1); // Cancel target player selection
                         ElementEngine.resetCardsInRound(); // Reset round card selection
@@ -153,7 +166,7 @@ public class GameController {
      * removes corresponding cards from hand and marks treasure as captured.
      */
     private void captureController() {
-        OperatePanel.opButtons.get(4).addActionListener(e -> {
+        onClick(4, () -> {
             LogUtil.console("Trying To Capture The Treasure Figurine...");
             if (ForbiddenIslandGame.getActionCount() < 3) {
                 Adventurer currentPlayer = ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()];
@@ -205,8 +218,10 @@ public class GameController {
                 if (isCurrentTileMatchingTreasure(currentTile, i)) {
                     captureTreasureAtTile(currentPlayer, i);
                     updateCapturedTiles(i);
-                    RenderingEngine.getPlayerRendering().update();
-                    RenderingEngine.getBoardRendering().update();
+                    RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+                    RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
+                    // The shrines of a captured treasure can sink without losing the game
+                    RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
                     return true;
                 }
             }
@@ -258,13 +273,8 @@ public class GameController {
      * @param treasureIndex Treasure number (0~3)
      */
     private void updateCapturedTiles(int treasureIndex) {
-        int tileIndex1 = ElementEngine.getTilesArray().indexOf(2 * treasureIndex + 1);
-        int tileIndex2 = ElementEngine.getTilesArray().indexOf(2 * treasureIndex + 2);
-        int[] coord1 = Map.coordinatesMatcher.get(tileIndex1);
-        int[] coord2 = Map.coordinatesMatcher.get(tileIndex2);
-
-        ElementEngine.getBoard().getTile(coord1[0], coord1[1]).setCaptured();
-        ElementEngine.getBoard().getTile(coord2[0], coord2[1]).setCaptured();
+        ElementEngine.getBoard().getTileById(2 * treasureIndex + 1).setCaptured();
+        ElementEngine.getBoard().getTileById(2 * treasureIndex + 2).setCaptured();
     }
 
     /**
@@ -277,14 +287,9 @@ public class GameController {
      */
     private void liftOffController() {
         // Get 6th button on operation panel (index 5), bind click event listener
-        OperatePanel.opButtons.get(5).addActionListener(e -> {
-            // Find index of Tile 14 in map tiles array
-            int idx14 = ElementEngine.getTilesArray().indexOf(14);
-
-            // Get Tile 14 object based on coordinate mapping
-            Tile tile14 = ElementEngine.getBoard().getTile(
-                    Map.coordinatesMatcher.get(idx14)[0],
-                    Map.coordinatesMatcher.get(idx14)[1]);
+        onClick(5, () -> {
+            // Get Tile 14 object through the board's tile → slot table
+            Tile tile14 = ElementEngine.getBoard().getTileById(14);
 
             // Prepare two lists to collect all players' hand cards and captured treasure figurines
             ArrayList<Integer> handCards = new ArrayList<>();
@@ -303,7 +308,7 @@ public class GameController {
                 if ((handCards.contains(20) || handCards.contains(21) || handCards.contains(22)) && figurines.size() == 4) {
                     // Conditions met, print success log and end game (victory)
                     LogUtil.console("Lift Off Success!");
-                    ForbiddenIslandGame.finish(true);
+                    ForbiddenIslandGame.finish(GameState.WON);
                 } else {
                     // Conditions not met, print failure log
                     LogUtil.console("Lift Off failed!");
@@ -317,7 +322,7 @@ public class GameController {
      * Checks if current player is Diver role, if yes, executes diving operation.
      */
     private void specialActionController() {
-        OperatePanel.opButtons.get(6).addActionListener(e -> {
+        onClick(6, () -> {
             if (canPerformSpecialAction()) {
                 handleSpecialAction();
                 checkAndRestoreFakeRound();
@@ -328,9 +333,10 @@ public class GameController {
             else if (shouldExitFakeRound()) {
                 exitFakeRound();
             }
-            // Update interface display
-            RenderingEngine.getBoardRendering().update();
-            RenderingEngine.getPlayerRendering().update();
+            // Update interface display; a sandbag changes the odds of the flood deck
+            RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
+            RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+            RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
         });
     }
 
@@ -460,7 +466,7 @@ public class GameController {
         ForbiddenIslandGame.setFakeActionCount(ForbiddenIslandGame.getActionCount());
         ForbiddenIslandGame.setActionCount(3);  // Reset fake round action count to 3
         ForbiddenIslandGame.setRoundNum(ElementEngine.getSelectedPawn());
-        RenderingEngine.getPlayerRendering().update();
+        RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
         LogUtil.console("Switch To Player " + (ForbiddenIslandGame.getRoundNum() + 1) + "'s Turn (" + ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getName() + ")");
     }
 
@@ -480,8 +486,8 @@ public class GameController {
         ForbiddenIslandGame.setFakeRoundNum(-1);
         ForbiddenIslandGame.setActionCount(ForbiddenIslandGame.getFakeActionCount());
         ForbiddenIslandGame.setFakeActionCount(-1);
-        RenderingEngine.getBoardRendering().update();
-        RenderingEngine.getPlayerRendering().update();
+        RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
+        RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
         LogUtil.console("Back To Player " + (ForbiddenIslandGame.getRoundNum() + 1) + "'s Turn (" + ElementEngine.getAdventurers()[ForbiddenIslandGame.getRoundNum()].getName() + ")");
         LogUtil.console("Have Done " + ForbiddenIslandGame.getActionCount() + " Actions");
     }
@@ -492,7 +498,7 @@ public class GameController {
      */
     private void NextController() {
         // Add click event listener to 8th operation button (button index 7)
-        OperatePanel.opButtons.get(7).addActionListener(e -> {
+        onClick(7, () -> {
             // If not in fake round state
             if(!ForbiddenIslandGame.isInFakeRound()){
                 // If phases 2 and 3 are not completed
@@ -529,8 +535,8 @@ public class GameController {
                 ElementEngine.selectPawn(-1);
 
                 // Refresh game interface, update board and player info display
-                RenderingEngine.getBoardRendering().update();
-                RenderingEngine.getPlayerRendering().update();
+                RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
+                RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
             }
         });
     }
@@ -540,7 +546,7 @@ public class GameController {
      * Includes canceling selected pawn, clearing round selected cards, and resetting special action target tile.
      */
     private void resetController() {
-        OperatePanel.opButtons.get(9).addActionListener(e -> {
+        onClick(9, () -> {
             LogUtil.console("[Reset] Your Selections");
 
             ElementEngine.selectPawn(-1);          // Cancel selected pawn (set to invalid value -1)
@@ -553,7 +559,7 @@ public class GameController {
      * Sets "Discard" button event listener, handles player card discard logic.
      */
     private void DiscardController() {
-        OperatePanel.opButtons.get(8).addActionListener(e -> {
+        onClick(8, () -> {
             if (!ElementEngine.getCardsInRound().isEmpty() && !ForbiddenIslandGame.isInFakeRound()) {
                 handleDiscardInNormalRound();
             } else if (ForbiddenIslandGame.isInFakeRound()) {
@@ -561,8 +567,8 @@ public class GameController {
             } else {
                 LogUtil.console("Please Select Cards To [Discard]");
             }
-            RenderingEngine.getPlayerRendering().update();
-            RenderingEngine.getTreasureRendering().update();
+            RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+            RenderingEngine.requestUpdate(RenderingEngine.getTreasureRendering());
         });
     }
 
@@ -4,6 +4,7 @@ import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.GamePanel;
 import com.forbidden.island.view.TileGridPanel;
 import com.forbidden.island.view.TreasurePanel;
+import com.forbidden.island.view.handler.RenderingEngine;
 import com.forbidden.island.utils.Map;
 
 import javax.swing.*;
@@ -12,7 +13,8 @@ import java.util.List;
 /**
  * GameListener class is responsible for setting up click event listeners for various game buttons
  * (board tiles, character pawns, hand cards, treasure cards) to ensure user interactions
- * trigger the correct game logic.
+ * trigger the correct game logic. The index of the clicked button is read on the EDT, the selection itself
+ * runs on the game-logic thread.
  */
 public class GameListener {
 
@@ -35,9 +37,10 @@ public class GameListener {
     private void boardListener() {
         for (JButton tile : TileGridPanel.tileCards) {
             // Get tile's index in tileCards list to map to coordinates
-            tile.addActionListener(e -> ElementEngine.nextTile(
-                    Map.coordinatesMatcher.get(TileGridPanel.tileCards.indexOf(tile)))
-            );
+            tile.addActionListener(e -> {
+                int[] coords = Map.coordinatesMatcher.get(TileGridPanel.tileCards.indexOf(tile));
+                ForbiddenIslandGame.submit(() -> ElementEngine.nextTile(coords));
+            });
         }
     }
 
@@ -48,9 +51,13 @@ public class GameListener {
      */
     private void treasureListener() {
         for (JButton treasure : TreasurePanel.treasureCards) {
-            treasure.addActionListener(e ->
-                    ElementEngine.selectTreasureCard(false, TreasurePanel.treasureCards.indexOf(treasure))
-            );
+            treasure.addActionListener(e -> {
+                int index = TreasurePanel.treasureCards.indexOf(treasure);
+                ForbiddenIslandGame.submit(() -> {
+                    ElementEngine.selectTreasureCard(false, index);
+                    RenderingEngine.updateTargets();
+                });
+            });
         }
     }
 
@@ -63,9 +70,13 @@ public class GameListener {
         for (List<JButton> individualPlayerCards : GamePanel.playerHandCards) {
             for (JButton handCard : individualPlayerCards) {
                 // Get index of this hand card button in player's hand cards
-                handCard.addActionListener(e ->
-                        ElementEngine.selectTreasureCard(true, individualPlayerCards.indexOf(handCard))
-                );
+                handCard.addActionListener(e -> {
+                    int index = individualPlayerCards.indexOf(handCard);
+                    ForbiddenIslandGame.submit(() -> {
+                        ElementEngine.selectTreasureCard(true, index);
+                        RenderingEngine.updateTargets();
+                    });
+                });
             }
         }
     }
@@ -78,9 +89,13 @@ public class GameListener {
     private void PawnListener() {
         for (JButton pawn : GamePanel.playerPawnList) {
             // Use index to identify the selected character pawn
-            pawn.addActionListener(e ->
-                    ElementEngine.selectPawn(GamePanel.playerPawnList.indexOf(pawn))
-            );
+            pawn.addActionListener(e -> {
+                int index = GamePanel.playerPawnList.indexOf(pawn);
+                ForbiddenIslandGame.submit(() -> {
+                    ElementEngine.selectPawn(index);
+                    RenderingEngine.updateTargets();
+                });
+            });
         }
     }
 }
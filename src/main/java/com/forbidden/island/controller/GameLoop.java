@@ -0,0 +1,125 @@
+package com.forbidden.island.controller;
+
+import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.view.GameView;
+import com.forbidden.island.view.handler.IRendering;
+import com.forbidden.island.view.handler.RenderingEngine;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameLoop runs the game logic of the Swing client off the EDT.
+ * <p>
+ * The listeners of the interface only submit commands; a single game-logic thread runs them one after the
+ * other, so the session is only ever changed by that thread and the EDT stays free for input and painting.
+ * After every command the loop takes an immutable GameView of the session and publishes it to the EDT together
+ * with the renderers the command requested, which then draw the view instead of the live session.
+ */
+public class GameLoop {
+    /** Loop running on the current thread, only set on game-logic threads */
+    private static final ThreadLocal<GameLoop> CURRENT = new ThreadLocal<>();
+
+    /** Single game-logic thread running the commands in submission order */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            CURRENT.set(this);
+            runnable.run();
+        }, "game-logic");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Renderers requested by the running command, only used on the game-logic thread */
+    private final LinkedHashSet<IRendering> requested = new LinkedHashSet<>();
+
+    private final AtomicLong commandCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong publishCount = new AtomicLong();
+
+    /**
+     * @return loop whose game-logic thread is the current thread, null on any other thread (e.g. the EDT)
+     */
+    public static GameLoop current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Queues a command for the game-logic thread.
+     *
+     * @param command game logic to run, must not touch Swing components
+     * @return completion of the command, the view is published to the EDT afterwards
+     */
+    public Future<?> submit(Runnable command) {
+        return executor.submit(() -> run(command));
+    }
+
+    /**
+     * Marks a renderer to update with the view of the running command. Called on the game-logic thread,
+     * through RenderingEngine.requestUpdate.
+     *
+     * @param rendering renderer to update, ignored if null (not initialized yet)
+     */
+    public void requestUpdate(IRendering rendering) {
+        if (rendering != null) {
+            requested.add(rendering);
+        }
+    }
+
+    /**
+     * Runs a command, then publishes the resulting view even if the command failed.
+     */
+    private void run(Runnable command) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            e.printStackTrace();
+        } finally {
+            commandCount.incrementAndGet();
+            publish();
+        }
+    }
+
+    /**
+     * Takes a view of the session and hands it to the EDT with the requested renderers.
+     */
+    private void publish() {
+        GameView view = GameView.of(ElementEngine.getSession());
+        ArrayList<IRendering> renderers = new ArrayList<>(requested);
+        requested.clear();
+        SwingUtilities.invokeLater(() -> {
+            ElementEngine.publishView(view);
+            publishCount.incrementAndGet();
+            for (IRendering rendering : renderers) {
+                RenderingEngine.requestUpdate(rendering);
+            }
+        });
+    }
+
+    /**
+     * @return number of commands run
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * @return number of commands that threw an exception
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return number of views published to the EDT
+     */
+    public long getPublishCount() {
+        return publishCount.get();
+    }
+}
@@ -0,0 +1,1003 @@
+package com.forbidden.island.controller;
+
+import com.forbidden.island.model.adventurer.*;
+import com.forbidden.island.model.cards.FloodDeck;
+import com.forbidden.island.model.cards.TreasureDeck;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import com.forbidden.island.model.enums.DeckType;
+import com.forbidden.island.model.enums.TreasureFigurines;
+import com.forbidden.island.model.event.GameEventBus;
+import com.forbidden.island.model.event.GameEventListener;
+import com.forbidden.island.utils.LogUtil;
+import com.forbidden.island.utils.Map;
+import com.forbidden.island.utils.RandomUtil;
+import com.forbidden.island.view.Tile;
+import com.forbidden.island.view.TileBoard;
+import com.forbidden.island.view.WaterMeter;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * GameSession holds the complete state of one game of Forbidden Island:
+ * the board, both card decks, the water meter, the adventurers and all turn counters.
+ * Every rule that used to live in static fields of ElementEngine and ForbiddenIslandGame
+ * operates on a session instance, so several sessions can be played side by side
+ * (for example on separate worker threads) without sharing any mutable state.
+ * State changes are published as domain events to the registered GameEventListeners;
+ * the Swing client is one consumer of a session, reached through the static
+ * ElementEngine and ForbiddenIslandGame facades and rendered from its events.
+ */
+public class GameSession {
+    /**
+     * Tile ID of Fools' Landing, the helicopter pad
+     */
+    public static final int FOOLS_LANDING_TILE_ID = BoardState.FOOLS_LANDING_TILE_ID;
+
+    // ====== Game Elements ======
+
+    /**
+     * Game board managing all tile states
+     */
+    private final TileBoard board;
+
+    /**
+     * Treasure card deck
+     */
+    private final TreasureDeck treasureDeck;
+
+    /**
+     * Flood card deck
+     */
+    private final FloodDeck floodDeck;
+
+    /**
+     * Water meter indicating current water level in the game
+     */
+    private final WaterMeter waterMeter;
+
+    /**
+     * Array of all adventurers, length equals number of players
+     */
+    private final Adventurer[] adventurers;
+
+    /**
+     * List of tile numbers used in current game map
+     */
+    private final ArrayList<Integer> tiles;
+
+    /**
+     * List of treasure cards displayed in the interface
+     */
+    private final ArrayList<Integer> displayedTreasureCard;
+
+    /**
+     * Flood cards drawn in the last flood phase, in draw order, shown in the flood panel
+     */
+    private final ArrayList<Integer> lastFloodCards;
+
+    // ====== Selections ======
+
+    /**
+     * Coordinates for special action target tile, initialized to invalid values {-1, -1}
+     */
+    private final int[] specialActionTile = {-1, -1};
+
+    /**
+     * Stack of cards selected in current round for temporary storage of cards related to player actions
+     */
+    private final ArrayList<Integer> cardsInRound;
+
+    /**
+     * Currently selected player pawn number, -1 indicates no selection
+     */
+    private int selectedPawn = -1;
+
+    /**
+     * List of multiple player pawn numbers selected in current round
+     */
+    private final ArrayList<Integer> selectedPawns;
+
+    /**
+     * Number of single-tile moves the Navigator may still apply to another player in the current action
+     */
+    private int navigatorMovesLeft = 2;
+
+    /**
+     * Whether the Pilot has used the flight of the current turn
+     */
+    private boolean pilotFlown = false;
+
+    // ====== Turn Counters ======
+
+    /**
+     * Total number of players in current game
+     */
+    private final int numOfPlayer;
+
+    /**
+     * Current round number (starting from 0)
+     */
+    private int roundNum = 0;
+
+    /**
+     * Virtual round number (used during rescue phase)
+     */
+    private int fakeRoundNum = -1;
+
+    /**
+     * Number of actions taken by current player (maximum 3 per round)
+     */
+    private int actionCount = 0;
+
+    /**
+     * Virtual action count (used during rescue to limit movement to 2 steps)
+     */
+    private int fakeActionCount = 0;
+
+    /**
+     * Indicates if current round has completed treasure card drawing and tile sinking phases
+     */
+    private boolean stage23Done = false;
+
+    /**
+     * Indicates if game is in rescue mode (players need to be saved from water)
+     */
+    private boolean need2save = false;
+
+    /**
+     * Indicates if currently in virtual round (handling players in water)
+     */
+    private boolean inFakeRound = false;
+
+    /**
+     * List of player IDs currently in water
+     */
+    private final ArrayList<Integer> playerIDinWater;
+
+    // ====== Result ======
+
+    /**
+     * How the game ended, GameState.ONGOING while it is running
+     */
+    private int outcome = GameState.ONGOING;
+
+    /**
+     * Whether game messages are written to the console (disabled for batch simulation)
+     */
+    private boolean verbose = true;
+
+    /**
+     * Random source of this session, used for the role and map shuffles and split for the decks
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Listeners receiving the domain events of this session
+     */
+    private final GameEventBus events = new GameEventBus();
+
+    /**
+     * Creates a new session: card decks, water meter, adventurer roles and map tiles.
+     * Randomly determines player roles and deals each adventurer's starting hand.
+     *
+     * @param numOfPlayers Number of players
+     * @param waterLevel Initial water level
+     */
+    public GameSession(int numOfPlayers, int waterLevel) {
+        this(numOfPlayers, waterLevel, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new session whose deal, roles, map and card draws are all determined by a seed.
+     * Two sessions with the same seed play out identically, whichever thread they run on.
+     *
+     * @param numOfPlayers Number of players
+     * @param waterLevel Initial water level
+     * @param seed Seed of the session's random source
+     */
+    public GameSession(int numOfPlayers, int waterLevel, long seed) {
+        this(numOfPlayers, waterLevel, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a new session that takes all of its randomness from the given source.
+     * Each deck gets its own split of the source, so the flood sequence does not depend
+     * on how many treasure cards have been drawn.
+     *
+     * @param numOfPlayers Number of players
+     * @param waterLevel Initial water level
+     * @param random Random source owned by this session
+     */
+    public GameSession(int numOfPlayers, int waterLevel, SplittableRandom random) {
+        this.numOfPlayer = numOfPlayers;
+        this.playerIDinWater = new ArrayList<>();
+        this.random = random;
+
+        waterMeter = new WaterMeter(waterLevel);
+        floodDeck = new FloodDeck(waterMeter, random.split());
+        treasureDeck = new TreasureDeck(random.split());
+        adventurers = new Adventurer[numOfPlayers];
+        displayedTreasureCard = new ArrayList<>();
+        lastFloodCards = new ArrayList<>();
+        cardsInRound = new ArrayList<>();
+        selectedPawns = new ArrayList<>();
+
+        // Initialize character list and randomly select numOfPlayers roles
+        ArrayList<Integer> playerList = new ArrayList<>();
+        for (int i = 0; i <= 5; i++) {
+            playerList.add(i);
+        }
+        RandomUtil.shuffle(playerList, random);
+        ArrayList<Integer> players = new ArrayList<>(playerList.subList(0, numOfPlayers));
+
+        // Create corresponding role instances for each player based on role numbers
+        for (int i = 0; i < players.size(); i++) {
+            adventurers[i] = createAdventurer(players.get(i), i);
+        }
+
+        // Initialize and shuffle map tile number list, numbers 1-24 represent different tiles
+        tiles = new ArrayList<>();
+        for (int i = 1; i <= 24; i++) {
+            tiles.add(i);
+        }
+        RandomUtil.shuffle(tiles, random);
+
+        board = new TileBoard(players, tiles, adventurers);
+
+        // Deal initial hand cards to each adventurer using non-water-rise cards from treasure deck
+        for (Adventurer adventurer : adventurers) {
+            adventurer.setHandCards(treasureDeck.getNoRiseCards());
+        }
+    }
+
+    /**
+     * Creates the adventurer instance for a role number.
+     *
+     * @param role role number (0 Diver ... 5 Pilot)
+     * @param order seat of the player
+     * @return adventurer of that role
+     */
+    private static Adventurer createAdventurer(int role, int order) {
+        switch (role) {
+            case 0:
+                return new Diver(order);
+            case 1:
+                return new Engineer(order);
+            case 2:
+                return new Explorer(order);
+            case 3:
+                return new Messenger(order);
+            case 4:
+                return new Navigator(order);
+            case 5:
+                return new Pilot(order);
+            default:
+                throw new IllegalArgumentException("Invalid role number: " + role);
+        }
+    }
+
+    /**
+     * Starts the game: the island sinks with the initial six flood cards
+     * and the first player is announced.
+     */
+    public void start() {
+        log("Island starts to sink...");
+        drawFloodCardsAndSink();
+        floodDeck.set2Norm(); // Reset deck to normal mode
+
+        log("[ Game Start ! ]");
+        log("[ Player " + (roundNum + 1) + " ]\n(" + adventurers[roundNum].getName() + "'s Round)");
+        log("Please Take Up To 3 Actions");
+    }
+
+    // ====== Game Flow ======
+
+    /**
+     * Handles phases 2 and 3: Drawing 2 treasure cards and sinking tiles with flood cards.
+     * Also processes any water rise cards drawn and updates game state accordingly.
+     */
+    public void stage23() {
+        drawTreasureCards();
+        floodIsland();
+    }
+
+    /**
+     * Phase 2: draws 2 treasure cards into the display area.
+     * Water Rise cards are resolved immediately and discarded.
+     */
+    public void drawTreasureCards() {
+        ArrayList<Integer> drawn = treasureDeck.getCards();
+        displayedTreasureCard.addAll(drawn);
+        actionCount = 3;    // Mark phase as complete by setting action count to 3
+
+        // Check for water rise cards and handle them
+        for (int i = displayedTreasureCard.size() - 1; i >= 0; i--) {
+            int treasureID = displayedTreasureCard.get(i);
+            if (treasureID == 25 || treasureID == 26 || treasureID == 27) { // Special cards: Water Rise
+                waterRise();
+                floodDeck.putBack2Top(); // Return flood discard pile to top
+                treasureDeck.discard(treasureID);
+                displayedTreasureCard.remove(i);
+            }
+        }
+        events.onCardsDrawn(DeckType.Treasure, drawn);
+    }
+
+    /**
+     * Phase 3: draws flood cards for the current water level and sinks the matching tiles.
+     */
+    public void floodIsland() {
+        drawFloodCardsAndSink();
+        stage23Done = true;
+    }
+
+    /**
+     * Draws the flood cards for this flood phase, sinks the matching tiles and discards the cards.
+     * The drawn cards are kept in lastFloodCards, since the deck shows the next cards once they are discarded.
+     */
+    private void drawFloodCardsAndSink() {
+        ArrayList<Integer> floodCards = floodDeck.getCards();
+        lastFloodCards.clear();
+        lastFloodCards.addAll(floodCards);
+        events.onCardsDrawn(DeckType.Flood, floodCards);
+        sinkTiles(floodCards);
+        floodDeck.discard(); // Add sunk cards to discard pile
+        events.onFloodPhaseEnded();
+    }
+
+    /**
+     * Raises the water level by one step; reaching the skull ends the game.
+     */
+    private void waterRise() {
+        waterMeter.WaterRise();
+        events.onWaterRose(waterMeter.getWaterLevel());
+        if (waterMeter.isAtSkull()) {
+            log("[!] Water Level Reaches The Skull And Crossbones");
+            finish(GameState.LOST_WATER);
+        }
+    }
+
+    /**
+     * Sinks a group of tiles. Tiles that sink completely lose their flood card;
+     * players standing on them fall into the sea and a rescue round begins.
+     *
+     * @param sinkTiles list of tile IDs to sink
+     */
+    public void sinkTiles(ArrayList<Integer> sinkTiles) {
+        for (int sinkTile : sinkTiles) {
+            Tile tile = board.getTileById(sinkTile);
+
+            // If tile is completely removed (sunk twice)
+            if (!tile.sinkTile()) {
+                events.onTileFlooded(sinkTile);
+            } else {
+                floodDeck.removeFloodCard(sinkTile);
+                events.onTileSunk(sinkTile);
+
+                // If there are still players on this tile
+                if (tile.getPlayerMask() != 0) {
+                    ArrayList<Integer> fallen = tile.getPlayerOnBoard();
+                    for (int player : fallen) {
+                        log(Map.adventurerMatcher.get(player) + " Has Fallen Into Sea");
+                    }
+                    need2save = true;
+                    playerIDinWater.addAll(fallen);
+                    tile.clearPlayers();
+                }
+            }
+        }
+
+        checkIsland();
+
+        // If players have fallen into water, trigger fake round for rescue logic
+        if (need2save) {
+            inFakeRound = true;
+            fakeRoundNum = roundNum;
+            savePlayersRound();
+        }
+    }
+
+    /**
+     * Handles end of current player's round:
+     * checks the hand limit, the shrine loss condition and passes the turn on.
+     */
+    public void roundEnd() {
+        // If card count exceeds limit (hand + displayed > 5), require discard first
+        if (adventurers[roundNum].getHandCards().size() + displayedTreasureCard.size() > 5) {
+            log("You Have More Than 5 Cards, Please Discard First!");
+            resetCardsInRound();
+            return;
+        }
+
+        // Merge hand cards and clear display area
+        adventurers[roundNum].getHandCards().addAll(displayedTreasureCard);
+        displayedTreasureCard.clear();
+        selectPawn(-1);
+        resetCardsInRound();
+
+        // Check for game failure: all shrines are sunk
+        if (checkIsland()) {
+            return;
+        }
+
+        if (adventurers[roundNum] instanceof Engineer) {
+            ((Engineer) adventurers[roundNum]).resetShoreUpCount();
+        }
+        actionCount = 0;
+        pilotFlown = false;
+        roundNum = (roundNum + 1) % numOfPlayer;  // Rotate turn order
+        stage23Done = false;
+
+        log("[ Player " + (roundNum + 1) + " ]\n(" + adventurers[roundNum].getName() + "'s Round)");
+        events.onTurnEnded(roundNum);
+    }
+
+    /**
+     * Runs rescue rounds for players that have fallen into water,
+     * one player at a time, until everybody has swum ashore.
+     */
+    public void savePlayersRound() {
+        // All players rescued, return to normal round
+        if (playerIDinWater.isEmpty()) {
+            roundNum = fakeRoundNum;
+            fakeRoundNum = -1;
+            actionCount = 3;
+            need2save = false;
+            inFakeRound = false;
+            events.onRescueEnded();
+            return;
+        }
+
+        // Handle next player in water
+        for (Adventurer adventurer : adventurers) {
+            if (playerIDinWater.contains(adventurer.getId())) {
+                roundNum = adventurer.getOrder();
+                actionCount = 2; // Players in water can only move 2 steps
+                playerIDinWater.remove((Integer) adventurer.getId());
+                events.onRescueStarted(roundNum);
+
+                // The player must have at least one tile to swim to
+                if (!checkCanSwim(adventurer)) {
+                    finish(GameState.LOST_DROWNED);
+                    log("[!] No Adjacent Tile To Swim To");
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if there are any tiles the player can swim to from current position, see Rules.swimTargets.
+     */
+    private boolean checkCanSwim(Adventurer adventurer) {
+        return Rules.swimTargets(board.getState(), adventurer.getId(), adventurer.getPos()) != 0;
+    }
+
+    /**
+     * Ends the game if Fools' Landing or both shrines of an uncaptured treasure have sunk.
+     * The board tracks both conditions as it changes, so this is a constant-time check.
+     *
+     * @return true if the island has lost the game
+     */
+    private boolean checkIsland() {
+        BoardState state = board.getState();
+        if (state.isLandingSunk()) {
+            log("[!] Fool's Landing Is Flooded!");
+            finish(GameState.LOST_FOOLS_LANDING);
+            return true;
+        }
+        if (state.isShrinesFlooded()) {
+            log("[!] Shrines And Treasures Are Sunk");
+            finish(GameState.LOST_SHRINES);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ends the game with an outcome, GameState.WON or one of the GameState.LOST_* causes.
+     * Only the first call has an effect.
+     *
+     * @param outcome how the game ended
+     */
+    public void finish(int outcome) {
+        if (this.outcome != GameState.ONGOING) {
+            return;
+        }
+        this.outcome = outcome;
+        boolean isWin = outcome == GameState.WON;
+        if (isWin) {
+            log("[Congrats!] Game Success!");
+        } else {
+            log("[Oops!] Game failed...");
+        }
+        events.onGameFinished(isWin);
+    }
+
+    /**
+     * Increment action count when player takes an action
+     */
+    public void doAction() {
+        actionCount += 1;
+    }
+
+    /**
+     * Decrement action count (used for special abilities that grant extra actions)
+     */
+    public void moreAction() {
+        actionCount -= 1;
+    }
+
+    // ====== Selections ======
+
+    /**
+     * Selects a treasure card to add to current round selection stack.
+     * Can select from hand cards or display area.
+     *
+     * @param isFromHands Whether selection is from hand cards
+     * @param index Index of selected card in hand or display area
+     */
+    public void selectTreasureCard(boolean isFromHands, int index) {
+        int cardInUse;
+        if (isFromHands) {
+            cardInUse = adventurers[roundNum].getHandCards().get(index);
+        } else {
+            cardInUse = displayedTreasureCard.get(index);
+        }
+        if (cardsInRound.size() < 5) {
+            cardsInRound.add(cardInUse);
+        }
+    }
+
+    /**
+     * Selects a player pawn. If -1 is passed, resets round selections for pawns and cards.
+     *
+     * @param index Index of selected pawn
+     */
+    public void selectPawn(int index) {
+        if (index != selectedPawn) {
+            // A push in progress ends when another pawn is selected
+            navigatorMovesLeft = 2;
+        }
+        selectedPawn = index;
+        selectedPawns.add(selectedPawn);
+        if (index == -1) {
+            cardsInRound.clear();
+            selectedPawns.clear();
+        }
+    }
+
+    // ====== Player Actions ======
+
+    /**
+     * Determines if current player can perform movement or shore up operations based on given coordinates,
+     * and updates board state accordingly.
+     * Which tiles are legal comes from the reachability masks of Rules, the same rules the bots play by:
+     * a player in the water may only swim, the Navigator with another pawn selected pushes that pawn,
+     * anyone else moves (the Pilot may also fly once per turn) and shores up.
+     *
+     * @param coords Target tile coordinates [x, y]
+     */
+    public void nextTile(int[] coords) {
+        specialActionTile[0] = coords[0];
+        specialActionTile[1] = coords[1];
+
+        Adventurer current = adventurers[roundNum];
+        BoardState state = board.getState();
+        int role = current.getId();
+        int slot = current.getPos();
+        int targetX = coords[0];
+        int targetY = coords[1];
+        int target = IslandLayout.bit(IslandLayout.slotAt(targetX, targetY));
+
+        if (inFakeRound && need2save) {
+            // Players in the water only swim ashore
+            boolean canSwim = (Rules.swimTargets(state, role, slot) & target) != 0;
+            if (canSwim) {
+                current.setMoveTarget(targetX, targetY);
+            }
+            board.setCanMove(canSwim);
+            board.setCanShoreUp(false);
+            return;
+        }
+
+        boolean canMove;
+        if (isNavigatorPushing(current)) {
+            canMove = canNavigatorSpecialMove(targetX, targetY);
+            if (canMove) {
+                adventurers[selectedPawn].setMoveTarget(targetX, targetY);
+            }
+        } else {
+            canMove = (moveTargets(role, slot) & target) != 0;
+            if (canMove) {
+                current.setMoveTarget(targetX, targetY);
+            }
+        }
+        board.setCanMove(canMove);
+
+        boolean canShoreUp = (Rules.shoreTargets(state, role, slot) & target) != 0;
+        if (canShoreUp) {
+            current.setShoreUp(targetX, targetY);
+        }
+        board.setCanShoreUp(canShoreUp);
+    }
+
+    /**
+     * Tiles the current player can move to with one action: Rules.moveTargets, and every other tile
+     * while the Pilot has not flown this turn.
+     */
+    private int moveTargets(int role, int slot) {
+        BoardState state = board.getState();
+        int targets = Rules.moveTargets(state, role, slot);
+        if (role == GameState.PILOT && !pilotFlown) {
+            targets |= state.getExistMask() & ~IslandLayout.bit(slot);
+        }
+        return targets;
+    }
+
+    /**
+     * Checks whether the current player is the Navigator with another player's pawn selected
+     */
+    private boolean isNavigatorPushing(Adventurer current) {
+        return current.getId() == GameState.NAVIGATOR && selectedPawn != -1 && selectedPawn != roundNum;
+    }
+
+    /**
+     * Checks whether the Navigator can move the selected player onto the target tile.
+     * A push is up to two orthogonal steps over existing tiles (Rules.navigatorTargets), taken one click at a time.
+     */
+    private boolean canNavigatorSpecialMove(int targetX, int targetY) {
+        if (navigatorMovesLeft <= 0) return false;
+        int pushed = adventurers[selectedPawn].getPos();
+        int target = IslandLayout.bit(IslandLayout.slotAt(targetX, targetY));
+        return (IslandLayout.orthogonal(pushed) & board.getState().getExistMask() & target) != 0;
+    }
+
+    /**
+     * Executes player movement action, removing player from original tile and placing on target tile.
+     */
+    public void moveTo() {
+        Adventurer currentPlayer = adventurers[roundNum];
+
+        // Navigator moving another player
+        if (isNavigatorPushing(currentPlayer)) {
+            Adventurer targetPlayer = adventurers[selectedPawn];
+            int fromX = targetPlayer.getX();
+            int fromY = targetPlayer.getY();
+            board.getTile(fromX, fromY).moveOff(targetPlayer);
+            targetPlayer.Move();
+            board.getTile(targetPlayer.getX(), targetPlayer.getY()).moveOn(targetPlayer.getId());
+            events.onPlayerMoved(targetPlayer, fromX, fromY);
+
+            // The push costs one action on its first step, the second step is free
+            if (navigatorMovesLeft == 2) {
+                doAction();
+            }
+            navigatorMovesLeft--;
+            if (navigatorMovesLeft <= 0) {
+                navigatorMovesLeft = 2;
+                selectedPawn = -1;
+            }
+        } else {
+            int fromX = currentPlayer.getX();
+            int fromY = currentPlayer.getY();
+            int from = currentPlayer.getPos();
+            board.getTile(fromX, fromY).moveOff(currentPlayer);
+            currentPlayer.Move();
+            board.getTile(currentPlayer.getX(), currentPlayer.getY()).moveOn(currentPlayer.getId());
+            // A Pilot move that is not a walk (or a swim) uses the flight of the turn
+            if (currentPlayer.getId() == GameState.PILOT && !(inFakeRound && need2save)
+                    && (Rules.moveTargets(board.getState(), GameState.PILOT, from)
+                    & IslandLayout.bit(currentPlayer.getPos())) == 0) {
+                pilotFlown = true;
+            }
+            doAction();
+            events.onPlayerMoved(currentPlayer, fromX, fromY);
+        }
+    }
+
+    /**
+     * Executes shore up action, restoring target tile state (removing flooded state).
+     */
+    public void shoreUp() {
+        Tile tile = board.getTile(adventurers[roundNum].getShoreUpX(), adventurers[roundNum].getShoreUpY());
+        tile.shoreUp();
+        events.onTileShoredUp(tile.getTileId());
+    }
+
+    /**
+     * Passes the first selected card to the selected player.
+     * If receiver's hand is full (5 cards), enters fake round to let receiver discard first.
+     *
+     * @return Whether card passing was successful
+     */
+    public boolean passTo() {
+        if (selectedPawn == -1 || cardsInRound.isEmpty()) {
+            log("Please Select A Card And A player To Pass A Card To");
+            return false;
+        }
+
+        if (adventurers[selectedPawn].getHandCards().size() == 5) {
+            handleReceiverHandFull(selectedPawn);
+            return false;
+        }
+
+        return doPassCard(selectedPawn, cardsInRound.get(0));
+    }
+
+    /**
+     * Handles case where receiver's hand is full, enters fake round to require card discard
+     */
+    private void handleReceiverHandFull(int receiverId) {
+        log("Player Has 5 Hand.\n Please Discard Card(s) Before Receiving a Card From You");
+        cardsInRound.clear();
+
+        // Enter fake round state, pause current round
+        inFakeRound = true;
+        fakeRoundNum = roundNum;
+        fakeActionCount = actionCount;
+
+        // Switch round to receiver, give 3 actions to discard cards
+        roundNum = receiverId;
+        actionCount = 3;
+
+        log("Please Select Card(s) " + adventurers[receiverId].getName() +
+                " Would Like To Discard And Redo [Pass To]");
+        events.onPlayerSwitched(receiverId);
+    }
+
+    /**
+     * Moves a card from the current player's hand to the receiver's hand.
+     *
+     * @param receiverId Receiver player id
+     * @param cardId Card id to pass
+     * @return Whether passing was successful
+     */
+    private boolean doPassCard(int receiverId, int cardId) {
+        adventurers[receiverId].getHandCards().add(cardId);
+        adventurers[roundNum].getHandCards().remove(Integer.valueOf(cardId));
+        return true;
+    }
+
+    /**
+     * Writes a game message to the console unless the session is silenced.
+     *
+     * @param message message to write
+     */
+    void log(String message) {
+        if (verbose) {
+            LogUtil.console(message);
+        }
+    }
+
+    // ====== Rules Engine ======
+
+    /**
+     * Copies the session into a GameState for the rules engine, e.g. to let a bot choose the next action.
+     * Treasure cards drawn this turn but not yet taken into the hand count as held by the current player.
+     * The copy is independent of the session and shuffles with a split of the session's random source.
+     *
+     * @return state of the current turn
+     */
+    public GameState snapshot() {
+        int[] roles = new int[numOfPlayer];
+        for (int seat = 0; seat < numOfPlayer; seat++) {
+            roles[seat] = adventurers[seat].getId();
+        }
+        GameState state = new GameState(board.getState().copy(), roles, waterMeter.getWaterLevel(),
+                treasureDeck.copyPiles(random.split()), floodDeck.copyPiles(random.split()));
+
+        int figurines = 0;
+        for (int seat = 0; seat < numOfPlayer; seat++) {
+            int hand = 0;
+            for (int card : adventurers[seat].getHandCards()) {
+                hand |= 1 << card;
+            }
+            if (seat == roundNum) {
+                for (int card : displayedTreasureCard) {
+                    hand |= 1 << card;
+                }
+            }
+            state.setHand(seat, hand);
+            for (TreasureFigurines figurine : adventurers[seat].getCapturedFigurines()) {
+                figurines |= 1 << figurine.ordinal();
+            }
+        }
+        state.setFigurines(figurines);
+        state.setCurrentPlayer(roundNum);
+        state.setActionsTaken(Math.min(actionCount, GameState.ACTIONS_PER_TURN));
+        state.setPilotFlown(pilotFlown);
+        return state;
+    }
+
+    // ====== Getters and Setters ======
+
+    /**
+     * Splits off an independent random source, e.g. for a worker that plays on from this session.
+     * The split is deterministic, so seeded sessions stay reproducible.
+     *
+     * @return new random source
+     */
+    public SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Registers a listener for the domain events of this session.
+     *
+     * @param listener listener to add
+     */
+    public void addListener(GameEventListener listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener(GameEventListener)}.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(GameEventListener listener) {
+        events.removeListener(listener);
+    }
+
+    public TileBoard getBoard() {
+        return board;
+    }
+
+    public ArrayList<Integer> getTilesArray() {
+        return tiles;
+    }
+
+    public FloodDeck getFloodDeck() {
+        return floodDeck;
+    }
+
+    public TreasureDeck getTreasureDeck() {
+        return treasureDeck;
+    }
+
+    public WaterMeter getWaterMeter() {
+        return waterMeter;
+    }
+
+    public Adventurer[] getAdventurers() {
+        return adventurers;
+    }
+
+    public ArrayList<Integer> getDisplayedTreasureCard() {
+        return displayedTreasureCard;
+    }
+
+    /**
+     * @return flood cards drawn in the last flood phase, in draw order; empty before the first one
+     */
+    public ArrayList<Integer> getLastFloodCards() {
+        return lastFloodCards;
+    }
+
+    public ArrayList<Integer> getCardsInRound() {
+        return cardsInRound;
+    }
+
+    public void resetCardsInRound() {
+        cardsInRound.clear();
+    }
+
+    public int[] getSpecialActionTile() {
+        return specialActionTile;
+    }
+
+    public void resetSpecialActionTile() {
+        specialActionTile[0] = -1;
+        specialActionTile[1] = -1;
+    }
+
+    public int getSelectedPawn() {
+        return selectedPawn;
+    }
+
+    /**
+     * Whether the Navigator has moved the selected player one step of a push, whose second step is free
+     *
+     * @return true while the second step of a push may still be taken
+     */
+    public boolean isPushInProgress() {
+        return isNavigatorPushing(adventurers[roundNum]) && navigatorMovesLeft == 1;
+    }
+
+    /**
+     * Whether the Pilot has used the flight of the current turn
+     *
+     * @return true once the Pilot has flown this turn
+     */
+    public boolean isPilotFlown() {
+        return pilotFlown;
+    }
+
+    public ArrayList<Integer> getSelectedPawns() {
+        return selectedPawns;
+    }
+
+    public void setPlayerIDinWater(ArrayList<Integer> playerIDinWater) {
+        this.playerIDinWater.addAll(playerIDinWater);
+    }
+
+    public int getNumOfPlayer() {
+        return numOfPlayer;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    public void setActionCount(int actionCount) {
+        this.actionCount = actionCount;
+    }
+
+    public int getFakeActionCount() {
+        return fakeActionCount;
+    }
+
+    public void setFakeActionCount(int fakeActionCount) {
+        this.fakeActionCount = fakeActionCount;
+    }
+
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    public void setRoundNum(int roundNum) {
+        this.roundNum = roundNum;
+    }
+
+    public int getFakeRoundNum() {
+        return fakeRoundNum;
+    }
+
+    public void setFakeRoundNum(int fakeRoundNum) {
+        this.fakeRoundNum = fakeRoundNum;
+    }
+
+    public boolean isStage23Done() {
+        return stage23Done;
+    }
+
+    public boolean isNeed2save() {
+        return need2save;
+    }
+
+    public void setNeed2save(boolean need2save) {
+        this.need2save = need2save;
+    }
+
+    public boolean isInFakeRound() {
+        return inFakeRound;
+    }
+
+    public void setInFakeRound(boolean inFakeRound) {
+        this.inFakeRound = inFakeRound;
+    }
+
+    public boolean isGameOver() {
+        return outcome != GameState.ONGOING;
+    }
+
+    public boolean isWon() {
+        return outcome == GameState.WON;
+    }
+
+    /**
+     * @return how the game ended: GameState.ONGOING, GameState.WON or one of the GameState.LOST_* causes
+     */
+    public int getOutcome() {
+        return outcome;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+}
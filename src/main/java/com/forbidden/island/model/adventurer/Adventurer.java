@@ -1,10 +1,9 @@
 package com.forbidden.island.model.adventurer;
 
+import com.forbidden.island.model.board.IslandLayout;
 import com.forbidden.island.model.enums.TreasureFigurines;
-import com.forbidden.island.utils.Map;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
 /**
  * Abstract Adventurer class representing a character in the game.
@@ -141,11 +140,11 @@ public abstract class Adventurer {
 
     /**
      * Gets the map tile number corresponding to adventurer's current position.
-     * Uses Map class's numberMatcher to map coordinate string to number.
+     * Uses IslandLayout's cell table to map coordinates to number.
      * @return current tile number
      */
     public int getPos() {
-        return Map.numberMatcher.get(Arrays.toString(new int[]{this.x, this.y}));
+        return IslandLayout.slotAt(this.x, this.y);
     }
 
     /**
@@ -153,6 +152,6 @@ public abstract class Adventurer {
      * @return shore up target tile number
      */
     public int getShoredPos() {
-        return Map.numberMatcher.get(Arrays.toString(new int[]{this.shoreUpX, this.shoreUpY}));
+        return IslandLayout.slotAt(this.shoreUpX, this.shoreUpY);
     }
 }
@@ -0,0 +1,476 @@
+package com.forbidden.island.model.board;
+
+import com.forbidden.island.model.enums.TileStatus;
+
+import java.util.Arrays;
+
+/**
+ * BoardState is the compact encoding of the island used by the game rules, searches and simulations.
+ * <p>
+ * The 24 tiles are addressed by their slot, which is the index of the tile's position in
+ * Map.coordinatesMatcher (see IslandLayout). The whole mutable state fits in three primitive words:
+ * <ul>
+ *     <li>tileBits: bits 0-23 mark flooded slots, bits 24-47 mark sunk slots (2 status bits per tile)</li>
+ *     <li>capturedBits: bits 0-23 mark slots whose treasure has been captured</li>
+ *     <li>pawnBits: byte i holds the slot of the pawn of adventurer i (Diver 0 ... Pilot 5), 0xFF when not on the board</li>
+ * </ul>
+ * The tile layout of a game never changes, so it is shared by all copies of a board.
+ * <p>
+ * A Zobrist hash of the three words is kept up to date by every change, with one or two XORs per change.
+ * <p>
+ * The board also tracks its own loss conditions: every sinking or capture updates the lost bit of the treasure
+ * whose shrine it touched, and of Fools' Landing, so isShrinesFlooded and isLandingSunk are single bit tests.
+ */
+public class BoardState {
+    /**
+     * Number of tiles (slots) on the island
+     */
+    public static final int SLOT_COUNT = 24;
+
+    /**
+     * Number of adventurer roles, each one has at most one pawn on the board
+     */
+    public static final int ROLE_COUNT = 6;
+
+    /**
+     * Slot value for cells without a tile and for pawns that are not on the board
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * Tile ID of Fools' Landing, the game is lost when it sinks
+     */
+    public static final int FOOLS_LANDING_TILE_ID = 14;
+
+    /**
+     * Mask covering the bits of all 24 slots
+     */
+    public static final int ALL_SLOTS = (1 << SLOT_COUNT) - 1;
+
+    private static final int SUNK_SHIFT = 24;
+    private static final long SLOT_BITS = ALL_SLOTS;
+    private static final int PAWN_NONE = 0xFF;
+    /** Bits 0-3 of lossBits: treasures that lost both shrines before being captured */
+    private static final int LOST_TREASURES = 0b1111;
+    /** Bit 4 of lossBits: Fools' Landing has sunk */
+    private static final int LANDING_LOST = 1 << 4;
+
+    // ====== Shared Layout ======
+
+    /**
+     * Tile ID placed on each slot
+     */
+    private final byte[] slotTiles;
+
+    /**
+     * Tile ID → slot, NO_SLOT for tiles that are not part of this layout
+     */
+    private final byte[] tileSlots;
+
+    /**
+     * Slot mask of the two shrines of each treasure (0 when the layout does not hold both shrines)
+     */
+    private final int[] shrineMasks;
+
+    /**
+     * Slot mask of Fools' Landing (0 when the layout does not hold it)
+     */
+    private final int landingMask;
+
+    // ====== Mutable State ======
+
+    /**
+     * Flooded slots in the low 24 bits, sunk slots in the next 24 bits
+     */
+    private long tileBits;
+
+    /**
+     * Slots whose treasure has been captured
+     */
+    private int capturedBits;
+
+    /**
+     * One byte per adventurer role holding the slot of its pawn
+     */
+    private long pawnBits = -1L;
+
+    /**
+     * Zobrist hash of the tile statuses, captures and pawn positions
+     */
+    private long hash;
+
+    /**
+     * Loss conditions reached on this board, derived from tileBits and capturedBits
+     */
+    private int lossBits;
+
+    /**
+     * Diver destinations of the current tile statuses, created on first use and never shared between copies
+     */
+    private DiverReach diverReach;
+
+    /**
+     * Creates a board with all tiles in normal condition and no pawns on it.
+     *
+     * @param slotTiles tile ID for each slot, at most 24 slots
+     */
+    public BoardState(int[] slotTiles) {
+        if (slotTiles.length > SLOT_COUNT) {
+            throw new IllegalArgumentException("A board holds at most " + SLOT_COUNT + " tiles");
+        }
+        this.slotTiles = new byte[slotTiles.length];
+        this.tileSlots = new byte[SLOT_COUNT + 1];
+        Arrays.fill(tileSlots, (byte) NO_SLOT);
+        for (int slot = 0; slot < slotTiles.length; slot++) {
+            this.slotTiles[slot] = (byte) slotTiles[slot];
+            tileSlots[slotTiles[slot]] = (byte) slot;
+        }
+
+        // Shrine pair of treasure i are tiles 2i+1 and 2i+2
+        this.shrineMasks = new int[4];
+        for (int i = 0; i < shrineMasks.length; i++) {
+            int first = tileSlots[2 * i + 1];
+            int second = tileSlots[2 * i + 2];
+            if (first != NO_SLOT && second != NO_SLOT) {
+                shrineMasks[i] = (1 << first) | (1 << second);
+            }
+        }
+        int landing = tileSlots[FOOLS_LANDING_TILE_ID];
+        this.landingMask = landing == NO_SLOT ? 0 : 1 << landing;
+    }
+
+    /**
+     * Creates a copy of another board. Only the three state words are copied,
+     * the immutable layout is shared.
+     *
+     * @param other board to copy
+     */
+    public BoardState(BoardState other) {
+        this.slotTiles = other.slotTiles;
+        this.tileSlots = other.tileSlots;
+        this.shrineMasks = other.shrineMasks;
+        this.landingMask = other.landingMask;
+        this.lossBits = other.lossBits;
+        this.tileBits = other.tileBits;
+        this.capturedBits = other.capturedBits;
+        this.pawnBits = other.pawnBits;
+        this.hash = other.hash;
+    }
+
+    /**
+     * @return an independent copy of this board
+     */
+    public BoardState copy() {
+        return new BoardState(this);
+    }
+
+    /**
+     * @return number of slots in this layout
+     */
+    public int getSlotCount() {
+        return slotTiles.length;
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return tile ID placed on the slot
+     */
+    public int getTileId(int slot) {
+        return slotTiles[slot];
+    }
+
+    /**
+     * @param tileId tile ID (1-24)
+     * @return slot holding the tile, NO_SLOT if the tile is not on this board
+     */
+    public int getSlotOfTile(int tileId) {
+        return tileSlots[tileId];
+    }
+
+    // ====== Tile Status ======
+
+    /**
+     * @param slot slot on the board
+     * @return true unless the tile has sunk
+     */
+    public boolean isExist(int slot) {
+        return slot != NO_SLOT && (tileBits & (1L << (slot + SUNK_SHIFT))) == 0;
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return true if the tile is flooded (but not sunk)
+     */
+    public boolean isFlooded(int slot) {
+        return (tileBits & (1L << slot)) != 0;
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return status of the tile
+     */
+    public TileStatus getStatus(int slot) {
+        if ((tileBits & (1L << (slot + SUNK_SHIFT))) != 0) {
+            return TileStatus.Sunk;
+        }
+        return (tileBits & (1L << slot)) != 0 ? TileStatus.Flooded : TileStatus.Normal;
+    }
+
+    /**
+     * Floods a tile one step: Normal → Flooded, Flooded → Sunk.
+     *
+     * @param slot slot on the board
+     * @return true if the tile is sunk afterwards
+     */
+    public boolean flood(int slot) {
+        long flooded = 1L << slot;
+        long sunk = 1L << (slot + SUNK_SHIFT);
+        if ((tileBits & sunk) != 0) {
+            return true;
+        }
+        if ((tileBits & flooded) == 0) {
+            tileBits |= flooded;
+            hash ^= Zobrist.flooded(slot);
+            return false;
+        }
+        tileBits = (tileBits & ~flooded) | sunk;
+        hash ^= Zobrist.flooded(slot) ^ Zobrist.sunk(slot);
+        updateLoss(slot);
+        return true;
+    }
+
+    /**
+     * Restores a flooded tile to normal condition.
+     *
+     * @param slot slot on the board
+     * @return true if the tile was flooded
+     */
+    public boolean shoreUp(int slot) {
+        long flooded = 1L << slot;
+        if ((tileBits & flooded) == 0) {
+            return false;
+        }
+        tileBits &= ~flooded;
+        hash ^= Zobrist.flooded(slot);
+        return true;
+    }
+
+    /**
+     * @return mask of flooded slots
+     */
+    public int getFloodedMask() {
+        return (int) (tileBits & SLOT_BITS);
+    }
+
+    /**
+     * @return mask of sunk slots
+     */
+    public int getSunkMask() {
+        return (int) ((tileBits >>> SUNK_SHIFT) & SLOT_BITS);
+    }
+
+    /**
+     * @return mask of slots whose tile is still on the island
+     */
+    public int getExistMask() {
+        return ((1 << slotTiles.length) - 1) & ~getSunkMask();
+    }
+
+    // ====== Treasures ======
+
+    /**
+     * Marks the treasure of a tile as captured.
+     *
+     * @param slot slot on the board
+     */
+    public void setCaptured(int slot) {
+        if ((capturedBits & (1 << slot)) == 0) {
+            capturedBits |= 1 << slot;
+            hash ^= Zobrist.captured(slot);
+            updateLoss(slot);
+        }
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return true if the treasure of the tile has been captured
+     */
+    public boolean isCaptured(int slot) {
+        return (capturedBits & (1 << slot)) != 0;
+    }
+
+    /**
+     * Checks if both shrines of a treasure sank before the treasure was captured.
+     *
+     * @return true if any uncaptured treasure has lost both of its shrines
+     */
+    public boolean isShrinesFlooded() {
+        return (lossBits & LOST_TREASURES) != 0;
+    }
+
+    /**
+     * @return mask of the treasures (bit i for treasure i) that lost both shrines before they were captured
+     */
+    public int getLostTreasures() {
+        return lossBits & LOST_TREASURES;
+    }
+
+    /**
+     * @return true if Fools' Landing has sunk
+     */
+    public boolean isLandingSunk() {
+        return (lossBits & LANDING_LOST) != 0;
+    }
+
+    /**
+     * Updates the loss bits touched by a change of a slot: the treasure of a shrine and Fools' Landing.
+     *
+     * @param slot slot that sank or was captured
+     */
+    private void updateLoss(int slot) {
+        int tileId = slotTiles[slot];
+        if (tileId <= 2 * shrineMasks.length) {
+            int treasure = (tileId - 1) >> 1;
+            int mask = shrineMasks[treasure];
+            boolean lost = mask != 0 && (getSunkMask() & ~capturedBits & mask) == mask;
+            lossBits = lost ? lossBits | (1 << treasure) : lossBits & ~(1 << treasure);
+        }
+        if ((landingMask & (1 << slot)) != 0 && !isExist(slot)) {
+            lossBits |= LANDING_LOST;
+        }
+    }
+
+    // ====== Diver ======
+
+    /**
+     * Diver's move: through any chain of adjacent flooded, sunk or blank cells onto any tile next to the chain.
+     * Cached until the tile statuses change.
+     *
+     * @param slot slot of the Diver
+     * @return mask of the slots the Diver can reach with one move action
+     */
+    public int getDiverTargets(int slot) {
+        return diverReach().targets(this, slot);
+    }
+
+    /**
+     * Diver's swim after its tile sank: onto the nearest remaining tiles.
+     * Cached until another tile sinks.
+     *
+     * @param slot sunk slot of the Diver
+     * @return mask of the remaining slots at the smallest straight-line distance
+     */
+    public int getDiverRescueTargets(int slot) {
+        return diverReach().rescueTargets(this, slot);
+    }
+
+    private DiverReach diverReach() {
+        if (diverReach == null) {
+            diverReach = new DiverReach();
+        }
+        return diverReach;
+    }
+
+    // ====== Pawns ======
+
+    /**
+     * @param role adventurer role ID (0-5)
+     * @return slot of the pawn, NO_SLOT if it is not on the board
+     */
+    public int getPawnSlot(int role) {
+        int slot = (int) (pawnBits >>> (role * 8)) & 0xFF;
+        return slot == PAWN_NONE ? NO_SLOT : slot;
+    }
+
+    /**
+     * Places a pawn on a slot, taking it off its previous slot.
+     *
+     * @param role adventurer role ID (0-5)
+     * @param slot target slot, NO_SLOT to take the pawn off the board
+     */
+    public void setPawnSlot(int role, int slot) {
+        hash ^= Zobrist.pawn(role, getPawnSlot(role)) ^ Zobrist.pawn(role, slot);
+        int shift = role * 8;
+        pawnBits = (pawnBits & ~(0xFFL << shift)) | ((long) (slot & PAWN_NONE) << shift);
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return mask of the roles (bit i for role i) whose pawns stand on the slot
+     */
+    public int getPawnMask(int slot) {
+        int mask = 0;
+        for (int role = 0; role < ROLE_COUNT; role++) {
+            if (((pawnBits >>> (role * 8)) & 0xFF) == slot) {
+                mask |= 1 << role;
+            }
+        }
+        return mask;
+    }
+
+    // ====== Raw State ======
+
+    /**
+     * Overwrites the three state words, e.g. to roll back to a saved state.
+     *
+     * @param tileBits flooded and sunk slots
+     * @param capturedBits captured slots
+     * @param pawnBits pawn slots
+     * @param hash hash of the saved state, as returned by getHash
+     */
+    public void restore(long tileBits, int capturedBits, long pawnBits, long hash) {
+        this.tileBits = tileBits;
+        this.capturedBits = capturedBits;
+        this.pawnBits = pawnBits;
+        this.hash = hash;
+        lossBits = (getSunkMask() & landingMask) != 0 ? LANDING_LOST : 0;
+        for (int slot = 0; slot < slotTiles.length; slot++) {
+            if (slotTiles[slot] <= 2 * shrineMasks.length) {
+                updateLoss(slot);
+            }
+        }
+    }
+
+    /**
+     * @return Zobrist hash of the board, kept up to date incrementally
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Recomputes the hash from the three state words, to check the incremental one.
+     *
+     * @return Zobrist hash of the board
+     */
+    public long computeHash() {
+        long result = 0;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (isFlooded(slot)) {
+                result ^= Zobrist.flooded(slot);
+            }
+            if (!isExist(slot)) {
+                result ^= Zobrist.sunk(slot);
+            }
+            if (isCaptured(slot)) {
+                result ^= Zobrist.captured(slot);
+            }
+        }
+        for (int role = 0; role < ROLE_COUNT; role++) {
+            result ^= Zobrist.pawn(role, getPawnSlot(role));
+        }
+        return result;
+    }
+
+    public long getTileBits() {
+        return tileBits;
+    }
+
+    public int getCapturedBits() {
+        return capturedBits;
+    }
+
+    public long getPawnBits() {
+        return pawnBits;
+    }
+}
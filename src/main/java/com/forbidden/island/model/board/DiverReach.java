@@ -0,0 +1,114 @@
+package com.forbidden.island.model.board;
+
+/**
+ * DiverReach caches the Diver's destinations for one version of a board's tiles.
+ * <p>
+ * Flooded, sunk and blank cells form connected regions the Diver can swim through. Whenever the tile statuses
+ * change, the regions are found again with a bitset flood fill over the 36 map cells. The destinations of a
+ * slot are the existing tiles next to it or next to a region touching it; they are derived once per slot and
+ * version, so until the next change a destination mask is an array lookup.
+ * <p>
+ * Rescue destinations (the nearest remaining tiles to a sunk slot) only depend on the sunk tiles and are cached
+ * the same way.
+ */
+final class DiverReach {
+    /** Tile bits the destinations were computed for, -1 before the first computation */
+    private long tileBits = -1;
+    private final int[] targets = new int[BoardState.SLOT_COUNT];
+    /** Slots whose targets are up to date */
+    private int knownSlots;
+    /** Existing slots of the current version */
+    private int exist;
+
+    /** Sunk mask the rescue destinations were computed for, -1 before the first computation */
+    private int rescueSunk = -1;
+    private final int[] rescueTargets = new int[BoardState.SLOT_COUNT];
+
+    /** Passable regions and the existing slots bordering them, at most 18 on the 6x6 map (a checkerboard) */
+    private final long[] regions = new long[18];
+    private final int[] borders = new int[regions.length];
+    private int regionCount;
+
+    /**
+     * @param board board
+     * @param slot slot of the Diver
+     * @return mask of the slots the Diver can reach with one move action
+     */
+    int targets(BoardState board, int slot) {
+        if (board.getTileBits() != tileBits) {
+            computeRegions(board);
+        }
+        if ((knownSlots & (1 << slot)) == 0) {
+            targets[slot] = computeTargets(slot);
+            knownSlots |= 1 << slot;
+        }
+        return targets[slot];
+    }
+
+    /**
+     * @param board board
+     * @param slot sunk slot of the Diver
+     * @return mask of the remaining slots nearest to the slot
+     */
+    int rescueTargets(BoardState board, int slot) {
+        if (board.getSunkMask() != rescueSunk) {
+            computeRescueTargets(board);
+        }
+        return rescueTargets[slot];
+    }
+
+    private void computeRegions(BoardState board) {
+        tileBits = board.getTileBits();
+        knownSlots = 0;
+        exist = board.getExistMask();
+        long passable = IslandLayout.BLANK_CELLS | IslandLayout.toCells(board.getFloodedMask() | board.getSunkMask());
+
+        int count = 0;
+        for (long rest = passable; rest != 0; count++) {
+            long region = rest & -rest;
+            long grown = region | (IslandLayout.expandOrthogonal(region) & passable);
+            while (grown != region) {
+                region = grown;
+                grown = region | (IslandLayout.expandOrthogonal(region) & passable);
+            }
+            regions[count] = region;
+            borders[count] = IslandLayout.toSlots(IslandLayout.expandOrthogonal(region)) & exist;
+            rest &= ~region;
+        }
+        regionCount = count;
+    }
+
+    private int computeTargets(int slot) {
+        long cell = IslandLayout.toCells(IslandLayout.bit(slot));
+        long touched = cell | IslandLayout.expandOrthogonal(cell);
+        int reachable = IslandLayout.orthogonal(slot) & exist;
+        for (int i = 0; i < regionCount; i++) {
+            if ((regions[i] & touched) != 0) {
+                reachable |= borders[i];
+            }
+        }
+        return reachable & ~IslandLayout.bit(slot);
+    }
+
+    private void computeRescueTargets(BoardState board) {
+        rescueSunk = board.getSunkMask();
+        int exist = board.getExistMask();
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            int best = Integer.MAX_VALUE;
+            int nearest = 0;
+            for (int rest = exist & ~IslandLayout.bit(slot); rest != 0; rest &= rest - 1) {
+                int target = Integer.numberOfTrailingZeros(rest);
+                int dx = IslandLayout.xOf(target) - IslandLayout.xOf(slot);
+                int dy = IslandLayout.yOf(target) - IslandLayout.yOf(slot);
+                int distance = dx * dx + dy * dy;
+                if (distance < best) {
+                    best = distance;
+                    nearest = 1 << target;
+                } else if (distance == best) {
+                    nearest |= 1 << target;
+                }
+            }
+            rescueTargets[slot] = nearest;
+        }
+    }
+}
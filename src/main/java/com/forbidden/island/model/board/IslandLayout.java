@@ -0,0 +1,221 @@
+package com.forbidden.island.model.board;
+
+import com.forbidden.island.utils.Map;
+
+import java.util.Arrays;
+
+/**
+ * IslandLayout holds the fixed geometry of the 24-slot island, precomputed once from
+ * Map.coordinatesMatcher and Map.blankLayout.
+ * <p>
+ * Cells and slots are converted with plain array lookups (slotAt, xOf, yOf), so resolving a position
+ * never allocates. Which tile lies on which slot differs per game and is kept by BoardState.
+ * <p>
+ * Neighbours are stored as slot bitmasks (bit i for slot i), so a movement check is a single AND
+ * with a mask of the board, e.g. {@code (IslandLayout.orthogonal(slot) & state.getExistMask()) != 0}.
+ */
+public final class IslandLayout {
+
+    /**
+     * Flat cell index (x * 6 + y) → slot, NO_SLOT for blank cells
+     */
+    private static final int[] CELL_SLOTS = new int[Map.rows * Map.rows];
+
+    /**
+     * Slot → flat cell index (x * 6 + y) of the slot
+     */
+    private static final int[] SLOT_CELLS = new int[BoardState.SLOT_COUNT];
+
+    /**
+     * Cell mask (bit x * 6 + y) of all 36 cells of the map
+     */
+    public static final long ALL_CELLS = (1L << (Map.rows * Map.rows)) - 1;
+
+    /**
+     * Cell mask of the blank sea cells around the island
+     */
+    public static final long BLANK_CELLS;
+
+    /**
+     * Cell masks of the first and last column, used to stop horizontal shifts from wrapping
+     */
+    private static final long FIRST_COLUMN;
+    private static final long LAST_COLUMN;
+
+    /**
+     * Slot → row (x) of the slot's cell
+     */
+    private static final int[] SLOT_X = new int[BoardState.SLOT_COUNT];
+
+    /**
+     * Slot → column (y) of the slot's cell
+     */
+    private static final int[] SLOT_Y = new int[BoardState.SLOT_COUNT];
+
+    /**
+     * Slot → mask of the slots above, below, left and right of it
+     */
+    private static final int[] ORTHOGONAL = new int[BoardState.SLOT_COUNT];
+
+    /**
+     * Slot → mask of the four diagonal neighbour slots
+     */
+    private static final int[] DIAGONAL = new int[BoardState.SLOT_COUNT];
+
+    /**
+     * Slot → mask of all eight surrounding slots
+     */
+    private static final int[] ALL = new int[BoardState.SLOT_COUNT];
+
+    static {
+        Arrays.fill(CELL_SLOTS, BoardState.NO_SLOT);
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            int[] coords = Map.coordinatesMatcher.get(slot);
+            CELL_SLOTS[coords[0] * Map.rows + coords[1]] = slot;
+            SLOT_X[slot] = coords[0];
+            SLOT_Y[slot] = coords[1];
+            SLOT_CELLS[slot] = coords[0] * Map.rows + coords[1];
+        }
+
+        long blank = 0;
+        for (int cell : Map.blankLayout) {
+            blank |= 1L << cell;
+        }
+        BLANK_CELLS = blank;
+
+        long first = 0;
+        for (int x = 0; x < Map.rows; x++) {
+            first |= 1L << (x * Map.rows);
+        }
+        FIRST_COLUMN = first;
+        LAST_COLUMN = first << (Map.rows - 1);
+
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            int[] coords = Map.coordinatesMatcher.get(slot);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    int x = coords[0] + dx;
+                    int y = coords[1] + dy;
+                    if ((dx == 0 && dy == 0) || x < 0 || y < 0 || x >= Map.rows || y >= Map.rows
+                            || Map.blankLayout.contains(x * Map.rows + y)) {
+                        continue;
+                    }
+                    int neighbour = 1 << CELL_SLOTS[x * Map.rows + y];
+                    if (dx == 0 || dy == 0) {
+                        ORTHOGONAL[slot] |= neighbour;
+                    } else {
+                        DIAGONAL[slot] |= neighbour;
+                    }
+                    ALL[slot] |= neighbour;
+                }
+            }
+        }
+    }
+
+    private IslandLayout() {
+    }
+
+    /**
+     * Looks up the slot of a map cell.
+     *
+     * @param x row of the cell
+     * @param y column of the cell
+     * @return slot of the cell, NO_SLOT if the cell is blank or outside the map
+     */
+    public static int slotAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= Map.rows || y >= Map.rows) {
+            return BoardState.NO_SLOT;
+        }
+        return CELL_SLOTS[x * Map.rows + y];
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return row (x) of the slot's cell
+     */
+    public static int xOf(int slot) {
+        return SLOT_X[slot];
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return column (y) of the slot's cell
+     */
+    public static int yOf(int slot) {
+        return SLOT_Y[slot];
+    }
+
+    /**
+     * @param slot slot on the board, may be NO_SLOT
+     * @return mask with only the bit of the slot set, 0 for NO_SLOT
+     */
+    public static int bit(int slot) {
+        return slot == BoardState.NO_SLOT ? 0 : 1 << slot;
+    }
+
+    /**
+     * @param slot slot on the board, may be NO_SLOT
+     * @return mask of the orthogonally adjacent slots
+     */
+    public static int orthogonal(int slot) {
+        return slot == BoardState.NO_SLOT ? 0 : ORTHOGONAL[slot];
+    }
+
+    /**
+     * @param slot slot on the board, may be NO_SLOT
+     * @return mask of the diagonally adjacent slots
+     */
+    public static int diagonal(int slot) {
+        return slot == BoardState.NO_SLOT ? 0 : DIAGONAL[slot];
+    }
+
+    /**
+     * @param slot slot on the board, may be NO_SLOT
+     * @return mask of all eight surrounding slots
+     */
+    public static int all(int slot) {
+        return slot == BoardState.NO_SLOT ? 0 : ALL[slot];
+    }
+
+    // ====== Cell Masks ======
+
+    /**
+     * Converts a slot mask into a mask over the 36 map cells (bit x * 6 + y).
+     *
+     * @param slots slot mask
+     * @return cell mask of the same tiles
+     */
+    public static long toCells(int slots) {
+        long cells = 0;
+        for (int rest = slots; rest != 0; rest &= rest - 1) {
+            cells |= 1L << SLOT_CELLS[Integer.numberOfTrailingZeros(rest)];
+        }
+        return cells;
+    }
+
+    /**
+     * Converts a cell mask into a slot mask, dropping blank cells.
+     *
+     * @param cells cell mask
+     * @return slot mask of the tiles on those cells
+     */
+    public static int toSlots(long cells) {
+        int slots = 0;
+        for (long rest = cells & ~BLANK_CELLS; rest != 0; rest &= rest - 1) {
+            slots |= 1 << CELL_SLOTS[Long.numberOfTrailingZeros(rest)];
+        }
+        return slots;
+    }
+
+    /**
+     * Grows a cell mask by one step up, down, left and right, staying inside the map.
+     *
+     * @param cells cell mask
+     * @return cells orthogonally adjacent to any of the given cells
+     */
+    public static long expandOrthogonal(long cells) {
+        long vertical = (cells >>> Map.rows) | (cells << Map.rows);
+        long horizontal = ((cells & ~FIRST_COLUMN) >>> 1) | ((cells & ~LAST_COLUMN) << 1);
+        return (vertical | horizontal) & ALL_CELLS;
+    }
+}
@@ -0,0 +1,127 @@
+package com.forbidden.island.model.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist holds the random 64-bit keys used to hash game states.
+ * <p>
+ * The hash of a state is the XOR of the keys of its features, so a change of one feature updates the hash
+ * with one or two XORs instead of a full recomputation. Features that are absent (a normal tile, a pawn off the
+ * board, an empty hand) have no key, which makes the hash of an empty board 0.
+ * The keys come from a fixed seed, so hashes are stable between runs.
+ */
+public final class Zobrist {
+    /** Most players in a game */
+    public static final int MAX_SEATS = 4;
+    /** Card kinds: four treasures, Helicopter Lift, Sandbag, Waters Rise! */
+    public static final int CARD_KINDS = 7;
+    /** Most cards of one kind */
+    public static final int MAX_COPIES = 5;
+
+    private static final long[] FLOODED = new long[BoardState.SLOT_COUNT];
+    private static final long[] SUNK = new long[BoardState.SLOT_COUNT];
+    private static final long[] CAPTURED = new long[BoardState.SLOT_COUNT];
+    private static final long[][] PAWN = new long[BoardState.ROLE_COUNT][BoardState.SLOT_COUNT];
+    private static final long[][][] CARD = new long[MAX_SEATS][CARD_KINDS][MAX_COPIES];
+    private static final long[] WATER = new long[16];
+    private static final long[] PLAYER = new long[MAX_SEATS];
+    private static final long[] ACTIONS = new long[4];
+    private static final long[] PHASE = new long[4];
+    private static final long PILOT_FLOWN;
+    private static final long FLOOD_PENDING;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_1514_4D11L);
+        fill(FLOODED, random);
+        fill(SUNK, random);
+        fill(CAPTURED, random);
+        for (long[] keys : PAWN) {
+            fill(keys, random);
+        }
+        for (long[][] seat : CARD) {
+            for (long[] keys : seat) {
+                fill(keys, random);
+            }
+        }
+        fill(WATER, random);
+        fill(PLAYER, random);
+        fill(ACTIONS, random);
+        fill(PHASE, random);
+        PILOT_FLOWN = random.nextLong();
+        FLOOD_PENDING = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    public static long flooded(int slot) {
+        return FLOODED[slot];
+    }
+
+    public static long sunk(int slot) {
+        return SUNK[slot];
+    }
+
+    public static long captured(int slot) {
+        return CAPTURED[slot];
+    }
+
+    /**
+     * @param role adventurer role
+     * @param slot slot of the pawn, NO_SLOT for pawns off the board
+     * @return key of the pawn position, 0 off the board
+     */
+    public static long pawn(int role, int slot) {
+        return slot == BoardState.NO_SLOT ? 0 : PAWN[role][slot];
+    }
+
+    /**
+     * Key of the copy-th card of a kind in a hand, so a hand hashes as a multiset of card kinds.
+     *
+     * @param seat seat of the player
+     * @param kind card kind
+     * @param copy number of cards of the kind held besides this one
+     * @return key of the card
+     */
+    public static long card(int seat, int kind, int copy) {
+        return CARD[seat][kind][copy];
+    }
+
+    public static long water(int waterLevel) {
+        return WATER[waterLevel];
+    }
+
+    public static long player(int seat) {
+        return PLAYER[seat];
+    }
+
+    public static long actions(int actionsTaken) {
+        return ACTIONS[actionsTaken];
+    }
+
+    public static long phase(int phase) {
+        return PHASE[phase];
+    }
+
+    /**
+     * @param pilotFlown whether the Pilot has used the flight of this turn
+     * @return key of the flag, 0 if it is not set
+     */
+    public static long pilotFlown(boolean pilotFlown) {
+        return pilotFlown ? PILOT_FLOWN : 0;
+    }
+
+    /**
+     * @param floodPending whether the flood of this turn waits for a discard
+     * @return key of the flag, 0 if it is not set
+     */
+    public static long floodPending(boolean floodPending) {
+        return floodPending ? FLOOD_PENDING : 0;
+    }
+}
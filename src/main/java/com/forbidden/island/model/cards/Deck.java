@@ -1,28 +1,27 @@
 package com.forbidden.island.model.cards;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract class representing the basic structure and operations of a deck of cards.
- * Cards are identified by integers, and both the deck and discard pile are stored using ArrayList.
- * ArrayList is chosen over Stack to facilitate adding discarded cards to the bottom.
+ * Cards are identified by integers, and both the deck and discard pile are stored in a primitive IntDeck,
+ * which draws, discards and adds cards to either end of the deck without boxing or copying.
  */
 public abstract class Deck {
-    /** Current deck storing available cards */
-    protected ArrayList<Integer> deck;
-    /** Discard pile storing used cards, waiting to be recycled back to deck */
-    protected ArrayList<Integer> discardPile;
+    /** Current deck and discard pile, the discard pile waits to be recycled back to deck */
+    protected final IntDeck cards;
     /** Total number of cards (used during initialization) */
     protected int Num;
 
     /**
-     * Constructor, initializes the deck and discard pile.
+     * Constructor, initializes the deck and discard pile shuffled with the given random source.
      * @param num total number of cards
+     * @param cardCount number of distinct cards in the deck
+     * @param random random source used for shuffling
      */
-    public Deck(int num) {
-        deck = new ArrayList<>();
-        discardPile = new ArrayList<>();
+    public Deck(int num, int cardCount, RandomGenerator random) {
+        cards = new IntDeck(cardCount, random);
         Num = num;
     }
 
@@ -39,14 +38,32 @@ public abstract class Deck {
      * @param n number of cards needed to draw
      */
     protected void CheckAvailability(int n) {
-        // If deck doesn't have enough cards
-        if (deck.size() < n) {
-            // Shuffle discard pile
-            Collections.shuffle(discardPile);
-            // Add discard pile to bottom of deck
-            deck.addAll(discardPile);
-            // Clear discard pile
-            discardPile.clear();
+        // If deck doesn't have enough cards, shuffle discard pile and add it to bottom of deck
+        if (cards.size() < n) {
+            cards.reshuffleDiscardToBottom();
         }
     }
+
+    /**
+     * @return number of cards left in the deck
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * @return number of cards in the discard pile
+     */
+    public int discardSize() {
+        return cards.discardSize();
+    }
+
+    /**
+     * Copies both piles, e.g. to hand the deck to the rules engine.
+     * @param random random source of the copy
+     * @return independent copy of the deck and discard pile
+     */
+    public IntDeck copyPiles(RandomGenerator random) {
+        return cards.copy(random);
+    }
 }
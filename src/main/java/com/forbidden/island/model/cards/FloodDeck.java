@@ -1,10 +1,12 @@
 package com.forbidden.island.model.cards;
 
-import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.engine.FloodRisk;
+import com.forbidden.island.view.WaterMeter;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Flood deck class, extends abstract Deck class, specifically handles flood card logic in the game.
@@ -12,73 +14,94 @@ import java.util.Iterator;
 public class FloodDeck extends Deck{
     /** Currently displayed flood cards on the table */
     private final ArrayList<Integer> displayedCards;
-    /** Removed flood cards (corresponding to sunken tiles) */
-    private final ArrayList<Integer> removedFloodCard;
+    /** Buffer receiving the top cards of the deck */
+    private final int[] topCards;
     /** Whether in initialization state, draws 6 cards fixed during initialization */
     private boolean isInit;
+    /** Water meter of the owning game, determines the draw count after initialization */
+    private final WaterMeter waterMeter;
 
     /**
      * Constructor, initializes flood deck.
      * Adds flood cards numbered 1-24 and shuffles them during initialization.
      * Sets initial state to true, indicating fixed number of cards for first draw.
+     * The draw count then follows a water meter of its own, starting at the lowest level.
      */
     public FloodDeck() {
-        super(6);   // Initialize parent class, default to draw 6 cards
+        this(new WaterMeter(1));
+    }
+
+    /**
+     * Constructor, initializes flood deck for a game whose draw count follows the given water meter.
+     * @param waterMeter water meter of the owning game
+     */
+    public FloodDeck(WaterMeter waterMeter) {
+        this(waterMeter, new SplittableRandom());
+    }
+
+    /**
+     * Constructor, initializes flood deck shuffled with the given random source.
+     * @param waterMeter water meter of the owning game
+     * @param random random source used for every shuffle of this deck
+     */
+    public FloodDeck(WaterMeter waterMeter, RandomGenerator random) {
+        super(6, 25, random);   // Initialize parent class, default to draw 6 cards; card numbers go up to 24
+        this.waterMeter = waterMeter;
         displayedCards = new ArrayList<>();
-        removedFloodCard = new ArrayList<>();
+        topCards = new int[24];
         isInit = true;
 
         // Add flood cards numbered 1-24
         for (int i = 1; i <= 24; i++) {
-            deck.add(i);
+            cards.addToBottom(i);
         }
 
         // Shuffle deck
-        Collections.shuffle(deck);
+        cards.shuffle();
     }
 
     /**
      * Gets current flood cards to draw (adjusts draw count based on initialization state and water level).
+     * The cards stay on top of the deck until they are discarded, so repeated calls return the same cards.
      * @return list of currently displayed flood cards
      */
     public ArrayList<Integer> getCards() {
         if (!isInit) {
             // When not initializing, dynamically get water level to determine draw count
-            Num = ElementEngine.getFloodCardCount();
+            Num = waterMeter.getFloodCardCount();
         }
 
         // Check and replenish deck count
         CheckAvailability(Num);
 
-        // Clear current display list, prepare for update
+        // Show Num cards from top of deck, or all cards when the deck has fewer
         displayedCards.clear();
-
-        // When deck and discard pile combined have insufficient cards, show all cards
-        if (deck.size() + discardPile.size() < Num) {
-            displayedCards.addAll(deck);
-        } else {
-            // Otherwise show Num cards from top of deck
-            displayedCards.addAll(deck.subList(0, Num));
+        int count = cards.peek(Num, topCards);
+        for (int i = 0; i < count; i++) {
+            displayedCards.add(topCards[i]);
         }
         return displayedCards;
     }
 
     /**
-     * Discard operation, removes currently drawn flood cards from deck and adds them to discard pile.
+     * Computes the odds of the next flood phase of this deck, without drawing or reshuffling anything.
+     * @param board board whose tiles the cards flood
+     * @param risk reusable computation
+     * @return risk, computed for the draw count of the next phase
+     */
+    public FloodRisk computeRisk(BoardState board, FloodRisk risk) {
+        return risk.compute(board, cards, isInit ? Num : waterMeter.getFloodCardCount());
+    }
+
+    /**
+     * Discard operation, moves the currently drawn flood cards from deck to discard pile.
+     * Cards whose tile sank in the meantime have already left the deck and stay removed.
      */
     public void discard(){
-        int count = 0;
-        Iterator<Integer> iterator = deck.iterator();
-        // Iterate through deck, remove first Num cards to discard pile
-        while (iterator.hasNext()) {
-            int floodCard = iterator.next();
-            if (count < Num) {
-                discardPile.add(floodCard);
-                iterator.remove();
-                count++;
-            }
-            if (count >= Num) {
-                break;
+        for (int floodCard : displayedCards) {
+            if (cards.inDrawPile(floodCard)) {
+                cards.remove(floodCard);
+                cards.discard(floodCard);
             }
         }
     }
@@ -88,23 +111,15 @@ public class FloodDeck extends Deck{
      * Typically used when reshuffling to start over.
      */
     public void putBack2Top() {
-        if (!discardPile.isEmpty()) {
-            Collections.shuffle(discardPile);
-            // Put discard pile on top of deck
-            discardPile.addAll(deck);
-            deck.clear();
-            deck.addAll(discardPile);
-            discardPile.clear();
-        }
+        cards.reshuffleDiscardToTop();
     }
 
     /**
-     * When corresponding tile sinks, removes matching flood card from deck and records the removed card.
+     * When corresponding tile sinks, removes matching flood card from the game.
      * @param removedTile removed tile number (corresponding to flood card number)
      */
     public void removeFloodCard(int removedTile) {
-        removedFloodCard.add(removedTile);
-        deck.remove((Integer) removedTile);
+        cards.remove(removedTile);
     }
 
     /**
@@ -0,0 +1,426 @@
+package com.forbidden.island.model.cards;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Primitive deck of integer cards with a draw pile and a discard pile, built for fast repeated play.
+ * <p>
+ * The draw pile is a ring buffer, so drawing from the top and inserting at either end are O(1).
+ * A position index (card → ring index) makes removing any card O(1): the ring entry is left behind
+ * as a stale slot, skipped when reached and dropped when the ring has to be compacted.
+ * The discard pile is an unordered array with its own position index, since it is always shuffled
+ * before its cards return to the draw pile.
+ * No operation allocates after construction.
+ * <p>
+ * The deck also remembers how many ring entries at the top came from the last reshuffleDiscardToTop: players know
+ * which cards those are (they were the discard pile), only not their order. shuffleUnknown uses this to
+ * re-deal the draw pile the way a player could imagine it.
+ */
+public class IntDeck {
+    /** Marks cards that are not in a pile */
+    private static final int NONE = -1;
+
+    /** Ring buffer holding the draw pile, entries may be stale */
+    private final int[] ring;
+    /** Ring index of the top entry */
+    private int head;
+    /** Number of ring entries in use, including stale ones */
+    private int length;
+    /** Number of cards in the draw pile */
+    private int size;
+    /** Number of ring entries at the top that were put there by the last reshuffleDiscardToTop */
+    private int topEntries;
+    /** Card → ring index of the card, NONE if it is not in the draw pile */
+    private final int[] ringPosition;
+
+    /** Discard pile */
+    private final int[] discardPile;
+    /** Number of cards in the discard pile */
+    private int discardSize;
+    /** Card → index in the discard pile, NONE if it is not in the discard pile */
+    private final int[] discardPosition;
+
+    /** Random source used for every shuffle */
+    private final RandomGenerator random;
+
+    /**
+     * Creates an empty deck for cards 0 to cardCount - 1.
+     * @param cardCount number of distinct cards
+     * @param random random source used for shuffling
+     */
+    public IntDeck(int cardCount, RandomGenerator random) {
+        this.ring = new int[cardCount];
+        this.ringPosition = new int[cardCount];
+        this.discardPile = new int[cardCount];
+        this.discardPosition = new int[cardCount];
+        this.random = random;
+        Arrays.fill(ringPosition, NONE);
+        Arrays.fill(discardPosition, NONE);
+    }
+
+    /**
+     * @return number of cards in the draw pile
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of cards in the discard pile
+     */
+    public int discardSize() {
+        return discardSize;
+    }
+
+    /**
+     * @param card card number
+     * @return true if the card is in the draw pile
+     */
+    public boolean inDrawPile(int card) {
+        return ringPosition[card] != NONE;
+    }
+
+    /**
+     * @param card card number
+     * @return true if the card is in the discard pile
+     */
+    public boolean inDiscardPile(int card) {
+        return discardPosition[card] != NONE;
+    }
+
+    /**
+     * Draws the top card of the draw pile.
+     * @return the card, -1 if the draw pile is empty
+     */
+    public int draw() {
+        while (length > 0) {
+            int card = ring[head];
+            boolean live = ringPosition[card] == head;
+            head = next(head);
+            length--;
+            if (topEntries > 0) {
+                topEntries--;
+            }
+            if (live) {
+                ringPosition[card] = NONE;
+                size--;
+                return card;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Copies the top cards of the draw pile without drawing them.
+     * @param n number of cards to look at
+     * @param out buffer receiving the cards, top card first
+     * @return number of cards copied (less than n if the draw pile is smaller)
+     */
+    public int peek(int n, int[] out) {
+        int count = 0;
+        for (int i = 0, index = head; i < length && count < n; i++, index = next(index)) {
+            if (ringPosition[ring[index]] == index) {
+                out[count++] = ring[index];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Puts a card on top of the draw pile.
+     * @param card card number, must not be in either pile
+     */
+    public void addToTop(int card) {
+        ensureRoom();
+        head = head == 0 ? ring.length - 1 : head - 1;
+        ring[head] = card;
+        ringPosition[card] = head;
+        length++;
+        size++;
+        if (topEntries > 0) {
+            topEntries++;
+        }
+    }
+
+    /**
+     * Puts a card at the bottom of the draw pile.
+     * @param card card number, must not be in either pile
+     */
+    public void addToBottom(int card) {
+        ensureRoom();
+        int index = (head + length) % ring.length;
+        ring[index] = card;
+        ringPosition[card] = index;
+        length++;
+        size++;
+    }
+
+    /**
+     * Puts a card on the discard pile.
+     * @param card card number, must not be in either pile
+     * @throws IllegalStateException if the card is already in the draw or discard pile
+     */
+    public void discard(int card) {
+        if (ringPosition[card] != NONE || discardPosition[card] != NONE) {
+            throw new IllegalStateException("Card " + card + " is already in a pile");
+        }
+        discardPosition[card] = discardSize;
+        discardPile[discardSize++] = card;
+    }
+
+    /**
+     * Takes back the card discarded last, undoing discard.
+     * @return the card, -1 if the discard pile is empty
+     */
+    public int undoDiscard() {
+        if (discardSize == 0) {
+            return NONE;
+        }
+        int card = discardPile[--discardSize];
+        discardPosition[card] = NONE;
+        return card;
+    }
+
+    /**
+     * Takes a card out of the deck, wherever it is.
+     * @param card card number
+     * @return true if the card was in one of the piles
+     */
+    public boolean remove(int card) {
+        if (ringPosition[card] != NONE) {
+            ringPosition[card] = NONE;
+            size--;
+            return true;
+        }
+        int index = discardPosition[card];
+        if (index != NONE) {
+            int last = discardPile[--discardSize];
+            discardPile[index] = last;
+            discardPosition[last] = index;
+            discardPosition[card] = NONE;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shuffles the discard pile and puts it on top of the draw pile.
+     */
+    public void reshuffleDiscardToTop() {
+        shuffleDiscardPile();
+        topEntries = 0;
+        int count = discardSize;
+        while (discardSize > 0) {
+            int card = discardPile[--discardSize];
+            discardPosition[card] = NONE;
+            addToTop(card);
+        }
+        topEntries = count;
+    }
+
+    /**
+     * Shuffles the discard pile and puts it at the bottom of the draw pile.
+     */
+    public void reshuffleDiscardToBottom() {
+        shuffleDiscardPile();
+        while (discardSize > 0) {
+            int card = discardPile[--discardSize];
+            discardPosition[card] = NONE;
+            addToBottom(card);
+        }
+    }
+
+    /**
+     * Shuffles the draw pile.
+     */
+    public void shuffle() {
+        compact();
+        topEntries = 0;
+        shuffleRange(0, length);
+    }
+
+    /**
+     * Shuffles the draw pile without mixing the cards known to be on top: the cards put back by the last
+     * reshuffleDiscardToTop are shuffled among themselves and stay above the rest, which is shuffled as well.
+     * Used to sample a deck order that is consistent with what the players know.
+     */
+    public void shuffleUnknown() {
+        compact();
+        shuffleRange(0, topEntries);
+        shuffleRange(topEntries, length);
+    }
+
+    /**
+     * @return number of cards on top of the draw pile that came from the last reshuffleDiscardToTop
+     */
+    public int knownTopCount() {
+        int count = 0;
+        for (int i = 0, index = head; i < topEntries; i++, index = next(index)) {
+            if (ringPosition[ring[index]] == index) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shuffles the ring entries from..to-1, the ring must be compacted.
+     */
+    private void shuffleRange(int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            int card = ring[i];
+            ring[i] = ring[j];
+            ring[j] = card;
+            ringPosition[ring[i]] = i;
+            ringPosition[ring[j]] = j;
+        }
+    }
+
+    /**
+     * Copies the deck state of another deck of the same size.
+     * @param other deck to copy
+     */
+    public void copyFrom(IntDeck other) {
+        System.arraycopy(other.ring, 0, ring, 0, ring.length);
+        System.arraycopy(other.ringPosition, 0, ringPosition, 0, ring.length);
+        System.arraycopy(other.discardPile, 0, discardPile, 0, ring.length);
+        System.arraycopy(other.discardPosition, 0, discardPosition, 0, ring.length);
+        head = other.head;
+        length = other.length;
+        size = other.size;
+        topEntries = other.topEntries;
+        discardSize = other.discardSize;
+    }
+
+    /**
+     * Creates an independent copy of this deck.
+     * @param random random source of the copy
+     * @return deck holding the same piles
+     */
+    public IntDeck copy(RandomGenerator random) {
+        IntDeck copy = new IntDeck(ring.length, random);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * @return number of ints needed by save
+     */
+    public int stateSize() {
+        return 4 * ring.length + 5;
+    }
+
+    /**
+     * Writes the complete deck state into a buffer, to be restored later without allocating.
+     * @param out buffer with at least stateSize() ints from offset
+     * @param offset first index to write
+     */
+    public void save(int[] out, int offset) {
+        int n = ring.length;
+        System.arraycopy(ring, 0, out, offset, n);
+        System.arraycopy(ringPosition, 0, out, offset + n, n);
+        System.arraycopy(discardPile, 0, out, offset + 2 * n, n);
+        System.arraycopy(discardPosition, 0, out, offset + 3 * n, n);
+        out[offset + 4 * n] = head;
+        out[offset + 4 * n + 1] = length;
+        out[offset + 4 * n + 2] = size;
+        out[offset + 4 * n + 3] = discardSize;
+        out[offset + 4 * n + 4] = topEntries;
+    }
+
+    /**
+     * Restores a deck state written by save.
+     * @param in buffer holding the state
+     * @param offset first index of the state
+     */
+    public void restore(int[] in, int offset) {
+        int n = ring.length;
+        System.arraycopy(in, offset, ring, 0, n);
+        System.arraycopy(in, offset + n, ringPosition, 0, n);
+        System.arraycopy(in, offset + 2 * n, discardPile, 0, n);
+        System.arraycopy(in, offset + 3 * n, discardPosition, 0, n);
+        head = in[offset + 4 * n];
+        length = in[offset + 4 * n + 1];
+        size = in[offset + 4 * n + 2];
+        discardSize = in[offset + 4 * n + 3];
+        topEntries = in[offset + 4 * n + 4];
+    }
+
+    /**
+     * Compares the piles of two decks: the draw pile in order, the discard pile as a set.
+     * Stale ring entries are ignored.
+     * @param other deck to compare with
+     * @return true if both decks hold the same cards in the same places
+     */
+    public boolean sameCards(IntDeck other) {
+        if (size != other.size || discardSize != other.discardSize || ring.length != other.ring.length) {
+            return false;
+        }
+        for (int card = 0; card < ring.length; card++) {
+            if (inDiscardPile(card) != other.inDiscardPile(card)) {
+                return false;
+            }
+        }
+        for (int i = 0, a = head, b = other.head; i < size; i++, a = next(a), b = other.next(b)) {
+            while (ringPosition[ring[a]] != a) {
+                a = next(a);
+            }
+            while (other.ringPosition[other.ring[b]] != b) {
+                b = other.next(b);
+            }
+            if (ring[a] != other.ring[b]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void shuffleDiscardPile() {
+        for (int i = discardSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int card = discardPile[i];
+            discardPile[i] = discardPile[j];
+            discardPile[j] = card;
+        }
+    }
+
+    private int next(int index) {
+        return index + 1 == ring.length ? 0 : index + 1;
+    }
+
+    /**
+     * Drops stale entries when the ring is full, so a new card always has a free entry.
+     */
+    private void ensureRoom() {
+        if (length == ring.length) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves the live entries to the front of the ring, keeping their order.
+     * The live cards are collected in the discard pile's free tail, which always has room for them.
+     */
+    private void compact() {
+        int count = 0;
+        int top = 0;
+        for (int i = 0, index = head; i < length; i++, index = next(index)) {
+            if (ringPosition[ring[index]] == index) {
+                discardPile[discardSize + count++] = ring[index];
+                if (i < topEntries) {
+                    top++;
+                }
+            }
+        }
+        topEntries = top;
+        for (int i = 0; i < count; i++) {
+            int card = discardPile[discardSize + i];
+            ring[i] = card;
+            ringPosition[card] = i;
+        }
+        head = 0;
+        length = count;
+    }
+}
@@ -1,8 +1,8 @@
 package com.forbidden.island.model.cards;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Treasure deck class, extends abstract Deck class, implements specific treasure card logic.
@@ -17,14 +17,22 @@ public class TreasureDeck extends Deck{
      * Cards numbered 25-27 typically correspond to "Water Rise" cards.
      */
     public TreasureDeck() {
-        super(2);  // Initialize parent class, default to draw 2 cards
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor, initializes treasure deck shuffled with the given random source.
+     * @param random random source used for every shuffle of this deck
+     */
+    public TreasureDeck(RandomGenerator random) {
+        super(2, 28, random);  // Initialize parent class, default to draw 2 cards
         NTreasureCards = new ArrayList<>();
         // Initialize treasure cards numbered 0-27
         for (int i = 0; i < 28; i++) {
-            deck.add(i);
+            cards.addToBottom(i);
         }
         // Shuffle deck
-        Collections.shuffle(deck);
+        cards.shuffle();
     }
 
     /**
@@ -39,10 +47,10 @@ public class TreasureDeck extends Deck{
         // Clear current draw list, prepare to add newly drawn cards
         NTreasureCards.clear();
 
-        // Take Num cards from top of deck
-        NTreasureCards.addAll(deck.subList(0, Num));
-        // Remove drawn cards from deck
-        deck.subList(0, Num).clear();
+        // Take Num cards from top of deck (fewer if all other cards are held by players)
+        for (int i = 0; i < Num && cards.size() > 0; i++) {
+            NTreasureCards.add(cards.draw());
+        }
 
         return NTreasureCards;
     }
@@ -57,32 +65,21 @@ public class TreasureDeck extends Deck{
         // Check if deck has enough cards, replenish if necessary
         CheckAvailability(Num);
         NTreasureCards.clear();
-        int count = 0;
-        Iterator<Integer> iterator = deck.iterator();
-        // Iterate through deck, skip Water Rise cards, collect other treasure cards until count reached
-        while (iterator.hasNext()) {
-            int treasureCard = iterator.next();
+        // Draw from deck, skip Water Rise cards, collect other treasure cards until count reached
+        while (NTreasureCards.size() < Num && cards.size() > 0) {
+            int treasureCard = cards.draw();
             if (treasureCard >= 25 && treasureCard <= 27) {
                 // When encountering Water Rise card, discard directly
                 discard(treasureCard);
             } else {
                 // Collect normal treasure cards
                 NTreasureCards.add(treasureCard);
-                count++;
-            }
-
-            // Remove current card from deck regardless of collection
-            iterator.remove();
-
-            // Stop drawing when required card count is reached
-            if (count >= Num) {
-                break;
             }
         }
 
         // Put cards from discard pile back into deck and shuffle
-        deck.addAll(discardPile);
-        Collections.shuffle(deck);
+        cards.reshuffleDiscardToBottom();
+        cards.shuffle();
         return NTreasureCards;
     }
 
@@ -91,6 +88,6 @@ public class TreasureDeck extends Deck{
      * @param treasureID ID of treasure card to be discarded
      */
     public void discard(int treasureID) {
-        discardPile.add(treasureID);
+        cards.discard(treasureID);
     }
 }
@@ -0,0 +1,134 @@
+package com.forbidden.island.model.engine;
+
+/**
+ * Action encodes one player decision as a primitive int, so actions can be generated into
+ * plain int buffers and compared or stored without allocating.
+ * <p>
+ * Layout of the encoded value:
+ * <ul>
+ *     <li>bits 0-3: action type</li>
+ *     <li>bits 4-8: field a, a slot or a card number</li>
+ *     <li>bits 9-13: field b, a slot or a seat</li>
+ *     <li>bits 14-17: field c, a mask of seats</li>
+ *     <li>bits 18-20: seat of the player playing a card</li>
+ * </ul>
+ * Meaning of the fields per type:
+ * <ul>
+ *     <li>MOVE / FLY: a = target slot</li>
+ *     <li>SWIM: a = target slot, b = seat of the swimming player</li>
+ *     <li>SHORE_UP: a = slot, b = second slot (Engineer) or NONE</li>
+ *     <li>GIVE: a = card, b = receiving seat</li>
+ *     <li>CAPTURE: a = treasure (0 Earth ... 3 Ocean)</li>
+ *     <li>NAVIGATE: a = target slot, b = seat of the moved player</li>
+ *     <li>SANDBAG: a = card, b = slot, seat = card owner</li>
+ *     <li>HELICOPTER: a = card, b = target slot, c = seats flown, seat = card owner</li>
+ *     <li>LIFT_OFF / DISCARD: a = card, seat = card owner</li>
+ *     <li>END_ACTIONS: no fields</li>
+ * </ul>
+ */
+public final class Action {
+    /** Normal move of the current player (Explorer diagonally, Diver through flooded and sunk tiles) */
+    public static final int MOVE = 1;
+    /** Pilot flight to any tile, once per turn */
+    public static final int FLY = 2;
+    /** Swimming to safety after the tile under a pawn sank */
+    public static final int SWIM = 3;
+    /** Shore up one tile, or two for the Engineer */
+    public static final int SHORE_UP = 4;
+    /** Give a treasure card to another player */
+    public static final int GIVE = 5;
+    /** Capture a treasure figurine */
+    public static final int CAPTURE = 6;
+    /** Navigator moving another player */
+    public static final int NAVIGATE = 7;
+    /** Sandbag card shoring up any flooded tile */
+    public static final int SANDBAG = 8;
+    /** Helicopter Lift card flying a group of pawns */
+    public static final int HELICOPTER = 9;
+    /** Helicopter Lift from Fools' Landing, wins the game */
+    public static final int LIFT_OFF = 10;
+    /** Discard a card down to the hand limit */
+    public static final int DISCARD = 11;
+    /** End the action phase of the turn */
+    public static final int END_ACTIONS = 12;
+
+    /** Value of field b when it is not used */
+    public static final int NONE = 31;
+
+    /**
+     * Largest number of actions legalActions can produce for one state, the size of a sufficient buffer
+     */
+    public static final int MAX_ACTIONS = 2048;
+
+    private static final String[] NAMES = {"INVALID", "MOVE", "FLY", "SWIM", "SHORE_UP", "GIVE", "CAPTURE",
+            "NAVIGATE", "SANDBAG", "HELICOPTER", "LIFT_OFF", "DISCARD", "END_ACTIONS"};
+
+    private Action() {
+    }
+
+    /**
+     * Encodes an action.
+     *
+     * @param type action type
+     * @param a field a
+     * @param b field b
+     * @param c field c
+     * @param seat seat of the card owner
+     * @return encoded action
+     */
+    public static int of(int type, int a, int b, int c, int seat) {
+        return type | (a << 4) | (b << 9) | (c << 14) | (seat << 18);
+    }
+
+    /**
+     * Encodes an action without seat mask and card owner.
+     *
+     * @param type action type
+     * @param a field a
+     * @param b field b
+     * @return encoded action
+     */
+    public static int of(int type, int a, int b) {
+        return of(type, a, b, 0, 0);
+    }
+
+    public static int type(int action) {
+        return action & 0xF;
+    }
+
+    public static int a(int action) {
+        return (action >>> 4) & 0x1F;
+    }
+
+    public static int b(int action) {
+        return (action >>> 9) & 0x1F;
+    }
+
+    public static int c(int action) {
+        return (action >>> 14) & 0xF;
+    }
+
+    public static int seat(int action) {
+        return (action >>> 18) & 0x7;
+    }
+
+    /**
+     * @param action encoded action
+     * @return true if the action uses up one of the three actions of the turn
+     */
+    public static boolean costsAction(int action) {
+        int type = type(action);
+        return type == MOVE || type == FLY || type == SHORE_UP || type == GIVE
+                || type == CAPTURE || type == NAVIGATE;
+    }
+
+    /**
+     * @param action encoded action
+     * @return readable form of the action, used in logs and test messages
+     */
+    public static String toString(int action) {
+        int type = type(action);
+        String name = type < NAMES.length ? NAMES[type] : NAMES[0];
+        return name + "(a=" + a(action) + ", b=" + b(action) + ", c=" + c(action) + ", seat=" + seat(action) + ")";
+    }
+}
@@ -0,0 +1,91 @@
+package com.forbidden.island.model.engine;
+
+/**
+ * Cards holds the treasure card numbering used by the treasure deck, and helpers for hands kept as card masks.
+ * <p>
+ * Every treasure card number is unique, so a hand is an int with bit i set when card i is held:
+ * cards 0-19 are treasure cards (treasure i owns cards 5i to 5i+4), 20-22 are Helicopter Lift,
+ * 23-24 are Sandbags and 25-27 are Waters Rise!
+ */
+public final class Cards {
+    /** Number of distinct treasure deck cards */
+    public static final int TREASURE_DECK_SIZE = 28;
+    /** Number of distinct flood cards, card i floods the tile with ID i (1-24) */
+    public static final int FLOOD_DECK_SIZE = 25;
+    /** Number of treasure cards needed to capture a figurine */
+    public static final int CAPTURE_COST = 4;
+    /** Largest hand a player may keep at the end of a draw */
+    public static final int HAND_LIMIT = 5;
+
+    /** Mask of the 20 treasure cards */
+    public static final int TREASURE_MASK = (1 << 20) - 1;
+    /** Mask of the Helicopter Lift cards */
+    public static final int HELICOPTER_MASK = 0b111 << 20;
+    /** Mask of the Sandbag cards */
+    public static final int SANDBAG_MASK = 0b11 << 23;
+    /** Mask of the Waters Rise! cards */
+    public static final int WATER_RISE_MASK = 0b111 << 25;
+
+    private Cards() {
+    }
+
+    /**
+     * @param treasure treasure number (0 Earth ... 3 Ocean)
+     * @return mask of the five cards of the treasure
+     */
+    public static int treasureMask(int treasure) {
+        return 0b11111 << (treasure * 5);
+    }
+
+    /**
+     * @param card treasure card number (0-19)
+     * @return treasure of the card
+     */
+    public static int treasureOf(int card) {
+        return card / 5;
+    }
+
+    /**
+     * @param card treasure deck card number
+     * @return kind of the card: 0-3 treasure, 4 Helicopter Lift, 5 Sandbag, 6 Waters Rise!
+     */
+    public static int kindOf(int card) {
+        if (card < 20) {
+            return card / 5;
+        }
+        return card < 23 ? 4 : card < 25 ? 5 : 6;
+    }
+
+    /**
+     * @param kind card kind, see kindOf
+     * @return mask of all cards of the kind
+     */
+    public static int kindMask(int kind) {
+        switch (kind) {
+            case 4:
+                return HELICOPTER_MASK;
+            case 5:
+                return SANDBAG_MASK;
+            case 6:
+                return WATER_RISE_MASK;
+            default:
+                return treasureMask(kind);
+        }
+    }
+
+    /**
+     * @param mask card mask
+     * @return lowest card in the mask, -1 if it is empty
+     */
+    public static int lowest(int mask) {
+        return mask == 0 ? -1 : Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * @param mask card mask
+     * @return number of cards in the mask
+     */
+    public static int count(int mask) {
+        return Integer.bitCount(mask);
+    }
+}
@@ -0,0 +1,214 @@
+package com.forbidden.island.model.engine;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.view.WaterMeter;
+
+/**
+ * FloodRisk computes the exact odds of the next flood phase from what the players know: the cards in the flood
+ * draw pile, the discard pile and the removed cards, the water level, and how many cards the last Water Rise put
+ * back on top of the draw pile.
+ * <p>
+ * The draw pile is two shuffled segments: the known top cards (the discard pile put back on top) above the rest.
+ * Drawing d cards from the top takes min(d, t) of the t top cards and the remainder from the rest, and every card
+ * of a segment of n cards is equally likely to be among its drawn cards. The chance that a given set of u cards is
+ * drawn from a segment is the hypergeometric d(d-1)...(d-u+1) / n(n-1)...(n-u+1), and the two segments are
+ * independent because the number of cards drawn from each one is fixed.
+ * <p>
+ * Like FloodDeck and GameEngine, a draw pile shorter than the phase gets the shuffled discard pile below it before
+ * the phase. Then every card of the draw pile is certain to be drawn, and the rest of the draws is random among the
+ * former discard pile. A card is drawn at most once per phase, the cards drawn in it wait in the new discard pile.
+ * <p>
+ * The odds assume the flood phase happens in the current state: shoring up and a Water Rise drawn before it are
+ * not anticipated. An instance is reusable and allocates nothing while computing.
+ */
+public final class FloodRisk {
+    private static final int DRY = 0;
+    private static final int FLOODED = 1;
+    private static final int SUNK = 2;
+    /** Card is not among the random draws */
+    private static final int NOT_DRAWN = -1;
+
+    /** Tile ID → status before the random draws */
+    private final int[] status = new int[Cards.FLOOD_DECK_SIZE];
+    /** Tile ID → status when the computation started */
+    private final int[] initialStatus = new int[Cards.FLOOD_DECK_SIZE];
+    /** Tile ID → segment of the random draws holding the card, NOT_DRAWN if none */
+    private final int[] segment = new int[Cards.FLOOD_DECK_SIZE];
+    /** Cards drawn from / cards in each segment of the random draws */
+    private final int[] segmentDraws = new int[2];
+    private final int[] segmentSizes = new int[2];
+
+    /** Cards of the draw pile in draw order */
+    private final int[] drawPile = new int[Cards.FLOOD_DECK_SIZE];
+
+    /** Treasures that have not been captured, then their count */
+    private final int[] uncapturedTreasures = new int[4];
+    private int uncapturedCount;
+
+    /**
+     * Computes the odds for a game state.
+     *
+     * @param state game state
+     * @return this
+     */
+    public FloodRisk compute(GameState state) {
+        return compute(state.getBoard(), state.getFloodDeck(), WaterMeter.floodCardCountAt(state.getWaterLevel()));
+    }
+
+    /**
+     * Computes the odds for the flood deck of a board.
+     *
+     * @param board board holding the tiles
+     * @param floodDeck flood deck, cards are tile IDs
+     * @param count flood cards drawn in the phase, see WaterMeter.getFloodCardCount
+     * @return this
+     */
+    public FloodRisk compute(BoardState board, IntDeck floodDeck, int count) {
+        uncapturedCount = 0;
+        for (int treasure = 0; treasure < 4; treasure++) {
+            if (!board.isCaptured(board.getSlotOfTile(2 * treasure + 1))) {
+                uncapturedTreasures[uncapturedCount++] = treasure;
+            }
+        }
+        status[0] = SUNK;
+        for (int tileId = 1; tileId < status.length; tileId++) {
+            int slot = board.getSlotOfTile(tileId);
+            status[tileId] = slot == BoardState.NO_SLOT || !board.isExist(slot) ? SUNK
+                    : board.isFlooded(slot) ? FLOODED : DRY;
+            segment[tileId] = NOT_DRAWN;
+        }
+        System.arraycopy(status, 0, initialStatus, 0, status.length);
+
+        int drawSize = floodDeck.peek(floodDeck.size(), drawPile);
+        if (count <= drawSize) {
+            // The phase draws from the draw pile only
+            int top = Math.min(floodDeck.knownTopCount(), drawSize);
+            int fromTop = Math.min(count, top);
+            segmentSizes[0] = top;
+            segmentDraws[0] = fromTop;
+            segmentSizes[1] = drawSize - top;
+            segmentDraws[1] = count - fromTop;
+            for (int i = 0; i < drawSize; i++) {
+                segment[drawPile[i]] = i < top ? 0 : 1;
+            }
+            return this;
+        }
+
+        // The whole draw pile is drawn, the rest comes from the discard pile reshuffled below it
+        for (int i = 0; i < drawSize; i++) {
+            status[drawPile[i]]++;
+        }
+        int discardSize = 0;
+        for (int tileId = 1; tileId < status.length; tileId++) {
+            if (floodDeck.inDiscardPile(tileId)) {
+                segment[tileId] = 1;
+                discardSize++;
+            }
+        }
+        segmentSizes[0] = segmentDraws[0] = 0;
+        segmentSizes[1] = discardSize;
+        segmentDraws[1] = Math.min(count - drawSize, discardSize);
+        return this;
+    }
+
+    /**
+     * @param tileId tile ID (1-24)
+     * @return probability that the flood card of the tile is among the random draws
+     */
+    private double drawProbability(int tileId) {
+        int s = segment[tileId];
+        return s == NOT_DRAWN || segmentSizes[s] == 0 ? 0 : (double) segmentDraws[s] / segmentSizes[s];
+    }
+
+    /**
+     * @param tileId tile ID (1-24)
+     * @return probability that the tile, dry now, is flooded after the phase
+     */
+    public double getFloodProbability(int tileId) {
+        if (initialStatus[tileId] != DRY) {
+            return 0;
+        }
+        double drawn = drawProbability(tileId);
+        return status[tileId] == FLOODED ? 1 - drawn : drawn;
+    }
+
+    /**
+     * @param tileId tile ID (1-24)
+     * @return probability that the tile sinks in the phase, 0 for tiles that have sunk already
+     */
+    public double getSinkProbability(int tileId) {
+        if (initialStatus[tileId] == SUNK) {
+            return 0;
+        }
+        return status[tileId] == SUNK ? 1 : status[tileId] == FLOODED ? drawProbability(tileId) : 0;
+    }
+
+    /**
+     * Probability that the phase loses the game: Fools' Landing sinks, or the last shrines of a treasure that has
+     * not been captured sink. Computed exactly by inclusion-exclusion over these events.
+     *
+     * @return probability of losing the game in the phase
+     */
+    public double getLossProbability() {
+        int events = uncapturedCount + 1;
+        double loss = 0;
+        for (int subset = 1; subset < 1 << events; subset++) {
+            // Tiles that must all sink for every event of the subset
+            int tiles = 0;
+            for (int event = 0; event < events; event++) {
+                if ((subset & (1 << event)) == 0) {
+                    continue;
+                }
+                if (event == uncapturedCount) {
+                    tiles |= 1 << GameState.FOOLS_LANDING_TILE_ID;
+                } else {
+                    int treasure = uncapturedTreasures[event];
+                    tiles |= (1 << (2 * treasure + 1)) | (1 << (2 * treasure + 2));
+                }
+            }
+            double p = allSinkProbability(tiles);
+            loss += Integer.bitCount(subset) % 2 == 1 ? p : -p;
+        }
+        return Math.max(0, Math.min(1, loss));
+    }
+
+    /**
+     * @param tiles mask of tile IDs
+     * @return probability that every tile of the mask has sunk after the phase
+     */
+    private double allSinkProbability(int tiles) {
+        int drawnTop = 0;
+        int drawnRest = 0;
+        for (int rest = tiles; rest != 0; rest &= rest - 1) {
+            int tileId = Integer.numberOfTrailingZeros(rest);
+            if (status[tileId] == SUNK) {
+                continue;
+            }
+            if (status[tileId] == DRY || segment[tileId] == NOT_DRAWN) {
+                return 0;
+            }
+            if (segment[tileId] == 0) {
+                drawnTop++;
+            } else {
+                drawnRest++;
+            }
+        }
+        return hypergeometric(segmentDraws[0], segmentSizes[0], drawnTop)
+                * hypergeometric(segmentDraws[1], segmentSizes[1], drawnRest);
+    }
+
+    /**
+     * @return probability that u given cards are all among d cards drawn from n
+     */
+    private static double hypergeometric(int d, int n, int u) {
+        double p = 1;
+        for (int i = 0; i < u; i++) {
+            if (d - i <= 0) {
+                return 0;
+            }
+            p *= (double) (d - i) / (n - i);
+        }
+        return p;
+    }
+}
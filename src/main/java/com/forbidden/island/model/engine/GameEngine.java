@@ -0,0 +1,395 @@
+package com.forbidden.island.model.engine;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.view.WaterMeter;
+
+import java.util.Arrays;
+
+import static com.forbidden.island.model.engine.GameState.*;
+
+/**
+ * GameEngine plays actions on a GameState and takes them back again, so a search can try an action,
+ * evaluate the result and roll back without copying the state.
+ * <p>
+ * Every apply pushes one undo record of eight longs onto a primitive stack: the three board words, both hands
+ * words, the packed scalars (figurines, water level, phase, outcome, player, action count, flags, turn)
+ * and the two halves of the Zobrist hash, which undo restores instead of recomputing.
+ * Cards discarded during an action are taken back from the discard pile on undo. Only actions that draw
+ * cards (ending the actions, or leaving the discard phase into the flood phase) also save both decks,
+ * into a growable int buffer. After warm-up, apply and undo do not allocate.
+ * <p>
+ * Undo restores the state, not the random sources of the decks: after an undone reshuffle,
+ * the next reshuffle may come out differently.
+ */
+public class GameEngine {
+    /** Longs per undo record */
+    private static final int STRIDE = 8;
+    /** Record flag: both decks were saved */
+    private static final long DECKS_SAVED = 1L << 35;
+
+    private final GameState state;
+
+    /** Undo records, STRIDE longs each */
+    private long[] records = new long[STRIDE * 64];
+    /** Number of records on the stack */
+    private int depth;
+
+    /** Saved deck states, treasure deck followed by flood deck */
+    private int[] deckStates;
+    /** Ints per saved pair of decks */
+    private final int deckStateSize;
+    /** Number of saved pairs of decks */
+    private int deckDepth;
+
+    /** Cards discarded to the treasure deck by the action being applied */
+    private int discards;
+
+    /**
+     * @param state state to play on, changed in place
+     */
+    public GameEngine(GameState state) {
+        this.state = state;
+        this.deckStateSize = state.treasureDeck.stateSize() + state.floodDeck.stateSize();
+        this.deckStates = new int[deckStateSize * 8];
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * @return number of actions that can be undone
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Enumerates the legal actions of the current state, see Rules.legalActions.
+     *
+     * @param buffer buffer receiving the encoded actions
+     * @return number of actions written
+     */
+    public int legalActions(int[] buffer) {
+        return Rules.legalActions(state, buffer);
+    }
+
+    // ====== Apply ======
+
+    /**
+     * Plays an action. The action must be legal in the current state (see Rules), this is not checked.
+     *
+     * @param action encoded action
+     */
+    public void apply(int action) {
+        if (state.phase == OVER) {
+            throw new IllegalStateException("Game is over");
+        }
+        int type = Action.type(action);
+        boolean saveDecks = type == Action.END_ACTIONS || state.phase == DISCARD;
+        pushRecord(saveDecks);
+        discards = 0;
+
+        int seat = state.currentPlayer;
+        switch (type) {
+            case Action.MOVE:
+                moveSeat(seat, Action.a(action));
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.FLY:
+                moveSeat(seat, Action.a(action));
+                state.setPilotFlown(true);
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.SWIM:
+                moveSeat(Action.b(action), Action.a(action));
+                if (state.getSwimmer() < 0) {
+                    endTurn();
+                }
+                break;
+            case Action.SHORE_UP:
+                state.board.shoreUp(Action.a(action));
+                if (Action.b(action) != Action.NONE) {
+                    state.board.shoreUp(Action.b(action));
+                }
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.GIVE:
+                give(seat, Action.b(action), Action.a(action));
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.CAPTURE:
+                capture(seat, Action.a(action));
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.NAVIGATE:
+                moveSeat(Action.b(action), Action.a(action));
+                state.setActionsTaken(state.actionsTaken + 1);
+                break;
+            case Action.SANDBAG:
+                playCard(Action.seat(action), Action.a(action));
+                state.board.shoreUp(Action.b(action));
+                resolveDiscard();
+                break;
+            case Action.HELICOPTER:
+                playCard(Action.seat(action), Action.a(action));
+                for (int flown = Action.c(action); flown != 0; flown &= flown - 1) {
+                    moveSeat(Integer.numberOfTrailingZeros(flown), Action.b(action));
+                }
+                resolveDiscard();
+                break;
+            case Action.LIFT_OFF:
+                playCard(Action.seat(action), Action.a(action));
+                finish(WON);
+                break;
+            case Action.DISCARD:
+                playCard(Action.seat(action), Action.a(action));
+                resolveDiscard();
+                break;
+            case Action.END_ACTIONS:
+                endActions();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid action: " + Action.toString(action));
+        }
+        records[(depth - 1) * STRIDE + 5] |= (long) discards << 32;
+    }
+
+    private void moveSeat(int seat, int slot) {
+        state.board.setPawnSlot(state.roles[seat], slot);
+    }
+
+    private void give(int from, int to, int card) {
+        state.removeCard(from, card);
+        state.addCard(to, card);
+        if (Cards.count(state.hands[to]) > Cards.HAND_LIMIT) {
+            state.setPhase(DISCARD);
+        }
+    }
+
+    private void capture(int seat, int treasure) {
+        for (int i = 0; i < Cards.CAPTURE_COST; i++) {
+            playCard(seat, Cards.lowest(state.hands[seat] & Cards.treasureMask(treasure)));
+        }
+        state.figurines |= 1 << treasure;
+        // Shrines of treasure i are tiles 2i+1 and 2i+2
+        state.board.setCaptured(state.board.getSlotOfTile(2 * treasure + 1));
+        state.board.setCaptured(state.board.getSlotOfTile(2 * treasure + 2));
+    }
+
+    /**
+     * Takes a card out of a hand onto the treasure discard pile.
+     */
+    private void playCard(int seat, int card) {
+        state.removeCard(seat, card);
+        state.treasureDeck.discard(card);
+        discards++;
+    }
+
+    /**
+     * Leaves the discard phase once no hand is over the limit, continuing with the flood if it was pending.
+     */
+    private void resolveDiscard() {
+        if (state.phase != DISCARD || state.getOverfullHand() >= 0) {
+            return;
+        }
+        state.setPhase(ACTION);
+        if (state.floodPending) {
+            state.setFloodPending(false);
+            floodIsland();
+        }
+    }
+
+    // ====== End of Turn ======
+
+    /**
+     * Draws two treasure cards, then floods the island unless a hand has to be discarded first.
+     */
+    private void endActions() {
+        drawTreasureCards();
+        if (state.phase == OVER) {
+            return;
+        }
+        if (state.getOverfullHand() >= 0) {
+            state.setPhase(DISCARD);
+            state.setFloodPending(true);
+            return;
+        }
+        floodIsland();
+    }
+
+    private void drawTreasureCards() {
+        if (state.treasureDeck.size() < 2) {
+            state.treasureDeck.reshuffleDiscardToBottom();
+        }
+        boolean rose = false;
+        for (int i = 0; i < 2; i++) {
+            int card = state.treasureDeck.draw();
+            if (card < 0) {
+                break; // All other cards are held by players
+            }
+            if (((1 << card) & Cards.WATER_RISE_MASK) != 0) {
+                state.setWaterLevel(state.waterLevel + 1);
+                state.treasureDeck.discard(card);
+                rose = true;
+            } else {
+                state.addCard(state.currentPlayer, card);
+            }
+        }
+        if (rose) {
+            state.floodDeck.reshuffleDiscardToTop();
+            if (state.waterLevel >= SKULL_LEVEL) {
+                finish(LOST_WATER);
+            }
+        }
+    }
+
+    /**
+     * Draws the flood cards of the water level; sunk tiles leave the flood deck for good.
+     * Like FloodDeck in the client, a draw pile that is too short gets the shuffled discard pile below it before
+     * the phase, so the cards drawn in the phase cannot come up twice in it.
+     * Ends the game if Fools' Landing or both shrines of an uncaptured treasure sank, or if a player in the
+     * water cannot swim anywhere.
+     */
+    private void floodIsland() {
+        BoardState board = state.board;
+        int count = WaterMeter.floodCardCountAt(state.waterLevel);
+        if (state.floodDeck.size() < count) {
+            state.floodDeck.reshuffleDiscardToBottom();
+        }
+        for (int i = 0; i < count; i++) {
+            int tileId = state.floodDeck.draw();
+            if (tileId < 0) {
+                break;
+            }
+            if (!board.flood(board.getSlotOfTile(tileId))) {
+                state.floodDeck.discard(tileId);
+            }
+        }
+
+        if (board.isLandingSunk()) {
+            finish(LOST_FOOLS_LANDING);
+            return;
+        }
+        if (board.isShrinesFlooded()) {
+            finish(LOST_SHRINES);
+            return;
+        }
+        boolean swimming = false;
+        for (int seat = 0; seat < state.numPlayers; seat++) {
+            int slot = state.getPawnSlot(seat);
+            if (!board.isExist(slot)) {
+                if (Rules.swimTargets(board, state.roles[seat], slot) == 0) {
+                    finish(LOST_DROWNED);
+                    return;
+                }
+                swimming = true;
+            }
+        }
+        if (swimming) {
+            state.setPhase(SWIM);
+        } else {
+            endTurn();
+        }
+    }
+
+    private void endTurn() {
+        state.setCurrentPlayer((state.currentPlayer + 1) % state.numPlayers);
+        state.setActionsTaken(0);
+        state.setPilotFlown(false);
+        state.turn++;
+        state.setPhase(ACTION);
+    }
+
+    private void finish(int outcome) {
+        state.setPhase(OVER);
+        state.outcome = outcome;
+    }
+
+    // ====== Undo ======
+
+    /**
+     * Takes back the last applied action, restoring the exact state before it.
+     */
+    public void undo() {
+        if (depth == 0) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        int base = --depth * STRIDE;
+        state.board.restore(records[base], (int) (records[base + 2] & BoardState.ALL_SLOTS), records[base + 1],
+                records[base + 6]);
+        state.hash = records[base + 7];
+
+        long scalars = records[base + 2];
+        state.figurines = (int) (scalars >>> 24) & 0xF;
+        state.waterLevel = (int) (scalars >>> 28) & 0xF;
+        state.phase = (int) (scalars >>> 32) & 0x3;
+        state.outcome = (int) (scalars >>> 34) & 0x7;
+        state.currentPlayer = (int) (scalars >>> 37) & 0x3;
+        state.actionsTaken = (int) (scalars >>> 39) & 0x3;
+        state.pilotFlown = (scalars & (1L << 41)) != 0;
+        state.floodPending = (scalars & (1L << 42)) != 0;
+
+        for (int seat = 0; seat < state.numPlayers; seat++) {
+            state.hands[seat] = (int) (records[base + 3 + seat / 2] >>> ((seat & 1) * 32));
+        }
+
+        long rest = records[base + 5];
+        state.turn = (int) rest;
+        if ((rest & DECKS_SAVED) != 0) {
+            int offset = --deckDepth * deckStateSize;
+            state.treasureDeck.restore(deckStates, offset);
+            state.floodDeck.restore(deckStates, offset + state.treasureDeck.stateSize());
+        } else {
+            for (int i = (int) (rest >>> 32) & 0x7; i > 0; i--) {
+                state.treasureDeck.undoDiscard();
+            }
+        }
+    }
+
+    /**
+     * Drops all undo records, making the current state the new starting point.
+     * Long-running games call this after each committed action to keep the undo stack small.
+     */
+    public void clearHistory() {
+        depth = 0;
+        deckDepth = 0;
+    }
+
+    private void pushRecord(boolean saveDecks) {
+        if ((depth + 1) * STRIDE > records.length) {
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+        int base = depth++ * STRIDE;
+        BoardState board = state.board;
+        records[base] = board.getTileBits();
+        records[base + 1] = board.getPawnBits();
+        records[base + 2] = board.getCapturedBits()
+                | (long) state.figurines << 24
+                | (long) state.waterLevel << 28
+                | (long) state.phase << 32
+                | (long) state.outcome << 34
+                | (long) state.currentPlayer << 37
+                | (long) state.actionsTaken << 39
+                | (state.pilotFlown ? 1L << 41 : 0)
+                | (state.floodPending ? 1L << 42 : 0);
+        records[base + 3] = 0;
+        records[base + 4] = 0;
+        for (int seat = 0; seat < state.numPlayers; seat++) {
+            records[base + 3 + seat / 2] |= (state.hands[seat] & 0xFFFFFFFFL) << ((seat & 1) * 32);
+        }
+        records[base + 5] = state.turn & 0xFFFFFFFFL;
+        records[base + 6] = board.getHash();
+        records[base + 7] = state.hash;
+
+        if (saveDecks) {
+            if ((deckDepth + 1) * deckStateSize > deckStates.length) {
+                deckStates = Arrays.copyOf(deckStates, deckStates.length * 2);
+            }
+            int offset = deckDepth++ * deckStateSize;
+            state.treasureDeck.save(deckStates, offset);
+            state.floodDeck.save(deckStates, offset + state.treasureDeck.stateSize());
+            records[base + 5] |= DECKS_SAVED;
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package com.forbidden.island.model.engine;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.Zobrist;
+import com.forbidden.island.model.cards.IntDeck;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameState is the complete state of one game in primitive form, the input of the rules engine.
+ * <p>
+ * Unlike a GameSession it has no GUI-facing selection state: the board is a BoardState, hands are card masks
+ * (see Cards), and both decks are IntDecks. Players are addressed by their seat (turn order), their pawns by
+ * their role, so {@code getBoard().getPawnSlot(getRole(seat))} is the slot of a player.
+ * A pawn standing on a sunk slot is in the water and has to swim.
+ * <p>
+ * getHash returns a 64-bit Zobrist hash of the board, the hands (as multisets of card kinds), the water level,
+ * the current player, the action count, the phase and the Pilot flight and pending flood flags. It is maintained incrementally: the board part by
+ * BoardState, the rest by the mutators of this class, so it must not be bypassed.
+ */
+public class GameState {
+    // ====== Roles ======
+
+    public static final int DIVER = 0;
+    public static final int ENGINEER = 1;
+    public static final int EXPLORER = 2;
+    public static final int MESSENGER = 3;
+    public static final int NAVIGATOR = 4;
+    public static final int PILOT = 5;
+
+    /** Tile ID of Fools' Landing */
+    public static final int FOOLS_LANDING_TILE_ID = BoardState.FOOLS_LANDING_TILE_ID;
+
+    /** Number of actions a player may take per turn */
+    public static final int ACTIONS_PER_TURN = 3;
+
+    /** Water level at which the game is lost */
+    public static final int SKULL_LEVEL = 10;
+
+    // ====== Phases ======
+
+    /** Current player takes up to three actions */
+    public static final int ACTION = 0;
+    /** A player holds more than five cards and has to discard or play cards */
+    public static final int DISCARD = 1;
+    /** Players on sunk tiles have to swim to safety */
+    public static final int SWIM = 2;
+    /** Game has ended, see getOutcome */
+    public static final int OVER = 3;
+
+    // ====== Outcomes ======
+
+    public static final int ONGOING = 0;
+    public static final int WON = 1;
+    /** Water level reached the skull */
+    public static final int LOST_WATER = 2;
+    /** Fools' Landing sank */
+    public static final int LOST_FOOLS_LANDING = 3;
+    /** Both shrines of an uncaptured treasure sank */
+    public static final int LOST_SHRINES = 4;
+    /** A player had nowhere to swim to */
+    public static final int LOST_DROWNED = 5;
+
+    final BoardState board;
+    final int numPlayers;
+    /** Seat → adventurer role */
+    final int[] roles;
+    /** Seat → hand as card mask */
+    final int[] hands;
+    /** Captured figurines, bit i for treasure i */
+    int figurines;
+    int waterLevel;
+    int phase = ACTION;
+    int outcome = ONGOING;
+    int currentPlayer;
+    int actionsTaken;
+    /** Whether the Pilot has used the flight of this turn */
+    boolean pilotFlown;
+    /** Whether the flood cards of this turn are still to be drawn (after a discard) */
+    boolean floodPending;
+    /** Number of finished turns */
+    int turn;
+    final IntDeck treasureDeck;
+    final IntDeck floodDeck;
+    /** Zobrist hash of everything except the board */
+    long hash;
+
+    /**
+     * Creates a state at the start of the first player's turn with empty hands.
+     *
+     * @param board board with the pawns placed
+     * @param roles adventurer role of each seat
+     * @param waterLevel water level (1-9)
+     * @param treasureDeck treasure deck (cards 0-27)
+     * @param floodDeck flood deck (cards 1-24)
+     */
+    public GameState(BoardState board, int[] roles, int waterLevel, IntDeck treasureDeck, IntDeck floodDeck) {
+        this.board = board;
+        this.numPlayers = roles.length;
+        this.roles = roles.clone();
+        this.hands = new int[roles.length];
+        this.waterLevel = waterLevel;
+        this.treasureDeck = treasureDeck;
+        this.floodDeck = floodDeck;
+        this.hash = Zobrist.water(waterLevel) ^ Zobrist.player(0) ^ Zobrist.actions(0) ^ Zobrist.phase(ACTION);
+    }
+
+    /**
+     * Creates an independent copy of another state.
+     *
+     * @param other state to copy
+     * @param random random source of the copied decks
+     */
+    public GameState(GameState other, RandomGenerator random) {
+        this.board = other.board.copy();
+        this.numPlayers = other.numPlayers;
+        this.roles = other.roles.clone();
+        this.hands = other.hands.clone();
+        this.figurines = other.figurines;
+        this.waterLevel = other.waterLevel;
+        this.phase = other.phase;
+        this.outcome = other.outcome;
+        this.currentPlayer = other.currentPlayer;
+        this.actionsTaken = other.actionsTaken;
+        this.pilotFlown = other.pilotFlown;
+        this.floodPending = other.floodPending;
+        this.turn = other.turn;
+        this.treasureDeck = other.treasureDeck.copy(random);
+        this.floodDeck = other.floodDeck.copy(random);
+        this.hash = other.hash;
+    }
+
+    /**
+     * Sets up a new game the way a GameSession does: random roles and island, two treasure cards
+     * (no Waters Rise!) per player and six tiles flooded.
+     *
+     * @param numPlayers number of players (2-4)
+     * @param waterLevel initial water level
+     * @param random random source, also used by the decks
+     * @return state at the start of the first turn
+     */
+    public static GameState newGame(int numPlayers, int waterLevel, RandomGenerator random) {
+        int[] allRoles = {DIVER, ENGINEER, EXPLORER, MESSENGER, NAVIGATOR, PILOT};
+        shuffle(allRoles, random);
+        int[] roles = new int[numPlayers];
+        System.arraycopy(allRoles, 0, roles, 0, numPlayers);
+
+        int[] slotTiles = new int[BoardState.SLOT_COUNT];
+        for (int i = 0; i < slotTiles.length; i++) {
+            slotTiles[i] = i + 1;
+        }
+        shuffle(slotTiles, random);
+        BoardState board = new BoardState(slotTiles);
+        for (int role : roles) {
+            // Start tiles are 9 (Diver) to 14 (Pilot)
+            board.setPawnSlot(role, board.getSlotOfTile(role + 9));
+        }
+
+        IntDeck treasureDeck = new IntDeck(Cards.TREASURE_DECK_SIZE, random);
+        for (int card = 0; card < Cards.TREASURE_DECK_SIZE; card++) {
+            treasureDeck.addToBottom(card);
+        }
+        treasureDeck.shuffle();
+        IntDeck floodDeck = new IntDeck(Cards.FLOOD_DECK_SIZE, random);
+        for (int tileId = 1; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+            floodDeck.addToBottom(tileId);
+        }
+        floodDeck.shuffle();
+
+        GameState state = new GameState(board, roles, waterLevel, treasureDeck, floodDeck);
+
+        // Deal two cards to each player, Waters Rise! cards go back into the deck
+        for (int seat = 0; seat < numPlayers; seat++) {
+            while (Cards.count(state.hands[seat]) < 2) {
+                int card = treasureDeck.draw();
+                if (((1 << card) & Cards.WATER_RISE_MASK) != 0) {
+                    treasureDeck.discard(card);
+                } else {
+                    state.addCard(seat, card);
+                }
+            }
+        }
+        treasureDeck.reshuffleDiscardToBottom();
+        treasureDeck.shuffle();
+
+        // Island starts to sink
+        for (int i = 0; i < 6; i++) {
+            int tileId = floodDeck.draw();
+            board.flood(board.getSlotOfTile(tileId));
+            floodDeck.discard(tileId);
+        }
+        return state;
+    }
+
+    private static void shuffle(int[] values, RandomGenerator random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    // ====== Players ======
+
+    /**
+     * @param seat seat of a player
+     * @return slot of the player's pawn
+     */
+    public int getPawnSlot(int seat) {
+        return board.getPawnSlot(roles[seat]);
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return mask of the seats (bit i for seat i) whose pawns stand on the slot
+     */
+    public int getSeatsOn(int slot) {
+        int seats = 0;
+        for (int seat = 0; seat < numPlayers; seat++) {
+            if (board.getPawnSlot(roles[seat]) == slot) {
+                seats |= 1 << seat;
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * @return first seat whose pawn is on a sunk slot, -1 if nobody is in the water
+     */
+    public int getSwimmer() {
+        for (int seat = 0; seat < numPlayers; seat++) {
+            if (!board.isExist(getPawnSlot(seat))) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return first seat holding more cards than the hand limit, -1 if there is none
+     */
+    public int getOverfullHand() {
+        for (int seat = 0; seat < numPlayers; seat++) {
+            if (Cards.count(hands[seat]) > Cards.HAND_LIMIT) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    // ====== Accessors ======
+
+    public BoardState getBoard() {
+        return board;
+    }
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public int getRole(int seat) {
+        return roles[seat];
+    }
+
+    public int getHand(int seat) {
+        return hands[seat];
+    }
+
+    public void setHand(int seat, int hand) {
+        for (int rest = hands[seat]; rest != 0; rest &= rest - 1) {
+            removeCard(seat, Integer.numberOfTrailingZeros(rest));
+        }
+        for (int rest = hand; rest != 0; rest &= rest - 1) {
+            addCard(seat, Integer.numberOfTrailingZeros(rest));
+        }
+    }
+
+    /**
+     * Puts a card into a hand.
+     *
+     * @param seat seat of the player
+     * @param card card number, not in the hand yet
+     */
+    void addCard(int seat, int card) {
+        int kind = Cards.kindOf(card);
+        hash ^= Zobrist.card(seat, kind, Cards.count(hands[seat] & Cards.kindMask(kind)));
+        hands[seat] |= 1 << card;
+    }
+
+    /**
+     * Takes a card out of a hand.
+     *
+     * @param seat seat of the player
+     * @param card card number, held by the player
+     */
+    void removeCard(int seat, int card) {
+        int kind = Cards.kindOf(card);
+        hands[seat] &= ~(1 << card);
+        hash ^= Zobrist.card(seat, kind, Cards.count(hands[seat] & Cards.kindMask(kind)));
+    }
+
+    public int getFigurines() {
+        return figurines;
+    }
+
+    /**
+     * @param treasure treasure number (0 Earth ... 3 Ocean)
+     * @return true if the figurine has been captured
+     */
+    public boolean isCaptured(int treasure) {
+        return (figurines & (1 << treasure)) != 0;
+    }
+
+    public void setFigurines(int figurines) {
+        this.figurines = figurines;
+    }
+
+    public int getWaterLevel() {
+        return waterLevel;
+    }
+
+    void setWaterLevel(int waterLevel) {
+        hash ^= Zobrist.water(this.waterLevel) ^ Zobrist.water(waterLevel);
+        this.waterLevel = waterLevel;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    void setPhase(int phase) {
+        hash ^= Zobrist.phase(this.phase) ^ Zobrist.phase(phase);
+        this.phase = phase;
+    }
+
+    public int getOutcome() {
+        return outcome;
+    }
+
+    public boolean isOver() {
+        return phase == OVER;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public void setCurrentPlayer(int currentPlayer) {
+        hash ^= Zobrist.player(this.currentPlayer) ^ Zobrist.player(currentPlayer);
+        this.currentPlayer = currentPlayer;
+    }
+
+    public int getActionsTaken() {
+        return actionsTaken;
+    }
+
+    public void setActionsTaken(int actionsTaken) {
+        hash ^= Zobrist.actions(this.actionsTaken) ^ Zobrist.actions(actionsTaken);
+        this.actionsTaken = actionsTaken;
+    }
+
+    public boolean isPilotFlown() {
+        return pilotFlown;
+    }
+
+    public void setPilotFlown(boolean pilotFlown) {
+        hash ^= Zobrist.pilotFlown(this.pilotFlown) ^ Zobrist.pilotFlown(pilotFlown);
+        this.pilotFlown = pilotFlown;
+    }
+
+    public boolean isFloodPending() {
+        return floodPending;
+    }
+
+    public void setFloodPending(boolean floodPending) {
+        hash ^= Zobrist.floodPending(this.floodPending) ^ Zobrist.floodPending(floodPending);
+        this.floodPending = floodPending;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public IntDeck getTreasureDeck() {
+        return treasureDeck;
+    }
+
+    public IntDeck getFloodDeck() {
+        return floodDeck;
+    }
+
+    // ====== Hashing ======
+
+    /**
+     * @return Zobrist hash of the state, kept up to date incrementally
+     */
+    public long getHash() {
+        return board.getHash() ^ hash;
+    }
+
+    /**
+     * Recomputes the hash from scratch, to check the incremental one.
+     *
+     * @return Zobrist hash of the state
+     */
+    public long computeHash() {
+        long result = board.computeHash() ^ Zobrist.water(waterLevel) ^ Zobrist.player(currentPlayer)
+                ^ Zobrist.actions(actionsTaken) ^ Zobrist.phase(phase)
+                ^ Zobrist.pilotFlown(pilotFlown) ^ Zobrist.floodPending(floodPending);
+        for (int seat = 0; seat < numPlayers; seat++) {
+            for (int kind = 0; kind < Zobrist.CARD_KINDS; kind++) {
+                int copies = Cards.count(hands[seat] & Cards.kindMask(kind));
+                for (int copy = 0; copy < copies; copy++) {
+                    result ^= Zobrist.card(seat, kind, copy);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares the complete state of two games, including both decks.
+     *
+     * @param other state to compare with
+     * @return true if both states are identical
+     */
+    public boolean sameState(GameState other) {
+        return board.getTileBits() == other.board.getTileBits()
+                && board.getCapturedBits() == other.board.getCapturedBits()
+                && board.getPawnBits() == other.board.getPawnBits()
+                && Arrays.equals(roles, other.roles)
+                && Arrays.equals(hands, other.hands)
+                && figurines == other.figurines
+                && waterLevel == other.waterLevel
+                && phase == other.phase
+                && outcome == other.outcome
+                && currentPlayer == other.currentPlayer
+                && actionsTaken == other.actionsTaken
+                && pilotFlown == other.pilotFlown
+                && floodPending == other.floodPending
+                && turn == other.turn
+                && getHash() == other.getHash()
+                && treasureDeck.sameCards(other.treasureDeck)
+                && floodDeck.sameCards(other.floodDeck);
+    }
+}
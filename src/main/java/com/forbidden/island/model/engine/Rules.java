@@ -0,0 +1,326 @@
+package com.forbidden.island.model.engine;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+
+import static com.forbidden.island.model.engine.GameState.*;
+
+/**
+ * Rules decides which actions are legal in a GameState.
+ * <p>
+ * legalActions writes every legal action of the state, encoded by Action, into a buffer supplied by the caller
+ * and never allocates, so bots and simulations can call it in tight loops. It does not change the state.
+ * Role rules are applied here, and the click handlers of the Swing client (GameSession.nextTile) take their legal
+ * tiles from the same moveTargets, shoreTargets and swimTargets masks:
+ * <ul>
+ *     <li>Explorer moves, shores up and swims diagonally</li>
+ *     <li>Pilot flies to any tile once per turn, and swims to any tile</li>
+ *     <li>Diver moves through any number of adjacent flooded or missing tiles, and swims to the nearest tile</li>
+ *     <li>Messenger gives cards to players anywhere on the island</li>
+ *     <li>Engineer shores up two tiles for one action</li>
+ *     <li>Navigator moves another player up to two adjacent tiles for one action</li>
+ * </ul>
+ * Cards of the same kind held by one player are interchangeable, so only the lowest one is offered.
+ */
+public final class Rules {
+
+    private Rules() {
+    }
+
+    /**
+     * Enumerates the legal actions of a state.
+     *
+     * @param state game state
+     * @param buffer buffer receiving the encoded actions, Action.MAX_ACTIONS long is always enough
+     * @return number of actions written, 0 once the game is over
+     */
+    public static int legalActions(GameState state, int[] buffer) {
+        switch (state.phase) {
+            case ACTION:
+                return actionPhase(state, buffer);
+            case DISCARD:
+                return discardPhase(state, buffer);
+            case SWIM:
+                return swimPhase(state, buffer);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Checks a single action against the legal actions of a state.
+     *
+     * @param state game state
+     * @param action encoded action
+     * @param buffer scratch buffer of Action.MAX_ACTIONS
+     * @return true if the action is legal
+     */
+    public static boolean isLegal(GameState state, int action, int[] buffer) {
+        int count = legalActions(state, buffer);
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == action) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ====== Phases ======
+
+    private static int actionPhase(GameState state, int[] buffer) {
+        BoardState board = state.board;
+        int seat = state.currentPlayer;
+        int role = state.roles[seat];
+        int slot = board.getPawnSlot(role);
+        int n = 0;
+
+        if (state.actionsTaken < ACTIONS_PER_TURN) {
+            int moves = moveTargets(board, role, slot);
+            n = emitSlots(buffer, n, Action.MOVE, moves, 0);
+            if (role == PILOT && !state.pilotFlown) {
+                // Flying to a tile that can be walked to only wastes the flight
+                n = emitSlots(buffer, n, Action.FLY, board.getExistMask() & ~moves & ~IslandLayout.bit(slot), 0);
+            }
+            n = shoreUps(board, role, slot, buffer, n);
+            n = gives(state, seat, role, slot, buffer, n);
+            n = capture(state, seat, slot, buffer, n);
+            if (role == NAVIGATOR) {
+                for (int other = 0; other < state.numPlayers; other++) {
+                    if (other != seat) {
+                        int targets = navigatorTargets(board, state.getPawnSlot(other));
+                        n = emitSlots(buffer, n, Action.NAVIGATE, targets, other);
+                    }
+                }
+            }
+        }
+
+        n = specialCards(state, (1 << state.numPlayers) - 1, buffer, n);
+        buffer[n++] = Action.of(Action.END_ACTIONS, 0, 0);
+        return n;
+    }
+
+    private static int discardPhase(GameState state, int[] buffer) {
+        int seat = state.getOverfullHand();
+        int hand = state.hands[seat];
+        int n = 0;
+        for (int treasure = 0; treasure < 4; treasure++) {
+            n = emitCard(buffer, n, Action.DISCARD, hand & Cards.treasureMask(treasure), seat);
+        }
+        n = emitCard(buffer, n, Action.DISCARD, hand & Cards.HELICOPTER_MASK, seat);
+        n = emitCard(buffer, n, Action.DISCARD, hand & Cards.SANDBAG_MASK, seat);
+        // Special cards may be played instead of discarded
+        return specialCards(state, 1 << seat, buffer, n);
+    }
+
+    private static int swimPhase(GameState state, int[] buffer) {
+        int seat = state.getSwimmer();
+        int role = state.roles[seat];
+        int targets = swimTargets(state.board, role, state.board.getPawnSlot(role));
+        int n = 0;
+        for (int rest = targets; rest != 0; rest &= rest - 1) {
+            buffer[n++] = Action.of(Action.SWIM, Integer.numberOfTrailingZeros(rest), seat);
+        }
+        return n;
+    }
+
+    // ====== Action Groups ======
+
+    private static int shoreUps(BoardState board, int role, int slot, int[] buffer, int n) {
+        int targets = shoreTargets(board, role, slot);
+        for (int rest = targets; rest != 0; rest &= rest - 1) {
+            int first = Integer.numberOfTrailingZeros(rest);
+            buffer[n++] = Action.of(Action.SHORE_UP, first, Action.NONE);
+            if (role == ENGINEER) {
+                for (int more = rest & (rest - 1); more != 0; more &= more - 1) {
+                    buffer[n++] = Action.of(Action.SHORE_UP, first, Integer.numberOfTrailingZeros(more));
+                }
+            }
+        }
+        return n;
+    }
+
+    private static int gives(GameState state, int seat, int role, int slot, int[] buffer, int n) {
+        int receivers = (role == MESSENGER ? (1 << state.numPlayers) - 1 : state.getSeatsOn(slot)) & ~(1 << seat);
+        if (receivers == 0) {
+            return n;
+        }
+        int hand = state.hands[seat];
+        for (int treasure = 0; treasure < 4; treasure++) {
+            int card = Cards.lowest(hand & Cards.treasureMask(treasure));
+            if (card < 0) {
+                continue;
+            }
+            for (int rest = receivers; rest != 0; rest &= rest - 1) {
+                buffer[n++] = Action.of(Action.GIVE, card, Integer.numberOfTrailingZeros(rest));
+            }
+        }
+        return n;
+    }
+
+    private static int capture(GameState state, int seat, int slot, int[] buffer, int n) {
+        // Shrines of treasure i are tiles 2i+1 and 2i+2
+        int tileId = state.board.getTileId(slot);
+        if (tileId > 8) {
+            return n;
+        }
+        int treasure = (tileId - 1) / 2;
+        if (!state.isCaptured(treasure)
+                && Cards.count(state.hands[seat] & Cards.treasureMask(treasure)) >= Cards.CAPTURE_COST) {
+            buffer[n++] = Action.of(Action.CAPTURE, treasure, 0);
+        }
+        return n;
+    }
+
+    /**
+     * Sandbags, Helicopter Lifts and the final lift off, which cost no action and may be played by any player.
+     */
+    private static int specialCards(GameState state, int owners, int[] buffer, int n) {
+        BoardState board = state.board;
+        boolean liftOffOffered = false;
+        for (int rest = owners; rest != 0; rest &= rest - 1) {
+            int seat = Integer.numberOfTrailingZeros(rest);
+            int hand = state.hands[seat];
+
+            int sandbag = Cards.lowest(hand & Cards.SANDBAG_MASK);
+            if (sandbag >= 0) {
+                for (int slots = board.getFloodedMask(); slots != 0; slots &= slots - 1) {
+                    buffer[n++] = Action.of(Action.SANDBAG, sandbag, Integer.numberOfTrailingZeros(slots), 0, seat);
+                }
+            }
+
+            int helicopter = Cards.lowest(hand & Cards.HELICOPTER_MASK);
+            if (helicopter < 0) {
+                continue;
+            }
+            if (!liftOffOffered && canLiftOff(state)) {
+                buffer[n++] = Action.of(Action.LIFT_OFF, helicopter, 0, 0, seat);
+                liftOffOffered = true;
+            }
+            // Any group of players standing together flies to any other tile
+            int done = 0;
+            for (int first = 0; first < state.numPlayers; first++) {
+                if ((done & (1 << first)) != 0) {
+                    continue;
+                }
+                int source = state.getPawnSlot(first);
+                int group = state.getSeatsOn(source);
+                done |= group;
+                int targets = board.getExistMask() & ~IslandLayout.bit(source);
+                for (int flown = group; flown != 0; flown = (flown - 1) & group) {
+                    for (int slots = targets; slots != 0; slots &= slots - 1) {
+                        buffer[n++] = Action.of(Action.HELICOPTER, helicopter,
+                                Integer.numberOfTrailingZeros(slots), flown, seat);
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @param state game state
+     * @return true if all figurines are captured and every player stands on Fools' Landing
+     */
+    public static boolean canLiftOff(GameState state) {
+        if (state.figurines != 0b1111) {
+            return false;
+        }
+        int landing = state.board.getSlotOfTile(FOOLS_LANDING_TILE_ID);
+        return state.board.isExist(landing) && state.getSeatsOn(landing) == (1 << state.numPlayers) - 1;
+    }
+
+    // ====== Targets ======
+
+    /**
+     * @param board board
+     * @param role role of the moving pawn
+     * @param slot slot of the pawn
+     * @return mask of the slots reachable with one move action
+     */
+    public static int moveTargets(BoardState board, int role, int slot) {
+        switch (role) {
+            case EXPLORER:
+                return IslandLayout.all(slot) & board.getExistMask();
+            case DIVER:
+                return diverTargets(board, slot);
+            default:
+                return IslandLayout.orthogonal(slot) & board.getExistMask();
+        }
+    }
+
+    /**
+     * @param board board
+     * @param role role of the pawn
+     * @param slot slot of the pawn
+     * @return mask of the flooded slots the pawn can shore up: its own and the adjacent ones (Explorer diagonally too)
+     */
+    public static int shoreTargets(BoardState board, int role, int slot) {
+        int reach = role == EXPLORER ? IslandLayout.all(slot) : IslandLayout.orthogonal(slot);
+        return (reach | IslandLayout.bit(slot)) & board.getFloodedMask();
+    }
+
+    /**
+     * Diver's move: through any chain of adjacent flooded, sunk or blank cells onto any tile next to the chain.
+     * The board caches the destinations of all slots until its tiles change, see BoardState.getDiverTargets.
+     *
+     * @param board board
+     * @param slot slot of the Diver
+     * @return mask of the slots the Diver can reach with one action
+     */
+    public static int diverTargets(BoardState board, int slot) {
+        return board.getDiverTargets(slot);
+    }
+
+    /**
+     * Navigator's push: up to two orthogonal steps over existing tiles.
+     *
+     * @param board board
+     * @param slot slot of the pushed pawn
+     * @return mask of the slots the pawn can be moved to
+     */
+    public static int navigatorTargets(BoardState board, int slot) {
+        int exist = board.getExistMask();
+        int first = IslandLayout.orthogonal(slot) & exist;
+        int targets = first;
+        for (int rest = first; rest != 0; rest &= rest - 1) {
+            targets |= IslandLayout.orthogonal(Integer.numberOfTrailingZeros(rest)) & exist;
+        }
+        return targets & ~IslandLayout.bit(slot);
+    }
+
+    /**
+     * @param board board
+     * @param role role of the swimming pawn
+     * @param slot sunk slot the pawn is on
+     * @return mask of the slots the pawn can swim to, 0 if it drowns
+     */
+    public static int swimTargets(BoardState board, int role, int slot) {
+        int exist = board.getExistMask();
+        switch (role) {
+            case EXPLORER:
+                return IslandLayout.all(slot) & exist;
+            case PILOT:
+                return exist;
+            case DIVER:
+                return board.getDiverRescueTargets(slot);
+            default:
+                return IslandLayout.orthogonal(slot) & exist;
+        }
+    }
+
+    // ====== Encoding ======
+
+    private static int emitSlots(int[] buffer, int n, int type, int slots, int b) {
+        for (int rest = slots; rest != 0; rest &= rest - 1) {
+            buffer[n++] = Action.of(type, Integer.numberOfTrailingZeros(rest), b);
+        }
+        return n;
+    }
+
+    private static int emitCard(int[] buffer, int n, int type, int cards, int seat) {
+        if (cards != 0) {
+            buffer[n++] = Action.of(type, Cards.lowest(cards), 0, 0, seat);
+        }
+        return n;
+    }
+}
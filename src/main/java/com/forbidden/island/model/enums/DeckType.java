@@ -0,0 +1,11 @@
+package com.forbidden.island.model.enums;
+
+/**
+ * Identifies the card deck a group of cards was drawn from.
+ */
+public enum DeckType {
+    /** Treasure deck (treasure, special action and Waters Rise cards) */
+    Treasure,
+    /** Flood deck (one card per island tile) */
+    Flood
+}
@@ -0,0 +1,131 @@
+package com.forbidden.island.model.event;
+
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.enums.DeckType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameEventBus forwards every event to the listeners registered with it.
+ * Listeners are kept in a copy-on-write array, so publishing never allocates
+ * and listeners may be added while events are being delivered.
+ */
+public class GameEventBus implements GameEventListener {
+    /**
+     * Registered listeners, in registration order
+     */
+    private volatile GameEventListener[] listeners = new GameEventListener[0];
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener listener to add
+     */
+    public synchronized void addListener(GameEventListener listener) {
+        GameEventListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener listener to remove
+     */
+    public synchronized void removeListener(GameEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameEventListener[] next = new GameEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, next, 0, i);
+                System.arraycopy(listeners, i + 1, next, i, listeners.length - i - 1);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onTileFlooded(int tileId) {
+        for (GameEventListener listener : listeners) {
+            listener.onTileFlooded(tileId);
+        }
+    }
+
+    @Override
+    public void onTileSunk(int tileId) {
+        for (GameEventListener listener : listeners) {
+            listener.onTileSunk(tileId);
+        }
+    }
+
+    @Override
+    public void onTileShoredUp(int tileId) {
+        for (GameEventListener listener : listeners) {
+            listener.onTileShoredUp(tileId);
+        }
+    }
+
+    @Override
+    public void onWaterRose(int waterLevel) {
+        for (GameEventListener listener : listeners) {
+            listener.onWaterRose(waterLevel);
+        }
+    }
+
+    @Override
+    public void onCardsDrawn(DeckType deck, List<Integer> cards) {
+        for (GameEventListener listener : listeners) {
+            listener.onCardsDrawn(deck, cards);
+        }
+    }
+
+    @Override
+    public void onFloodPhaseEnded() {
+        for (GameEventListener listener : listeners) {
+            listener.onFloodPhaseEnded();
+        }
+    }
+
+    @Override
+    public void onPlayerMoved(Adventurer adventurer, int fromX, int fromY) {
+        for (GameEventListener listener : listeners) {
+            listener.onPlayerMoved(adventurer, fromX, fromY);
+        }
+    }
+
+    @Override
+    public void onRescueStarted(int playerOrder) {
+        for (GameEventListener listener : listeners) {
+            listener.onRescueStarted(playerOrder);
+        }
+    }
+
+    @Override
+    public void onRescueEnded() {
+        for (GameEventListener listener : listeners) {
+            listener.onRescueEnded();
+        }
+    }
+
+    @Override
+    public void onPlayerSwitched(int playerOrder) {
+        for (GameEventListener listener : listeners) {
+            listener.onPlayerSwitched(playerOrder);
+        }
+    }
+
+    @Override
+    public void onTurnEnded(int nextPlayerOrder) {
+        for (GameEventListener listener : listeners) {
+            listener.onTurnEnded(nextPlayerOrder);
+        }
+    }
+
+    @Override
+    public void onGameFinished(boolean isWin) {
+        for (GameEventListener listener : listeners) {
+            listener.onGameFinished(isWin);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.forbidden.island.model.event;
+
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.enums.DeckType;
+
+import java.util.List;
+
+/**
+ * GameEventListener receives the domain events published by a game session.
+ * Every method has an empty default implementation, so a listener only overrides
+ * the events it is interested in and a session without listeners pays nothing
+ * beyond the method call. Events are delivered on the thread that changed the state.
+ */
+public interface GameEventListener {
+    /**
+     * Listener that ignores every event (used for headless batch simulation).
+     */
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    /**
+     * A tile went from normal to flooded.
+     *
+     * @param tileId ID of the flooded tile
+     */
+    default void onTileFlooded(int tileId) {
+    }
+
+    /**
+     * A flooded tile sank and has been removed from the island.
+     *
+     * @param tileId ID of the sunk tile
+     */
+    default void onTileSunk(int tileId) {
+    }
+
+    /**
+     * A flooded tile was shored up back to normal.
+     *
+     * @param tileId ID of the shored up tile
+     */
+    default void onTileShoredUp(int tileId) {
+    }
+
+    /**
+     * The water level rose after a Waters Rise card.
+     *
+     * @param waterLevel new water level
+     */
+    default void onWaterRose(int waterLevel) {
+    }
+
+    /**
+     * Cards were drawn from one of the decks.
+     * The list is owned by the session and only valid during the call.
+     *
+     * @param deck deck the cards came from
+     * @param cards drawn card IDs
+     */
+    default void onCardsDrawn(DeckType deck, List<Integer> cards) {
+    }
+
+    /**
+     * All flood cards of the current flood phase have been resolved.
+     */
+    default void onFloodPhaseEnded() {
+    }
+
+    /**
+     * An adventurer moved to another tile.
+     *
+     * @param adventurer the adventurer, already at its new position
+     * @param fromX previous x coordinate
+     * @param fromY previous y coordinate
+     */
+    default void onPlayerMoved(Adventurer adventurer, int fromX, int fromY) {
+    }
+
+    /**
+     * Players fell into the sea, or the rescue moved on to the next player in the water.
+     *
+     * @param playerOrder order of the player who has to swim now
+     */
+    default void onRescueStarted(int playerOrder) {
+    }
+
+    /**
+     * Every player in the water has been handled and the regular round resumes.
+     */
+    default void onRescueEnded() {
+    }
+
+    /**
+     * Control passed to another player outside the normal turn order
+     * (for example a receiver with a full hand who has to discard).
+     *
+     * @param playerOrder order of the player now acting
+     */
+    default void onPlayerSwitched(int playerOrder) {
+    }
+
+    /**
+     * A player's turn ended and the next player is up.
+     *
+     * @param nextPlayerOrder order of the next player
+     */
+    default void onTurnEnded(int nextPlayerOrder) {
+    }
+
+    /**
+     * The game ended.
+     *
+     * @param isWin true for victory, false for failure
+     */
+    default void onGameFinished(boolean isWin) {
+    }
+}
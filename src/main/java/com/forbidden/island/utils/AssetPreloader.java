@@ -0,0 +1,81 @@
+package com.forbidden.island.utils;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetPreloader warms the ImageUtil cache in the background while the splash screen plays, so the welcome
+ * screen and the game panels find every image ready instead of decoding it on the EDT.
+ * <p>
+ * A small pool decodes the SpriteAtlas sheet (every pre-scaled tile, submersed tile, card, pawn, figurine and
+ * water meter sprite) and the large background images in parallel, then the pool is shut down. The renderers do
+ * not depend on it: an image that is not preloaded yet is simply loaded on first use, as before.
+ */
+public final class AssetPreloader {
+    /** Images outside the atlas, at their original size */
+    private static final String[] BACKGROUNDS = {"/Map/Arena.jpg", "/TitleScreen.png"};
+
+    /** Completes once every asset is in the cache, null until started */
+    private static CompletableFuture<Void> ready;
+
+    /** Number of images put into the cache by the preloader */
+    private static final AtomicInteger imageCount = new AtomicInteger();
+
+    private AssetPreloader() {
+    }
+
+    /**
+     * Starts preloading, once: later calls return the same future.
+     *
+     * @return readiness of the assets, completes normally even if an image is missing
+     */
+    public static synchronized CompletableFuture<Void> start() {
+        if (ready != null) {
+            return ready;
+        }
+        int tasks = 1 + BACKGROUNDS.length;
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(tasks, Runtime.getRuntime().availableProcessors())), runnable -> {
+                    Thread thread = new Thread(runnable, "asset-preload");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        ArrayList<CompletableFuture<?>> loads = new ArrayList<>();
+        loads.add(CompletableFuture.runAsync(() -> imageCount.addAndGet(ImageUtil.preloadAtlas()), pool));
+        for (String background : BACKGROUNDS) {
+            loads.add(CompletableFuture.runAsync(() -> {
+                if (ImageUtil.getImage(background) != null) {
+                    imageCount.incrementAndGet();
+                }
+            }, pool));
+        }
+        ready = CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+                .handle((done, error) -> {
+                    pool.shutdown();
+                    if (error != null) {
+                        System.err.println("Failed to preload images, they are loaded on first use");
+                        error.printStackTrace();
+                    }
+                    return null;
+                });
+        return ready;
+    }
+
+    /**
+     * @return readiness of the assets, starts preloading if nobody did
+     */
+    public static CompletableFuture<Void> getReady() {
+        return start();
+    }
+
+    /**
+     * @return number of images preloaded so far
+     */
+    public static int getImageCount() {
+        return imageCount.get();
+    }
+}
@@ -0,0 +1,99 @@
+package com.forbidden.island.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+/**
+ * AtlasGenerator builds the SpriteAtlas shipped with the game: every tile, card, pawn, figurine and water meter
+ * image, pre-scaled to the sizes in Constant the renderers ask ImageUtil for, packed into atlas.png and indexed
+ * in atlas.idx. Run it again after changing an image or a size in Constant:
+ * <pre>
+ *     java -cp &lt;classes&gt; com.forbidden.island.utils.AtlasGenerator [image directory]
+ * </pre>
+ * The image directory defaults to src/main/resources/image; the atlas is written into it.
+ */
+public final class AtlasGenerator {
+    /** Width of the sheet */
+    public static final int ATLAS_WIDTH = 2048;
+
+    /**
+     * Sprites of the atlas: every PNG of a directory, or a single image, at a width, height and rotation.
+     * A width and height of 0 keep the original size.
+     */
+    private static final Object[][] SPRITES = {
+            {"/Tiles/", Constant.TILE_WIDTH, Constant.TILE_HEIGHT, 0d},
+            {"/SubmersedTiles/", Constant.TILE_WIDTH, Constant.TILE_HEIGHT, 0d},
+            {"/Flood/", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT, 0d},
+            {"/TreasureCards/", Constant.ADVENTURER_WIDTH, Constant.ADVENTURER_HEIGHT, 0d},
+            {"/TreasureCards/", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 270d},
+            {"/Pawns/", 0, 0, 0d},
+            {"/Pawns/", Constant.TILE_WIDTH, Constant.TILE_HEIGHT, 0d},
+            {"/Pawns/", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 0d},
+            {"/Figurines/", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 0d},
+            {"/WaterMeter/", Constant.WATER_METER_WIDTH, Constant.WATER_METER_HEIGHT, 0d},
+            {"/Back/Flood Discard.png", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT, 0d},
+            {"/Back/Flood Deck.png", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT, 90d},
+            {"/Back/Treasure Discard.png", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 0d},
+            {"/Back/Treasure Deck.png", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 90d},
+    };
+
+    private AtlasGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : "src/main/resources/image");
+        SpriteAtlas atlas = generate(directory);
+        try (OutputStream image = new FileOutputStream(new File(directory, SpriteAtlas.IMAGE_NAME));
+             OutputStream index = new FileOutputStream(new File(directory, SpriteAtlas.INDEX_NAME))) {
+            atlas.write(image, index);
+        }
+        System.out.println("Packed " + atlas.getSpriteCount() + " sprites into a "
+                + atlas.getSheet().getWidth() + "x" + atlas.getSheet().getHeight() + " atlas");
+    }
+
+    /**
+     * Renders and packs every sprite of the atlas.
+     *
+     * @param directory image directory, the root of the image names
+     * @return packed atlas
+     * @throws IOException if an image cannot be read
+     */
+    public static SpriteAtlas generate(File directory) throws IOException {
+        LinkedHashMap<String, BufferedImage> sprites = new LinkedHashMap<>();
+        for (Object[] sprite : SPRITES) {
+            String name = (String) sprite[0];
+            int width = (Integer) sprite[1];
+            int height = (Integer) sprite[2];
+            double rotation = (Double) sprite[3];
+            if (name.endsWith("/")) {
+                File[] files = new File(directory, name).listFiles((dir, file) -> file.endsWith(".png"));
+                if (files == null) {
+                    throw new IOException("Missing image directory: " + name);
+                }
+                Arrays.sort(files);
+                for (File file : files) {
+                    add(sprites, directory, name + file.getName(), width, height, rotation);
+                }
+            } else {
+                add(sprites, directory, name, width, height, rotation);
+            }
+        }
+        return SpriteAtlas.pack(sprites, ATLAS_WIDTH);
+    }
+
+    private static void add(LinkedHashMap<String, BufferedImage> sprites, File directory, String name,
+                            int width, int height, double rotation) throws IOException {
+        BufferedImage image = ImageIO.read(new File(directory, name));
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + name);
+        }
+        sprites.put(SpriteAtlas.key(name, width, height, rotation),
+                ImageUtil.transform(ImageUtil.toArgb(image), width, height, rotation));
+    }
+}
@@ -1,15 +1,47 @@
 package com.forbidden.island.utils;
 
 import javax.imageio.ImageIO;
-import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * ImageUtil loads the images of the classpath /image directory, scaled and rotated as needed.
+ * <p>
+ * Every variant (path, width, height, rotation) is decoded and transformed once and kept ready to draw in a
+ * bounded least recently used cache, so repeated renders do no decoding. Variants held by the build-time
+ * SpriteAtlas are cut from its sheet instead of being decoded. The returned images are shared: callers must not
+ * draw into them.
+ */
 public class ImageUtil {
+    /** Maximum number of cached images, enough for every variant the game draws */
+    public static final int CACHE_CAPACITY = 256;
+
+    /** Cached images by key, in access order; guarded by itself */
+    private static final LinkedHashMap<String, BufferedImage> CACHE =
+            new LinkedHashMap<String, BufferedImage>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                    if (size() > CACHE_CAPACITY) {
+                        evictions++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+
+    /** Shipped atlas, loaded on first use; null if it is missing */
+    private static final class AtlasHolder {
+        static final SpriteAtlas ATLAS = SpriteAtlas.load();
+    }
+
+    private static long hits;
+    private static long misses;
+    private static long evictions;
 
     /**
      * Load an image (original size)
@@ -17,15 +49,8 @@ public class ImageUtil {
      * @param imageName image filename, relative to resource path
      * @return Image object, returns null if loading fails
      */
-    public static Image getImage(String imageName) {
-        try {
-            InputStream is = ImageUtil.class.getResourceAsStream("/image" + imageName);
-            return ImageIO.read(is);
-        } catch (IOException e) {
-            System.err.println("Failed to load image: " + imageName);
-            e.printStackTrace();
-            return null;
-        }
+    public static BufferedImage getImage(String imageName) {
+        return getImage(imageName, 0, 0, 0d);
     }
 
     /**
@@ -36,49 +61,201 @@ public class ImageUtil {
      * @param imageHeight target height
      * @return scaled Image object
      */
-    public static Image getImage(String imageName, int imageWidth, int imageHeight) {
-        Image image = getImage(imageName);
-        if (image == null) {
-            return null;
-        }
-        return image.getScaledInstance(imageWidth, imageHeight, Image.SCALE_SMOOTH);
+    public static BufferedImage getImage(String imageName, int imageWidth, int imageHeight) {
+        return getImage(imageName, imageWidth, imageHeight, 0d);
     }
 
     /**
      * Load an image, rotate and scale it
      *
      * @param imageName     image filename
-     * @param imageWidth    scaled width
-     * @param imageHeight   scaled height
+     * @param imageWidth    scaled width, 0 with a height of 0 to keep the size
+     * @param imageHeight   scaled height, 0 with a width of 0 to keep the size
      * @param rotationAngle clockwise rotation angle (in degrees)
      * @return processed Image object (rotated then scaled)
      */
-    public static Image getImage(String imageName, int imageWidth, int imageHeight, double rotationAngle) {
-        Image image = getImage(imageName);
+    public static BufferedImage getImage(String imageName, int imageWidth, int imageHeight, double rotationAngle) {
+        String key = SpriteAtlas.key(imageName, imageWidth, imageHeight, rotationAngle);
+        synchronized (CACHE) {
+            BufferedImage cached = CACHE.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // Decode outside the lock, two threads missing the same key both produce an equal image
+        SpriteAtlas atlas = AtlasHolder.ATLAS;
+        BufferedImage image = atlas == null ? null : atlas.getSprite(key);
+        if (image == null) {
+            image = imageWidth == 0 && imageHeight == 0 && rotationAngle == 0
+                    ? read(imageName)
+                    : transform(getImage(imageName), imageWidth, imageHeight, rotationAngle);
+        }
         if (image == null) {
             return null;
         }
+        synchronized (CACHE) {
+            BufferedImage cached = CACHE.putIfAbsent(key, image);
+            return cached != null ? cached : image;
+        }
+    }
 
-        // Convert to BufferedImage if needed
-        BufferedImage bufferedImage;
-        if (image instanceof BufferedImage) {
-            bufferedImage = (BufferedImage) image;
-        } else {
-            bufferedImage = new BufferedImage(
-                image.getWidth(null),
-                image.getHeight(null),
-                BufferedImage.TYPE_INT_ARGB
-            );
-            Graphics2D g2d = bufferedImage.createGraphics();
-            g2d.drawImage(image, 0, 0, null);
-            g2d.dispose();
+    /**
+     * @return number of lookups served from the cache
+     */
+    public static long getCacheHits() {
+        synchronized (CACHE) {
+            return hits;
         }
+    }
+
+    /**
+     * @return number of lookups that had to load or transform an image
+     */
+    public static long getCacheMisses() {
+        synchronized (CACHE) {
+            return misses;
+        }
+    }
+
+    /**
+     * @return number of images dropped to keep the cache within CACHE_CAPACITY
+     */
+    public static long getCacheEvictions() {
+        synchronized (CACHE) {
+            return evictions;
+        }
+    }
+
+    /**
+     * @return number of images in the cache
+     */
+    public static int getCacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
 
-        // Rotate the image
-        bufferedImage = rotate(bufferedImage, rotationAngle);
+    /**
+     * @return number of variants served from the shipped SpriteAtlas, 0 if it is missing
+     */
+    public static int getAtlasSpriteCount() {
+        SpriteAtlas atlas = AtlasHolder.ATLAS;
+        return atlas == null ? 0 : atlas.getSpriteCount();
+    }
 
-        // Scale the rotated image
-        return bufferedImage.getScaledInstance(imageWidth, imageHeight, Image.SCALE_SMOOTH);
+    /**
+     * Puts every sprite of the shipped SpriteAtlas into the cache, so the first lookup of each one is a hit.
+     * Loads the atlas if it is not loaded yet.
+     *
+     * @return number of sprites added to the cache, 0 if the atlas is missing
+     */
+    public static int preloadAtlas() {
+        SpriteAtlas atlas = AtlasHolder.ATLAS;
+        if (atlas == null) {
+            return 0;
+        }
+        int added = 0;
+        for (String key : atlas.getKeys()) {
+            BufferedImage sprite = atlas.getSprite(key);
+            synchronized (CACHE) {
+                if (CACHE.putIfAbsent(key, sprite) == null) {
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Empties the cache and resets its counters.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+        }
+    }
+
+    /**
+     * Decodes an image from the classpath into a drawable ARGB image.
+     */
+    private static BufferedImage read(String imageName) {
+        try (InputStream is = ImageUtil.class.getResourceAsStream("/image" + imageName)) {
+            if (is == null) {
+                throw new IOException("Resource not found: /image" + imageName);
+            }
+            BufferedImage image = ImageIO.read(is);
+            if (image == null) {
+                throw new IOException("Unsupported image format");
+            }
+            return toArgb(image);
+        } catch (IOException e) {
+            System.err.println("Failed to load image: " + imageName);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Rotates then scales a decoded image, see getImage.
+     */
+    static BufferedImage transform(BufferedImage image, int imageWidth, int imageHeight, double rotationAngle) {
+        if (image == null) {
+            return null;
+        }
+        if (rotationAngle != 0) {
+            image = rotate(image, rotationAngle);
+        }
+        if (imageWidth == 0 && imageHeight == 0) {
+            return image;
+        }
+        return scale(image, imageWidth, imageHeight);
+    }
+
+    /**
+     * Scales an image with bilinear steps of at most a half, which looks like SCALE_SMOOTH
+     * without going through an asynchronous Image.
+     *
+     * @param image  image to scale
+     * @param width  target width
+     * @param height target height
+     * @return scaled image
+     */
+    public static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = w > width ? Math.max(width, w / 2) : width;
+            h = h > height ? Math.max(height, h / 2) : height;
+            BufferedImage step = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = step.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(scaled, 0, 0, w, h, null);
+            g2d.dispose();
+            scaled = step;
+        } while (w != width || h != height);
+        return scaled;
+    }
+
+    /**
+     * @return the image itself if it is TYPE_INT_ARGB, otherwise a TYPE_INT_ARGB copy
+     */
+    static BufferedImage toArgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            return image;
+        }
+        BufferedImage argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = argb.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return argb;
     }
 
     /**
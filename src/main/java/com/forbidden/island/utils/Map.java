@@ -43,6 +43,7 @@ public abstract class Map {
     /**
      * Coordinate string → Number mapping.
      * Example: "[0, 2]" -> 0
+     * Game logic uses the allocation-free IslandLayout.slotAt instead.
      */
     public final static HashMap<String, Integer> numberMatcher = new HashMap<>();
 
@@ -52,10 +53,17 @@ public abstract class Map {
      */
     public final static HashMap<Integer, String> adventurerMatcher = new HashMap<>();
 
+    // The layout never changes, so the matchers are filled once when the class is loaded.
+    // This keeps them read-only afterwards and safe to share between concurrent game sessions.
+    static {
+        setLocation();
+    }
+
     /**
      * Initialize all matchers: coordinate-number mapping, number-coordinate mapping, number-profession mapping, etc.
+     * Only called by the static initializer.
      */
-    public static void setLocation() {
+    private static void setLocation() {
         setUpCoordinateAndNumberMatchers(); // Initialize number ↔ coordinate bidirectional mapping
         setUpAdventurerMatcher();           // Initialize number → adventurer name mapping
     }
@@ -0,0 +1,24 @@
+package com.forbidden.island.utils;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * RandomUtil utility class
+ * Shuffles with an explicit random source, so a seeded game reproduces exactly.
+ */
+public class RandomUtil {
+
+    /**
+     * Shuffle a list in place (Fisher-Yates).
+     *
+     * @param list list to shuffle
+     * @param random random source
+     */
+    public static <T> void shuffle(List<T> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.forbidden.island.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SpriteAtlas is one sheet holding many pre-scaled sprites, plus an index from sprite key to its region.
+ * <p>
+ * The atlas is generated at build time by AtlasGenerator for the sizes in Constant and shipped as
+ * /image/atlas.png and /image/atlas.idx. At runtime ImageUtil decodes the sheet once and serves the indexed
+ * variants as sub-images sharing the sheet's pixels, instead of decoding and scaling every PNG.
+ * <p>
+ * Index format, one sprite per line: {@code x y width height key}, where key is {@link #key}.
+ */
+public final class SpriteAtlas {
+    /** Sheet of the shipped atlas, relative to the image resource path */
+    public static final String IMAGE_NAME = "/atlas.png";
+    /** Index of the shipped atlas, relative to the image resource path */
+    public static final String INDEX_NAME = "/atlas.idx";
+    /** Transparent pixels between sprites, so scaled draws do not bleed into neighbours */
+    private static final int PADDING = 1;
+
+    private final BufferedImage sheet;
+    private final HashMap<String, Rectangle> regions;
+
+    /**
+     * @param sheet   image holding every sprite
+     * @param regions sprite key → region of the sheet
+     */
+    public SpriteAtlas(BufferedImage sheet, Map<String, Rectangle> regions) {
+        this.sheet = sheet;
+        this.regions = new HashMap<>(regions);
+    }
+
+    /**
+     * Key of an image variant, shared by the atlas index and the ImageUtil cache.
+     *
+     * @param imageName     image filename, relative to resource path
+     * @param imageWidth    scaled width, 0 for the original size
+     * @param imageHeight   scaled height, 0 for the original size
+     * @param rotationAngle clockwise rotation angle (in degrees)
+     * @return key of the variant
+     */
+    public static String key(String imageName, int imageWidth, int imageHeight, double rotationAngle) {
+        return imageName + '|' + imageWidth + '|' + imageHeight + '|' + rotationAngle;
+    }
+
+    /**
+     * @param key sprite key, see {@link #key}
+     * @return sprite sharing the sheet's pixels, null if the atlas does not hold it
+     */
+    public BufferedImage getSprite(String key) {
+        Rectangle region = regions.get(key);
+        return region == null ? null : sheet.getSubimage(region.x, region.y, region.width, region.height);
+    }
+
+    /**
+     * @return keys of every sprite in the atlas, unmodifiable
+     */
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(regions.keySet());
+    }
+
+    /**
+     * @return number of sprites in the atlas
+     */
+    public int getSpriteCount() {
+        return regions.size();
+    }
+
+    /**
+     * @return image holding every sprite
+     */
+    public BufferedImage getSheet() {
+        return sheet;
+    }
+
+    /**
+     * Packs sprites into shelves: sprites sorted by height are laid left to right, and a new shelf starts below
+     * the tallest sprite of the current one when the row is full.
+     *
+     * @param sprites  sprite key → sprite
+     * @param maxWidth width of the sheet
+     * @return atlas holding every sprite
+     */
+    public static SpriteAtlas pack(Map<String, BufferedImage> sprites, int maxWidth) {
+        ArrayList<Map.Entry<String, BufferedImage>> entries = new ArrayList<>(sprites.entrySet());
+        entries.sort((a, b) -> b.getValue().getHeight() - a.getValue().getHeight());
+
+        HashMap<String, Rectangle> regions = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        int width = 0;
+        for (Map.Entry<String, BufferedImage> entry : entries) {
+            BufferedImage sprite = entry.getValue();
+            if (sprite.getWidth() > maxWidth) {
+                throw new IllegalArgumentException("Sprite wider than the atlas: " + entry.getKey());
+            }
+            if (x + sprite.getWidth() > maxWidth) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            regions.put(entry.getKey(), new Rectangle(x, y, sprite.getWidth(), sprite.getHeight()));
+            x += sprite.getWidth() + PADDING;
+            width = Math.max(width, x - PADDING);
+            shelfHeight = Math.max(shelfHeight, sprite.getHeight());
+        }
+
+        BufferedImage sheet = new BufferedImage(Math.max(1, width), Math.max(1, y + shelfHeight),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = sheet.createGraphics();
+        for (Map.Entry<String, BufferedImage> entry : entries) {
+            Rectangle region = regions.get(entry.getKey());
+            g2d.drawImage(entry.getValue(), region.x, region.y, null);
+        }
+        g2d.dispose();
+        return new SpriteAtlas(sheet, regions);
+    }
+
+    /**
+     * Writes the sheet as PNG and the index as UTF-8 text.
+     *
+     * @param image output of the sheet
+     * @param index output of the index
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream image, OutputStream index) throws IOException {
+        ImageIO.write(sheet, "png", image);
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(index, StandardCharsets.UTF_8));
+        regions.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Rectangle r = entry.getValue();
+                    writer.println(r.x + " " + r.y + " " + r.width + " " + r.height + " " + entry.getKey());
+                });
+        writer.flush();
+    }
+
+    /**
+     * Reads an atlas written by {@link #write}.
+     *
+     * @param image PNG sheet
+     * @param index text index
+     * @return atlas
+     * @throws IOException if reading fails or the index is malformed
+     */
+    public static SpriteAtlas read(InputStream image, InputStream index) throws IOException {
+        BufferedImage sheet = ImageIO.read(image);
+        if (sheet == null) {
+            throw new IOException("Unsupported atlas image format");
+        }
+        sheet = ImageUtil.toArgb(sheet);
+        HashMap<String, Rectangle> regions = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(" ", 5);
+            if (fields.length != 5) {
+                throw new IOException("Malformed atlas index line: " + line);
+            }
+            try {
+                regions.put(fields[4], new Rectangle(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                        Integer.parseInt(fields[2]), Integer.parseInt(fields[3])));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed atlas index line: " + line, e);
+            }
+        }
+        return new SpriteAtlas(sheet, regions);
+    }
+
+    /**
+     * Loads the shipped atlas from the classpath.
+     *
+     * @return atlas, null if it is missing or cannot be read (images are then decoded one by one)
+     */
+    static SpriteAtlas load() {
+        try (InputStream image = SpriteAtlas.class.getResourceAsStream("/image" + IMAGE_NAME);
+             InputStream index = SpriteAtlas.class.getResourceAsStream("/image" + INDEX_NAME)) {
+            if (image == null || index == null) {
+                return null;
+            }
+            return read(image, index);
+        } catch (IOException e) {
+            System.err.println("Failed to load sprite atlas, decoding images one by one");
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
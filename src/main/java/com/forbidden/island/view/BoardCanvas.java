@@ -0,0 +1,165 @@
+package com.forbidden.island.view;
+
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.utils.ImageUtil;
+import com.forbidden.island.utils.Map;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * BoardCanvas is the optional custom-painted game board: one component instead of an ImagePanel holding 36
+ * JButtons in a GridLayout.
+ * <p>
+ * The tile buttons of TileGridPanel.tileCards are kept as the state of the tiles (icon, visibility, enabled
+ * state and highlight border), so the renderers and GameListener work unchanged, but they are never added to
+ * a container. The canvas paints them itself in the same 6x6 grid:
+ * <ul>
+ *     <li>the background is scaled once into a backbuffer, only again when the size changes</li>
+ *     <li>every visible tile is one icon draw (a TileSprites image), clipped to its cell, plus its border</li>
+ *     <li>a change of a tile button only repaints that button's cell</li>
+ *     <li>clicks are hit-tested to slots and forwarded to the tile button, whose listeners are the
+ *     GameListener board click path</li>
+ * </ul>
+ */
+public class BoardCanvas extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    /** Background placement of ImagePanel: drawn at (-150, -150), scaled to 1100x1100 */
+    private static final int BACKGROUND_OFFSET = -150;
+    private static final int BACKGROUND_SIZE = 1100;
+
+    private final Image backgroundImage;
+    private final List<JButton> tileCards;
+    /** Background scaled for the current size, null until painted */
+    private BufferedImage backbuffer;
+
+    /**
+     * @param imagePath background image path relative to /image directory in resources
+     * @param tileCards tile buttons by slot, never added to a container
+     */
+    public BoardCanvas(String imagePath, List<JButton> tileCards) {
+        this.backgroundImage = ImageUtil.getImage(imagePath);
+        this.tileCards = tileCards;
+        setOpaque(true);
+
+        // Repaint the cell of a tile button whenever its state changes
+        for (int slot = 0; slot < tileCards.size(); slot++) {
+            int tileSlot = slot;
+            JButton tileCard = tileCards.get(slot);
+            tileCard.addPropertyChangeListener(e -> repaint(getCellBounds(tileSlot)));
+            tileCard.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentShown(ComponentEvent e) {
+                    repaint(getCellBounds(tileSlot));
+                }
+
+                @Override
+                public void componentHidden(ComponentEvent e) {
+                    repaint(getCellBounds(tileSlot));
+                }
+            });
+        }
+
+        // Forward clicks on a tile to its button, like a click on the button itself
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int slot = getSlotAt(e.getX(), e.getY());
+                if (slot != BoardState.NO_SLOT) {
+                    JButton tileCard = tileCards.get(slot);
+                    if (tileCard.isVisible() && tileCard.isEnabled()) {
+                        tileCard.doClick(0);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Hit test of a point of the canvas.
+     *
+     * @param x x coordinate on the canvas
+     * @param y y coordinate on the canvas
+     * @return slot of the tile cell under the point, NO_SLOT for blank cells and points outside the grid
+     */
+    public int getSlotAt(int x, int y) {
+        int cellWidth = getWidth() / Map.rows;
+        int cellHeight = getHeight() / Map.rows;
+        int left = x - (getWidth() - cellWidth * Map.rows) / 2;
+        int top = y - (getHeight() - cellHeight * Map.rows) / 2;
+        if (cellWidth == 0 || cellHeight == 0 || left < 0 || top < 0) {
+            return BoardState.NO_SLOT;
+        }
+        return IslandLayout.slotAt(top / cellHeight, left / cellWidth);
+    }
+
+    /**
+     * Bounds of a tile cell, laid out like GridLayout(6, 6): equal cells, centered.
+     *
+     * @param slot slot on the board
+     * @return bounds of the cell on the canvas
+     */
+    public Rectangle getCellBounds(int slot) {
+        int cellWidth = getWidth() / Map.rows;
+        int cellHeight = getHeight() / Map.rows;
+        return new Rectangle((getWidth() - cellWidth * Map.rows) / 2 + IslandLayout.yOf(slot) * cellWidth,
+                (getHeight() - cellHeight * Map.rows) / 2 + IslandLayout.xOf(slot) * cellHeight,
+                cellWidth, cellHeight);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (backbuffer == null || backbuffer.getWidth() != getWidth() || backbuffer.getHeight() != getHeight()) {
+            backbuffer = renderBackground();
+        }
+        g.drawImage(backbuffer, 0, 0, null);
+
+        Rectangle clip = g.getClipBounds();
+        for (int slot = 0; slot < tileCards.size(); slot++) {
+            JButton tileCard = tileCards.get(slot);
+            Rectangle cell = getCellBounds(slot);
+            if (!tileCard.isVisible() || (clip != null && !clip.intersects(cell))) {
+                continue;
+            }
+            Graphics cellGraphics = g.create(cell.x, cell.y, cell.width, cell.height);
+            // Like a button: the icon centered in the cell, grayed out when disabled
+            Icon icon = tileCard.isEnabled() ? tileCard.getIcon() : tileCard.getDisabledIcon();
+            if (icon != null) {
+                icon.paintIcon(this, cellGraphics,
+                        (cell.width - icon.getIconWidth()) / 2, (cell.height - icon.getIconHeight()) / 2);
+            }
+            Border border = tileCard.getBorder();
+            if (tileCard.isBorderPainted() && border != null) {
+                border.paintBorder(this, cellGraphics, 0, 0, cell.width, cell.height);
+            }
+            cellGraphics.dispose();
+        }
+    }
+
+    /**
+     * Scales the background image for the current size of the canvas.
+     */
+    private BufferedImage renderBackground() {
+        BufferedImage background = new BufferedImage(Math.max(1, getWidth()), Math.max(1, getHeight()),
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = background.createGraphics();
+        g2d.setColor(getBackground() != null ? getBackground() : Color.BLACK);
+        g2d.fillRect(0, 0, background.getWidth(), background.getHeight());
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(backgroundImage, BACKGROUND_OFFSET, BACKGROUND_OFFSET, BACKGROUND_SIZE, BACKGROUND_SIZE, null);
+        g2d.dispose();
+        return background;
+    }
+}
@@ -21,6 +21,12 @@ public class FloodPanel {
      */
     public static ArrayList<JButton> floodCards;
 
+    /**
+     * Static label showing the back of the flood deck,
+     * its tooltip tells the chance to lose the game in the next flood phase.
+     */
+    public static JLabel floodDeck;
+
     /**
      * JPanel container for holding all flood-related components (labels, buttons, etc.).
      */
@@ -45,12 +51,12 @@ public class FloodPanel {
         floodPanel.add(pile); // Add label to panel
 
         // Create label for "Flood Deck Back"
-        JLabel back = new JLabel();
-        back.setPreferredSize(floodCardSize);
+        floodDeck = new JLabel();
+        floodDeck.setPreferredSize(floodCardSize);
         // Load back image and rotate 90 degrees (parameter 90d indicates rotation angle)
-        back.setIcon(new ImageIcon(Objects.requireNonNull(
+        floodDeck.setIcon(new ImageIcon(Objects.requireNonNull(
                 ImageUtil.getImage("/Back/Flood Deck.png", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT, 90d))));
-        floodPanel.add(back); // Add to panel
+        floodPanel.add(floodDeck); // Add to panel
 
         // Initialize list for flood card buttons
         floodCards = new ArrayList<>();
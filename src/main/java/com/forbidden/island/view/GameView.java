@@ -0,0 +1,162 @@
+package com.forbidden.island.view;
+
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.FloodRisk;
+import com.forbidden.island.view.handler.TargetRendering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameView is an immutable snapshot of everything the renderers draw: tile states, pawns and hands of the
+ * players, displayed treasure cards, flood discards, the odds of the next flood phase, water meter, turn flags and
+ * the target highlight query.
+ * <p>
+ * The game loop takes a view on the game-logic thread after every command and publishes it to the EDT
+ * (ElementEngine.publishView), so the renderers never read the session while the rules are changing it.
+ */
+public final class GameView {
+    private final int numOfPlayer;
+    private final int roundNum;
+    private final boolean inFakeRound;
+    private final boolean need2save;
+    /** Slot → render state, see TileSprites.key */
+    private final int[] tileStates;
+    /** Seat → adventurer ID */
+    private final int[] roles;
+    /** Seat → mask of the captured figurines, see PlayerBadges.mask */
+    private final int[] figurines;
+    private final List<List<Integer>> handCards;
+    private final List<Integer> displayedTreasureCards;
+    private final List<Integer> floodCards;
+    /** Probability that the next flood phase loses the game, see FloodRisk */
+    private final double floodLoss;
+    private final String waterMeterImg;
+    private final TargetRendering.Query targets;
+
+    private GameView(GameSession session) {
+        numOfPlayer = session.getNumOfPlayer();
+        roundNum = session.getRoundNum();
+        inFakeRound = session.isInFakeRound();
+        need2save = session.isNeed2save();
+
+        tileStates = new int[BoardState.SLOT_COUNT];
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            tileStates[slot] = TileSprites.key(session.getBoard().getTile(IslandLayout.xOf(slot), IslandLayout.yOf(slot)));
+        }
+
+        Adventurer[] adventurers = session.getAdventurers();
+        roles = new int[numOfPlayer];
+        figurines = new int[numOfPlayer];
+        List<List<Integer>> hands = new ArrayList<>();
+        for (int seat = 0; seat < numOfPlayer; seat++) {
+            roles[seat] = adventurers[seat].getId();
+            figurines[seat] = PlayerBadges.mask(adventurers[seat].getCapturedFigurines());
+            hands.add(copyOf(adventurers[seat].getHandCards()));
+        }
+        handCards = Collections.unmodifiableList(hands);
+        displayedTreasureCards = copyOf(session.getDisplayedTreasureCard());
+        floodCards = copyOf(session.getLastFloodCards());
+        floodLoss = session.getFloodDeck().computeRisk(session.getBoard().getState(), new FloodRisk()).getLossProbability();
+        waterMeterImg = session.getWaterMeter().getImg();
+        targets = TargetRendering.capture(session);
+    }
+
+    /**
+     * Takes a view of a session. Must run on the thread that changes the session.
+     *
+     * @param session game session
+     * @return view of its current state
+     */
+    public static GameView of(GameSession session) {
+        return new GameView(session);
+    }
+
+    private static List<Integer> copyOf(List<Integer> cards) {
+        return Collections.unmodifiableList(new ArrayList<>(cards));
+    }
+
+    public int getNumOfPlayer() {
+        return numOfPlayer;
+    }
+
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    public boolean isInFakeRound() {
+        return inFakeRound;
+    }
+
+    public boolean isNeed2save() {
+        return need2save;
+    }
+
+    /**
+     * @param slot slot on the board
+     * @return render state of the tile, TileSprites.SUNK if it has sunk
+     */
+    public int getTileState(int slot) {
+        return tileStates[slot];
+    }
+
+    /**
+     * @param seat player order
+     * @return adventurer ID of the player
+     */
+    public int getRole(int seat) {
+        return roles[seat];
+    }
+
+    /**
+     * @param seat player order
+     * @return mask of the figurines captured by the player
+     */
+    public int getFigurines(int seat) {
+        return figurines[seat];
+    }
+
+    /**
+     * @param seat player order
+     * @return hand of the player, unmodifiable
+     */
+    public List<Integer> getHandCards(int seat) {
+        return handCards.get(seat);
+    }
+
+    /**
+     * @return treasure cards drawn but not taken into the hand yet, unmodifiable
+     */
+    public List<Integer> getDisplayedTreasureCards() {
+        return displayedTreasureCards;
+    }
+
+    /**
+     * @return flood cards drawn in the last flood phase, shown in the flood panel, unmodifiable
+     */
+    public List<Integer> getFloodCards() {
+        return floodCards;
+    }
+
+    /**
+     * @return probability that the next flood phase sinks Fools' Landing or the last shrine of a treasure
+     */
+    public double getFloodLoss() {
+        return floodLoss;
+    }
+
+    public String getWaterMeterImg() {
+        return waterMeterImg;
+    }
+
+    /**
+     * @return what the target highlights are computed from
+     */
+    public TargetRendering.Query getTargets() {
+        return targets;
+    }
+}
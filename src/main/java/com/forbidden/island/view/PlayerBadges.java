@@ -0,0 +1,94 @@
+package com.forbidden.island.view;
+
+import com.forbidden.island.model.enums.TreasureFigurines;
+import com.forbidden.island.utils.Constant;
+import com.forbidden.island.utils.ImageUtil;
+import com.forbidden.island.utils.Map;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * PlayerBadges composites the pawn of a player and the treasure figurines they captured into one badge image.
+ * <p>
+ * There is one badge per role and set of captured figurines (6 x 16), each composited once on first use, so
+ * painting a pawn button costs the same however many updates and captures happened before. Only used on the EDT.
+ */
+public final class PlayerBadges {
+    private static final int FIGURINE_SETS = 1 << TreasureFigurines.values().length;
+
+    /** Badges by role * FIGURINE_SETS + figurine mask, null until first used */
+    private static final ImageIcon[] BADGES = new ImageIcon[6 * FIGURINE_SETS];
+
+    private static long hits;
+    private static long misses;
+
+    private PlayerBadges() {
+    }
+
+    /**
+     * @param figurines captured figurines
+     * @return mask of the figurines, bit i for TreasureFigurines ordinal i
+     */
+    public static int mask(List<TreasureFigurines> figurines) {
+        int mask = 0;
+        for (TreasureFigurines figurine : figurines) {
+            mask |= 1 << figurine.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * @param role      adventurer ID (0-5)
+     * @param figurines mask of the captured figurines, see mask
+     * @return pawn with the figurines, TREASURE_WIDTH x TREASURE_HEIGHT
+     */
+    public static ImageIcon get(int role, int figurines) {
+        int key = role * FIGURINE_SETS + figurines;
+        ImageIcon badge = BADGES[key];
+        if (badge != null) {
+            hits++;
+            return badge;
+        }
+        misses++;
+        badge = new ImageIcon(composite(role, figurines));
+        BADGES[key] = badge;
+        return badge;
+    }
+
+    /**
+     * Draws the pawn, then the captured figurines. The figurine images are drawn over the pawn image at the same
+     * scale: each one has its figure at its own place in the row above the pawn.
+     */
+    private static BufferedImage composite(int role, int figurines) {
+        BufferedImage badge = new BufferedImage(Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = badge.createGraphics();
+        g2d.drawImage(ImageUtil.getImage("/Pawns/" + Map.adventurerMatcher.get(role) + ".png",
+                Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT), 0, 0, null);
+        for (TreasureFigurines figurine : TreasureFigurines.values()) {
+            if ((figurines & (1 << figurine.ordinal())) != 0) {
+                g2d.drawImage(ImageUtil.getImage("/Figurines/" + figurine.name() + ".png",
+                        Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT), 0, 0, null);
+            }
+        }
+        g2d.dispose();
+        return badge;
+    }
+
+    /**
+     * @return number of badges served from the cache
+     */
+    public static long getCacheHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of badges that had to be composited
+     */
+    public static long getCacheMisses() {
+        return misses;
+    }
+}
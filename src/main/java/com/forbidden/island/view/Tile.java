@@ -1,7 +1,7 @@
 package com.forbidden.island.view;
 
-import com.forbidden.island.controller.ForbiddenIslandGame;
 import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.board.BoardState;
 import com.forbidden.island.model.enums.TileStatus;
 import com.forbidden.island.utils.LogUtil;
 
@@ -9,28 +9,17 @@ import java.util.ArrayList;
 
 /**
  * Tile class represents a single cell on the game map,
- * storing all information about the tile including image path, status, existence,
+ * giving access to all information about the tile including image path, status, existence,
  * treasure capture state, and adventurers on this tile.
+ * The state itself lives in one slot of a BoardState; a tile created on its own gets a one-slot board.
  */
 public class Tile {
     // Tile ID (unique identifier for this Tile), default value is -1
     private int tileId = -1;
-    // Current tile status (normal, flooded, or sunk)
-    private TileStatus status;
-    // Image path for UI display (complete path = imgFolder + imgFile)
-    private String img;
-    // Image folder path, defaults to "/Tiles/" or "/SubmersedTiles/"
-    private String imgFolder;
-    // Image filename, format like "1.png", auto-generated based on tileId
-    private String imgFile;
-    // Indicates if this tile still exists on the map (set to false when sunk)
-    private boolean isExist;
-    // List of adventurer IDs currently standing on this tile (stored as Integers)
-    private ArrayList<Integer> adventurersOnBoard;
-    // Whether treasure has been captured on this tile
-    private boolean isCaptured = false;
-
-    private static final int FOOLS_LANDING_TILE_ID = 14;
+    // Board holding the state of this tile, null for empty placeholders
+    private BoardState board;
+    // Slot of this tile on the board
+    private int slot = BoardState.NO_SLOT;
 
     /**
      * Create a tile in initial state with one adventurer on it.
@@ -40,14 +29,8 @@ public class Tile {
      * @param isExist whether tile exists
      */
     public Tile(int tileId, int playerID, boolean isExist) {
-        this.adventurersOnBoard = new ArrayList<>();
-        this.tileId = tileId;
-        this.status = TileStatus.Normal;
-        this.imgFolder = "/Tiles/";
-        this.imgFile = tileId + ".png";
-        this.img = imgFolder + imgFile;
-        this.adventurersOnBoard.add(playerID);
-        this.isExist = isExist;
+        this(tileId, isExist);
+        moveOn(playerID);
     }
 
     /**
@@ -57,13 +40,11 @@ public class Tile {
      * @param isExist whether tile exists
      */
     public Tile(int tileId, boolean isExist) {
-        this.adventurersOnBoard = new ArrayList<>();
-        this.tileId = tileId;
-        this.status = TileStatus.Normal;
-        this.imgFolder = "/Tiles/";
-        this.imgFile = tileId + ".png";
-        this.img = imgFolder + imgFile;
-        this.isExist = isExist;
+        this(new BoardState(new int[]{tileId}), 0);
+        if (!isExist) {
+            board.flood(slot);
+            board.flood(slot);
+        }
     }
 
     /**
@@ -72,7 +53,18 @@ public class Tile {
      * @param isExist whether tile exists
      */
     public Tile(boolean isExist) {
-        this.isExist = isExist;
+    }
+
+    /**
+     * Create a tile backed by one slot of a board.
+     *
+     * @param board board holding the tile state
+     * @param slot slot of the tile on the board
+     */
+    public Tile(BoardState board, int slot) {
+        this.board = board;
+        this.slot = slot;
+        this.tileId = board.getTileId(slot);
     }
 
     /**
@@ -81,7 +73,7 @@ public class Tile {
      * @param playerID player ID
      */
     public void moveOn(int playerID) {
-        this.adventurersOnBoard.add(playerID);
+        board.setPawnSlot(playerID, slot);
     }
 
     /**
@@ -90,7 +82,21 @@ public class Tile {
      * @param adventurer adventurer object to remove
      */
     public void moveOff(Adventurer adventurer) {
-        adventurersOnBoard.remove((Integer) adventurer.getId());
+        if (board != null && board.getPawnSlot(adventurer.getId()) == slot) {
+            board.setPawnSlot(adventurer.getId(), BoardState.NO_SLOT);
+        }
+    }
+
+    /**
+     * Remove all players from this tile (when they fall into the sea).
+     */
+    public void clearPlayers() {
+        int mask = getPlayerMask();
+        for (int role = 0; mask != 0; role++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                board.setPawnSlot(role, BoardState.NO_SLOT);
+            }
+        }
     }
 
     /**
@@ -102,7 +108,8 @@ public class Tile {
      * @return whether both are on the current tile
      */
     public boolean CanPass(Adventurer sender, Adventurer receiver) {
-        return adventurersOnBoard.contains(sender.getId()) && adventurersOnBoard.contains(receiver.getId());
+        int both = (1 << sender.getId()) | (1 << receiver.getId());
+        return (getPlayerMask() & both) == both;
     }
 
     /**
@@ -110,11 +117,7 @@ public class Tile {
      * Operation only allowed when status is Flooded.
      */
     public void shoreUp() {
-        if (status == TileStatus.Flooded) {
-            status = TileStatus.Normal;
-            this.imgFolder = "/Tiles/";
-            this.img = imgFolder + imgFile;
-        } else {
+        if (!board.shoreUp(slot)) {
             System.out.println("ERROR! Tile is not flooded");
         }
     }
@@ -123,29 +126,15 @@ public class Tile {
      * Sink this tile (change status and update image).
      *
      * Normal → Flooded: Update image to "flooded version"
-     * Flooded → Sunk: Remove image and existence flag, end game if critical location (like Fool's Landing)
+     * Flooded → Sunk: Remove image and existence flag (the owning GameSession checks for Fool's Landing)
      *
      * @return true if tile is completely sunk, false if only flooded
      */
     public boolean sinkTile() {
-        if (status == TileStatus.Normal) {
-            status = TileStatus.Flooded;
-            imgFolder = "/SubmersedTiles/";
-            img = imgFolder + imgFile;
-            return false;
-        } else if (status == TileStatus.Flooded) {
-            status = TileStatus.Sunk;
-            img = null;
-            isExist = false;
-            if (tileId == FOOLS_LANDING_TILE_ID) {
-                ForbiddenIslandGame.finish(false);  // End game (failure)
-                LogUtil.console("[!] Fool's Landing Is Flooded!");
-            }
-            return true;
-        } else {
+        if (!board.isExist(slot)) {
             LogUtil.console("ERROR! This tile has sunk");
-            return true;
         }
+        return board.flood(slot);
     }
 
     /**
@@ -153,9 +142,7 @@ public class Tile {
      * Usually called after players successfully capture the treasure on the tile.
      */
     public void setCaptured() {
-        isCaptured = true;
-        this.imgFile = tileId + 24 + ".png";    // Special image indicating "captured"
-        this.img = imgFolder + imgFile;
+        board.setCaptured(slot);
     }
 
     /**
@@ -164,26 +151,56 @@ public class Tile {
      * @return true if not yet captured
      */
     public boolean isUnCaptured() {
-        return !isCaptured;
+        return board == null || !board.isCaptured(slot);
     }
 
     public int getTileId() {
         return tileId;
     }
 
+    public int getSlot() {
+        return slot;
+    }
+
     public TileStatus getStatus() {
-        return status;
+        return board == null ? null : board.getStatus(slot);
     }
 
+    /**
+     * Image path for UI display: "/Tiles/" or "/SubmersedTiles/" followed by the image file,
+     * captured shrines use the image numbered tileId + 24. Sunk tiles have no image.
+     *
+     * @return image path, null if the tile has no image
+     */
     public String getImg() {
-        return img;
+        if (!isExist()) {
+            return null;
+        }
+        String imgFolder = board.isFlooded(slot) ? "/SubmersedTiles/" : "/Tiles/";
+        return imgFolder + (board.isCaptured(slot) ? tileId + 24 : tileId) + ".png";
     }
 
     public boolean isExist() {
-        return isExist;
+        return board != null && board.isExist(slot);
+    }
+
+    /**
+     * @return mask of the adventurer IDs (bit i for ID i) standing on this tile
+     */
+    public int getPlayerMask() {
+        return board == null ? 0 : board.getPawnMask(slot);
     }
 
+    /**
+     * @return IDs of the adventurers standing on this tile, in ascending order
+     */
     public ArrayList<Integer> getPlayerOnBoard() {
-        return adventurersOnBoard;
+        ArrayList<Integer> players = new ArrayList<>();
+        for (int mask = getPlayerMask(), role = 0; mask != 0; role++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                players.add(role);
+            }
+        }
+        return players;
     }
 }
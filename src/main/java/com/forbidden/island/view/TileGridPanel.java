@@ -13,6 +13,8 @@ import java.util.ArrayList;
  * Each playable tile is represented by a JButton and added to the static tileCards list for game logic control
  * (e.g., visibility, click events).
  * The board uses Arena.jpg as background and arranges tiles using GridLayout.
+ * With the custom-painted board enabled (setCustomPainted, before the panel is created), the tile buttons are
+ * not laid out and a single BoardCanvas paints the background and tiles and forwards clicks to the buttons.
  *
  * Main purposes:
  * - Initialize and render the game map interface
@@ -28,8 +30,11 @@ public class TileGridPanel {
     // Static list storing all interactive tile buttons (JButtons for non-blank areas)
     public static ArrayList<JButton> tileCards = new ArrayList<>();
 
-    // Game board image panel containing 6x6 grid
-    private final ImagePanel board;
+    // Whether the board is painted by a single BoardCanvas instead of buttons in an ImagePanel
+    private static boolean customPainted;
+
+    // Game board component: image panel containing the 6x6 grid of buttons, or the board canvas
+    private final JComponent board;
 
     /**
      * Constructor: Creates and initializes the board interface, including background image and all tile buttons.
@@ -43,7 +48,7 @@ public class TileGridPanel {
         Dimension boardSize = new Dimension(Constant.BOARD_WIDTH, Constant.BOARD_HEIGHT);
 
         // Create panel with map image background and 6x6 grid layout
-        board = new ImagePanel("/Map/Arena.jpg", new GridLayout(6, 6, 0, 0));
+        ImagePanel grid = customPainted ? null : new ImagePanel("/Map/Arena.jpg", new GridLayout(6, 6, 0, 0));
 
         // Initialize 36 buttons (corresponding to 6x6 board tiles)
         for (int i = 0; i < 36; i++) {
@@ -59,17 +64,32 @@ public class TileGridPanel {
                 tileCards.add(tileCard);    // Add to list of operable tiles
             }
             // Add button to board background panel
-            board.add(tileCard);
+            if (grid != null) {
+                grid.add(tileCard);
+            }
         }
+        board = grid != null ? grid : new BoardCanvas("/Map/Arena.jpg", tileCards);
         // Set board panel size
         board.setPreferredSize(boardSize);
     }
 
     /**
-     * Get the board image panel (containing all buttons and background)
-     * @return board Panel composed of game board background and buttons
+     * Get the board component (background and tiles)
+     * @return board Panel composed of game board background and buttons, or the board canvas
      */
-    public ImagePanel getBoard() {
+    public JComponent getBoard() {
         return board;
     }
+
+    /**
+     * Chooses how boards created afterwards are drawn.
+     * @param customPainted true for a single custom-painted BoardCanvas, false for buttons in a GridLayout
+     */
+    public static void setCustomPainted(boolean customPainted) {
+        TileGridPanel.customPainted = customPainted;
+    }
+
+    public static boolean isCustomPainted() {
+        return customPainted;
+    }
 }
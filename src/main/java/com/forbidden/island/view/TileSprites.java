@@ -0,0 +1,135 @@
+package com.forbidden.island.view;
+
+import com.forbidden.island.model.enums.TileStatus;
+import com.forbidden.island.utils.Constant;
+import com.forbidden.island.utils.ImageUtil;
+import com.forbidden.island.utils.Map;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+
+/**
+ * TileSprites composites a tile image and the pawns standing on it into one image, so painting a tile button
+ * is a single drawImage instead of a chain of overlay icons.
+ * <p>
+ * Sprites are keyed by the render state of the tile (tile ID, status, captured flag and pawn set) and kept in a
+ * bounded least recently used cache; a sprite can be drawn from its key alone, e.g. from a GameView. Only used
+ * on the EDT.
+ */
+public final class TileSprites {
+    /** Maximum number of cached sprites, far more than the tile states of one game */
+    public static final int CACHE_CAPACITY = 128;
+    /** Horizontal distance between the pawns on one tile */
+    public static final int PAWN_SPACING = 20;
+    /** Key of a tile that has sunk, it has no sprite */
+    public static final int SUNK = -2;
+    /** Bits of the pawn mask in a key */
+    private static final int PAWN_MASK = (1 << 6) - 1;
+
+    /** Cached sprites by key, in access order */
+    private static final LinkedHashMap<Integer, ImageIcon> CACHE =
+            new LinkedHashMap<Integer, ImageIcon>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(java.util.Map.Entry<Integer, ImageIcon> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            };
+
+    private static long hits;
+    private static long misses;
+
+    private TileSprites() {
+    }
+
+    /**
+     * @param tile tile
+     * @return render state of the tile: SUNK, or its tile ID, status, captured flag and pawn mask in one int
+     */
+    public static int key(Tile tile) {
+        if (!tile.isExist()) {
+            return SUNK;
+        }
+        return tile.getTileId() << 10 | tile.getStatus().ordinal() << 7
+                | (tile.isUnCaptured() ? 0 : 1 << 6) | tile.getPlayerMask();
+    }
+
+    /**
+     * @param tile tile that has not sunk
+     * @return tile image with its pawns, TILE_WIDTH x TILE_HEIGHT
+     */
+    public static ImageIcon get(Tile tile) {
+        return get(key(tile));
+    }
+
+    /**
+     * @param key render state of a tile that has not sunk, see key
+     * @return tile image with its pawns, TILE_WIDTH x TILE_HEIGHT
+     */
+    public static ImageIcon get(int key) {
+        ImageIcon sprite = CACHE.get(key);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        misses++;
+        sprite = new ImageIcon(composite(key));
+        CACHE.put(key, sprite);
+        return sprite;
+    }
+
+    /**
+     * Image path of a render state, like Tile.getImg.
+     */
+    private static String imagePath(int key) {
+        int tileId = key >>> 10;
+        String imgFolder = (key >>> 7 & 7) == TileStatus.Flooded.ordinal() ? "/SubmersedTiles/" : "/Tiles/";
+        return imgFolder + ((key & 1 << 6) != 0 ? tileId + 24 : tileId) + ".png";
+    }
+
+    /**
+     * Draws the tile image, then the pawns in ascending ID order, spread around the center of the tile.
+     */
+    private static BufferedImage composite(int key) {
+        BufferedImage sprite = new BufferedImage(Constant.TILE_WIDTH, Constant.TILE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = sprite.createGraphics();
+        g2d.drawImage(ImageUtil.getImage(imagePath(key), Constant.TILE_WIDTH, Constant.TILE_HEIGHT), 0, 0, null);
+        int pawns = key & PAWN_MASK;
+        int count = Integer.bitCount(pawns);
+        int x = -(count - 1) * PAWN_SPACING / 2;
+        for (int role = 0; pawns != 0; role++, pawns >>>= 1) {
+            if ((pawns & 1) == 0) {
+                continue;
+            }
+            g2d.drawImage(ImageUtil.getImage("/Pawns/" + Map.adventurerMatcher.get(role) + ".png",
+                    Constant.TILE_WIDTH, Constant.TILE_HEIGHT), x, 0, null);
+            x += PAWN_SPACING;
+        }
+        g2d.dispose();
+        return sprite;
+    }
+
+    /**
+     * @return number of sprites served from the cache
+     */
+    public static long getCacheHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of sprites that had to be composited
+     */
+    public static long getCacheMisses() {
+        return misses;
+    }
+
+    /**
+     * Empties the cache and resets its counters.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+        hits = 0;
+        misses = 0;
+    }
+}
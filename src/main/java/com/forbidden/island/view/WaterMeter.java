@@ -1,8 +1,5 @@
 package com.forbidden.island.view;
 
-import com.forbidden.island.controller.ForbiddenIslandGame;
-import com.forbidden.island.utils.LogUtil;
-
 /**
  * WaterMeter class represents the "water meter" in the Forbidden Island game.
  * It tracks the current water level and determines the number of flood cards to draw each round based on the level.
@@ -34,7 +31,7 @@ public class WaterMeter {
     /**
      * Execute water level rise operation (called when "Water Rise!" card is drawn).
      * Increases water level and updates image and flood card count.
-     * If water level rises to skull level (10), game is lost.
+     * If water level rises to skull level (10), game is lost; see {@link #isAtSkull()}.
      */
     public void WaterRise() {
         // Increase water level
@@ -45,43 +42,54 @@ public class WaterMeter {
 
         // Update current flood card count per round
         setFloodCardCount();
+    }
 
-        // If water level reaches maximum (skull icon), end game
-        if (waterLevel == 10) {
-            LogUtil.console("[!] Water Level Reaches The Skull And Crossbones");
-
-            // Trigger game failure (false indicates failure)
-            ForbiddenIslandGame.finish(false);
-        }
+    /**
+     * Whether the water level has reached the skull and crossbones (level 10), which loses the game.
+     *
+     * @return true if the skull has been reached
+     */
+    public boolean isAtSkull() {
+        return waterLevel >= 10;
     }
 
     /**
      * Set number of flood cards to draw per round based on current water level.
      */
     private void setFloodCardCount() {
+        // Water level 10 (skull) no longer draws cards as game ends
+        if (waterLevel < 10) {
+            floodCardCount = floodCardCountAt(waterLevel);
+        }
+    }
+
+    /**
+     * Number of flood cards drawn per round at a water level.
+     *
+     * @param waterLevel water level (1-9)
+     * @return 2 at levels 1-2, 3 at levels 3-5, 4 at levels 6-7, 5 at levels 8-9
+     */
+    public static int floodCardCountAt(int waterLevel) {
         switch (waterLevel) {
             case 1:
             case 2:
-                floodCardCount = 2; // Lowest level: draw 2 cards per round
-                break;
+                return 2; // Lowest level: draw 2 cards per round
             case 3:
             case 4:
             case 5:
-                floodCardCount = 3; // Medium water level: draw 3 cards
-                break;
+                return 3; // Medium water level: draw 3 cards
             case 6:
             case 7:
-                floodCardCount = 4; // High water level: draw 4 cards
-                break;
-            case 8:
-            case 9:
-                floodCardCount = 5; // Extreme water level: draw 5 cards
-                break;
-
-            // Water level 10 (skull) no longer draws cards as game ends
+                return 4; // High water level: draw 4 cards
+            default:
+                return 5; // Extreme water level: draw 5 cards
         }
     }
 
+    public int getWaterLevel() {
+        return waterLevel;
+    }
+
     public int getFloodCardCount() {
         return floodCardCount;
     }
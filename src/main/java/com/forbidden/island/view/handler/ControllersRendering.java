@@ -1,6 +1,7 @@
 package com.forbidden.island.view.handler;
 
-import com.forbidden.island.controller.ForbiddenIslandGame;
+import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.view.GameView;
 import com.forbidden.island.view.OperatePanel;
 
 import javax.swing.*;
@@ -19,24 +20,25 @@ public class ControllersRendering implements IRendering {
      */
     @Override
     public void update() {
+        GameView view = ElementEngine.getView();
 
         // If current round is a "fake round" (non-standard game operation round)
-        if (ForbiddenIslandGame.isInFakeRound()){
+        if (view.isInFakeRound()){
 
             // Iterate through all operation buttons
             for (JButton controller : OperatePanel.opButtons){
 
                 // Enable all buttons by default unless save is needed; if save is needed, disable them
-                controller.setEnabled(!ForbiddenIslandGame.isNeed2save());
+                controller.setEnabled(!view.isNeed2save());
             }
 
             // Special handling: operation button index 1 (usually "Save" button) should be enabled when save is needed
-            OperatePanel.opButtons.get(1).setEnabled(ForbiddenIslandGame.isNeed2save());
+            OperatePanel.opButtons.get(1).setEnabled(view.isNeed2save());
         }
         else {
             // Non-fake round phase, similarly iterate buttons, enable only when save is not needed
             for (JButton controller : OperatePanel.opButtons){
-                controller.setEnabled(!ForbiddenIslandGame.isNeed2save());
+                controller.setEnabled(!view.isNeed2save());
             }
         }
     }
@@ -6,7 +6,7 @@ import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.FloodPanel;
 
 import javax.swing.*;
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * FloodRendering implements IRendering interface,
@@ -18,13 +18,17 @@ public class FloodRendering implements IRendering {
     /**
      * Updates the display and enabled states of flood cards.
      * Iterates through all flood card buttons in FloodPanel, determines whether to show
-     * and enable corresponding buttons based on remaining cards in the flood deck,
+     * and enable corresponding buttons based on the cards drawn in the last flood phase,
      * and sets appropriate card icons based on card numbers.
+     * The cards come from the view, never from the flood deck, which would show (and may reshuffle) the next cards.
+     * The tooltip of the deck tells the chance to lose the game in the next flood phase.
      */
     @Override
     public void update() {
-        // Get current available cards count and number list from flood deck
-        ArrayList<Integer> floodCardsInDeck = ElementEngine.getFloodDeck().getCards();
+        // Get the cards drawn in the last flood phase
+        List<Integer> floodCardsInDeck = ElementEngine.getView().getFloodCards();
+
+        FloodPanel.floodDeck.setToolTipText(tooltip(ElementEngine.getView().getFloodLoss()));
 
         // Iterate through flood card buttons in interface
         for (int i = 0; i < FloodPanel.floodCards.size(); i++) {
@@ -52,6 +56,14 @@ public class FloodRendering implements IRendering {
         }
     }
 
+    /**
+     * @param loss probability that the next flood phase loses the game
+     * @return tooltip of the flood deck
+     */
+    private static String tooltip(double loss) {
+        return String.format("Chance to lose in the next flood phase: %.0f%%", 100 * loss);
+    }
+
     /**
      * Called when game ends, disables all flood card buttons to prevent further operations.
      */
@@ -10,6 +10,7 @@ public interface IRendering {
      * Update the graphical interface.
      * Generally called after game state changes (such as character movement, card changes, etc.)
      * to refresh the interface and reflect the latest game state.
+     * Draws the view published by the game loop (ElementEngine.getView), on the EDT.
      */
     void update();
 
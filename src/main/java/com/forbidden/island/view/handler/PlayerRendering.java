@@ -1,9 +1,8 @@
 package com.forbidden.island.view.handler;
 
-import com.forbidden.island.model.adventurer.Adventurer;
 import com.forbidden.island.view.GamePanel;
-import com.forbidden.island.view.AdventurerIcon;
-import com.forbidden.island.controller.ForbiddenIslandGame;
+import com.forbidden.island.view.GameView;
+import com.forbidden.island.view.PlayerBadges;
 import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.utils.ImageUtil;
 import com.forbidden.island.utils.Constant;
@@ -25,17 +24,18 @@ public class PlayerRendering implements IRendering {
      * If slot has no player, disables all controls for that slot.
      */
     public PlayerRendering() {
+        GameView view = ElementEngine.getView();
         // Iterate through all player pawn buttons in interface
         for (int i = 0; i < GamePanel.playerPawnList.size(); i++) {
-            if (i < ForbiddenIslandGame.getNumOfPlayer()) {
+            if (i < view.getNumOfPlayer()) {
                 // Slot has player, set player pawn icon
-                GamePanel.playerPawnList.get(i).setIcon(new ImageIcon(ImageUtil.getImage(ElementEngine.getAdventurers()[i].getPawnImg(),Constant.TREASURE_WIDTH,Constant.TREASURE_HEIGHT)));
+                GamePanel.playerPawnList.get(i).setIcon(PlayerBadges.get(view.getRole(i), view.getFigurines(i)));
                 // Set hand card button states and icons for this player
                 for (int j = 0; j < GamePanel.playerHandCards.get(i).size(); j++) {
-                    if (j < ElementEngine.getAdventurers()[i].getHandCards().size()) {
+                    if (j < view.getHandCards(i).size()) {
                         // Current hand card exists, show corresponding card image
-                        GamePanel.playerHandCards.get(i).get(j).setEnabled(i == ForbiddenIslandGame.getRoundNum());
-                        GamePanel.playerHandCards.get(i).get(j).setIcon(new ImageIcon(ImageUtil.getImage("/TreasureCards/" + ElementEngine.getAdventurers()[i].getHandCards().get(j) + ".png", Constant.ADVENTURER_WIDTH, Constant.ADVENTURER_HEIGHT)));
+                        GamePanel.playerHandCards.get(i).get(j).setEnabled(i == view.getRoundNum());
+                        GamePanel.playerHandCards.get(i).get(j).setIcon(new ImageIcon(ImageUtil.getImage("/TreasureCards/" + view.getHandCards(i).get(j) + ".png", Constant.ADVENTURER_WIDTH, Constant.ADVENTURER_HEIGHT)));
                         GamePanel.playerHandCards.get(i).get(j).setAlignmentX(SwingConstants.CENTER);
                     } else {
                         // No card in this hand card position, disable button
@@ -54,39 +54,34 @@ public class PlayerRendering implements IRendering {
 
     /**
      * update method is called during gameplay to dynamically refresh the display
-     * of captured figurines stacked on player pawns and hand cards.
-     * - Each player pawn shows icons of captured figurines (can be stacked).
+     * of captured figurines on player pawns and hand cards.
+     * - Each player pawn shows the figurines its player captured, from a cached badge (PlayerBadges).
      * - Refreshes hand card button icons, enabled states, and visibility.
      */
     @Override
     public void update() {
-        int numPlayers = ForbiddenIslandGame.getNumOfPlayer();
-        Adventurer[] adventurers = ElementEngine.getAdventurers();
+        GameView view = ElementEngine.getView();
+        int numPlayers = view.getNumOfPlayer();
 
         // Iterate through all players
         for (int i = 0; i < numPlayers; i++) {
-            // Stack captured figurine icons on player pawn button
-            for (int k = 0; k < adventurers[i].getCapturedFigurines().size(); k++) {
-                GamePanel.playerPawnList.get(i).setIcon(
-                        new AdventurerIcon(
-                                new ImageIcon(ImageUtil.getImage("/Figurines/"
-                                        + adventurers[i].getCapturedFigurines().get(k).name() + ".png")),
-                                GamePanel.playerPawnList.get(i).getIcon()));
-            }
+            // Show the player's pawn with the captured figurines, one cached badge per figurine set
+            GamePanel.playerPawnList.get(i).setIcon(PlayerBadges.get(view.getRole(i), view.getFigurines(i)));
 
             // Update player hand card button icons and states, ensure showing latest hand cards
-            for (int j = 0; j < adventurers[i].getHandCards().size(); j++) {
+            List<Integer> handCards = view.getHandCards(i);
+            for (int j = 0; j < handCards.size(); j++) {
                 GamePanel.playerHandCards.get(i).get(j).setIcon(new ImageIcon(
-                        ImageUtil.getImage("/TreasureCards/" + adventurers[i].getHandCards().get(j) + ".png",
+                        ImageUtil.getImage("/TreasureCards/" + handCards.get(j) + ".png",
                                 Constant.ADVENTURER_WIDTH, Constant.ADVENTURER_HEIGHT)));
                 GamePanel.playerHandCards.get(i).get(j).setAlignmentX(SwingConstants.CENTER);
                 // Only current turn player's hand card buttons are enabled
-                GamePanel.playerHandCards.get(i).get(j).setEnabled(i == ForbiddenIslandGame.getRoundNum());
+                GamePanel.playerHandCards.get(i).get(j).setEnabled(i == view.getRoundNum());
                 GamePanel.playerHandCards.get(i).get(j).setVisible(true);
             }
 
             // Clear and disable excess hand card buttons, keep interface tidy
-            for (int j = ElementEngine.getAdventurers()[i].getHandCards().size(); j < GamePanel.playerHandCards.get(i).size(); j++) {
+            for (int j = handCards.size(); j < GamePanel.playerHandCards.get(i).size(); j++) {
                 GamePanel.playerHandCards.get(i).get(j).setIcon(null);
                 GamePanel.playerHandCards.get(i).get(j).setAlignmentX(SwingConstants.CENTER);
                 GamePanel.playerHandCards.get(i).get(j).setEnabled(false);
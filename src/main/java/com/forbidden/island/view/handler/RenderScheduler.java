@@ -0,0 +1,105 @@
+package com.forbidden.island.view.handler;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+/**
+ * RenderScheduler coalesces renderer updates: a request only marks a renderer dirty, and all dirty renderers
+ * are updated once, in the order they were first requested, at the next flush. A flush is queued on the EDT with
+ * the first request of a cycle, so one button press that asks for the same renderer several times (drawing two
+ * treasure cards, a flood phase sinking tiles, ...) updates it once, after the controller has finished.
+ * <p>
+ * Requests made while flushing, for example the target highlights requested by TileRendering, are flushed in
+ * the next cycle. Only used on the EDT.
+ */
+public class RenderScheduler {
+    /** Dirty renderers, in request order */
+    private LinkedHashSet<IRendering> dirty = new LinkedHashSet<>();
+    /** Whether a flush is queued on the EDT */
+    private boolean queued;
+
+    private long requestCount;
+    private long suppressedCount;
+    private long updateCount;
+    private long flushCount;
+
+    /**
+     * Marks a renderer dirty, it is updated at the next flush.
+     *
+     * @param rendering renderer to update, ignored if null (not initialized yet)
+     */
+    public void request(IRendering rendering) {
+        if (rendering == null) {
+            return;
+        }
+        requestCount++;
+        if (!dirty.add(rendering)) {
+            // Already dirty: this update would have been redundant
+            suppressedCount++;
+        }
+        if (!queued) {
+            queued = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /**
+     * Updates every dirty renderer now, once each.
+     */
+    public void flush() {
+        queued = false;
+        if (dirty.isEmpty()) {
+            return;
+        }
+        ArrayList<IRendering> renderers = new ArrayList<>(dirty);
+        dirty = new LinkedHashSet<>();
+        flushCount++;
+        for (IRendering rendering : renderers) {
+            updateCount++;
+            rendering.update();
+        }
+    }
+
+    /**
+     * Drops the pending updates, e.g. when the renderers are replaced.
+     */
+    public void cancel() {
+        dirty.clear();
+    }
+
+    /**
+     * @return number of updates requested
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return number of requests for a renderer that was already dirty, i.e. updates saved
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * @return number of renderer updates run by flushes
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return number of flushes that updated at least one renderer
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * @return number of renderers waiting for the next flush
+     */
+    public int getPendingCount() {
+        return dirty.size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.forbidden.island.view.handler;
 
+import com.forbidden.island.controller.GameLoop;
+
 /**
  * RenderingEngine is the game's rendering manager, responsible for unified management
  * and provision of rendering objects for each sub-module.
@@ -16,6 +18,10 @@ public class RenderingEngine {
     private static TreasureRendering treasureRendering;    // Treasure card renderer
     private static WaterMeterRendering waterMeterRendering;// Water meter renderer
     private static ControllersRendering controllersRendering; // Control button renderer
+    private static TargetRendering targetRendering;        // Reachable tile highlights
+
+    // Coalesces the updates requested while handling one event
+    private static final RenderScheduler scheduler = new RenderScheduler();
 
     /**
      * Initialize all rendering module instances, typically called once at game start.
@@ -23,12 +29,14 @@ public class RenderingEngine {
      * by other parts of the game.
      */
     public static void init() {
+        scheduler.cancel();
         tileRendering = new TileRendering();
         floodRendering = new FloodRendering();
         playerRendering = new PlayerRendering();
         treasureRendering = new TreasureRendering();
         waterMeterRendering = new WaterMeterRendering();
         controllersRendering = new ControllersRendering();
+        targetRendering = new TargetRendering();
     }
 
     public static TileRendering getBoardRendering() {
@@ -54,4 +62,43 @@ public class RenderingEngine {
     public static ControllersRendering getControllersRendering() {
         return controllersRendering;
     }
+
+    public static TargetRendering getTargetRendering() {
+        return targetRendering;
+    }
+
+    public static RenderScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Requests an update of a rendering module. Requests are coalesced: each module is updated at most once per
+     * EDT cycle, however many times it was requested (see RenderScheduler).
+     * Requests made by a command on the game-logic thread are handed to the EDT with the view of that command.
+     *
+     * @param rendering rendering module, ignored if null (before init)
+     */
+    public static void requestUpdate(IRendering rendering) {
+        GameLoop loop = GameLoop.current();
+        if (loop != null) {
+            loop.requestUpdate(rendering);
+        } else {
+            scheduler.request(rendering);
+        }
+    }
+
+    /**
+     * Updates the modules with pending requests now, e.g. before the interface is disabled.
+     */
+    public static void flushUpdates() {
+        scheduler.flush();
+    }
+
+    /**
+     * Refreshes the highlighted target tiles, e.g. after a selection changed.
+     * Does nothing before init.
+     */
+    public static void updateTargets() {
+        requestUpdate(targetRendering);
+    }
 }
@@ -0,0 +1,106 @@
+package com.forbidden.island.view.handler;
+
+import com.forbidden.island.model.enums.DeckType;
+import com.forbidden.island.model.event.GameEventListener;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * RenderingListener connects a game session to the Swing renderers.
+ * It translates the domain events published by the session into updates of the
+ * RenderingEngine modules, so the model itself never touches the interface.
+ * Updates are requested through RenderingEngine.requestUpdate, so the modules touched by several events of one
+ * action are redrawn once.
+ */
+public class RenderingListener implements GameEventListener {
+    /** Milliseconds the final state is shown before the interface is disabled */
+    private static final int FINISH_DELAY = 1000;
+
+    /**
+     * Drawn treasure cards are shown in the treasure panel, flood cards in the flood panel.
+     */
+    @Override
+    public void onCardsDrawn(DeckType deck, List<Integer> cards) {
+        if (deck == DeckType.Treasure) {
+            RenderingEngine.requestUpdate(RenderingEngine.getTreasureRendering());
+            RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+        } else {
+            RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
+        }
+    }
+
+    /**
+     * More flood cards are drawn from now on, so the odds of the flood deck change as well.
+     */
+    @Override
+    public void onWaterRose(int waterLevel) {
+        RenderingEngine.requestUpdate(RenderingEngine.getWaterMeterRendering());
+        RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
+    }
+
+    /**
+     * A dry tile can no longer sink in the next flood phase.
+     */
+    @Override
+    public void onTileShoredUp(int tileId) {
+        RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
+    }
+
+    /**
+     * Tiles flooded and sunk during a flood phase are redrawn together once the phase is over.
+     */
+    @Override
+    public void onFloodPhaseEnded() {
+        RenderingEngine.requestUpdate(RenderingEngine.getBoardRendering());
+        RenderingEngine.requestUpdate(RenderingEngine.getControllersRendering());
+        RenderingEngine.requestUpdate(RenderingEngine.getFloodRendering());
+    }
+
+    @Override
+    public void onRescueStarted(int playerOrder) {
+        RenderingEngine.requestUpdate(RenderingEngine.getControllersRendering());
+        RenderingEngine.updateTargets();
+    }
+
+    @Override
+    public void onRescueEnded() {
+        RenderingEngine.requestUpdate(RenderingEngine.getControllersRendering());
+        RenderingEngine.updateTargets();
+    }
+
+    @Override
+    public void onPlayerSwitched(int playerOrder) {
+        RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+        RenderingEngine.updateTargets();
+    }
+
+    @Override
+    public void onTurnEnded(int nextPlayerOrder) {
+        RenderingEngine.requestUpdate(RenderingEngine.getTreasureRendering());
+        RenderingEngine.requestUpdate(RenderingEngine.getPlayerRendering());
+        RenderingEngine.updateTargets();
+    }
+
+    /**
+     * Disables the whole interface once the game has ended, after showing the final state for a moment.
+     * The delay runs on a Swing timer, so neither the game loop nor the EDT is blocked.
+     */
+    @Override
+    public void onGameFinished(boolean isWin) {
+        System.out.println(isWin ? "Game Success" : "Game failed");
+        Timer timer = new Timer(FINISH_DELAY, e -> {
+            // Show the final state before disabling everything
+            RenderingEngine.flushUpdates();
+            RenderingEngine.getBoardRendering().finish();
+            RenderingEngine.getTreasureRendering().finish();
+            RenderingEngine.getWaterMeterRendering().finish();
+            RenderingEngine.getFloodRendering().finish();
+            RenderingEngine.getControllersRendering().finish();
+            RenderingEngine.getPlayerRendering().finish();
+            RenderingEngine.getTargetRendering().finish();
+        });
+        timer.setRepeats(false);
+        SwingUtilities.invokeLater(timer::start);
+    }
+}
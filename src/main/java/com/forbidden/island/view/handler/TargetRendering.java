@@ -0,0 +1,227 @@
+package com.forbidden.island.view.handler;
+
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.view.TileGridPanel;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TargetRendering implements the IRendering interface,
+ * responsible for highlighting every tile the current player can act on in the TileGridPanel, so players no longer
+ * have to try tiles one by one:
+ * <ul>
+ *     <li>green: the current player can move there (Pilot flight, Explorer diagonals and Diver dives included),
+ *     or the pawn selected by the Navigator, a Helicopter Lift or a rescue swim can go there</li>
+ *     <li>blue: the tile can be shored up, by the current player or with a selected Sandbag</li>
+ * </ul>
+ * update() takes the query captured in the published GameView on the EDT. The targets are computed from the rules'
+ * reachability bitmasks on a worker thread (a few bit operations, microseconds) and applied back on the EDT;
+ * results of superseded updates are dropped.
+ */
+public class TargetRendering implements IRendering {
+    /** Nothing to highlight */
+    public static final int NONE = 0;
+    /** Moves and shore ups of the current player */
+    public static final int TURN = 1;
+    /** Navigator pushing the selected pawn */
+    public static final int NAVIGATE = 2;
+    /** Helicopter Lift selected */
+    public static final int HELICOPTER = 3;
+    /** Sandbag selected */
+    public static final int SANDBAG = 4;
+    /** Player in the water swimming ashore */
+    public static final int SWIM = 5;
+
+    private static final Border MOVE_BORDER = BorderFactory.createLineBorder(new Color(0x3CB371), 3);
+    private static final Border SHORE_BORDER = BorderFactory.createLineBorder(new Color(0x1E90FF), 3);
+
+    /** Single worker computing the targets off the EDT */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "target-highlight");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Number of the latest update, older results are not applied */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Immutable input of a target computation, captured with the GameView of the session.
+     */
+    public static final class Query {
+        final BoardState board;
+        final int kind;
+        final int role;
+        final int slot;
+        /** Whether a Pilot may still fly this turn */
+        final boolean canFly;
+
+        /**
+         * @param board copy of the board, not shared with the game
+         * @param kind what to highlight: NONE, TURN, NAVIGATE, HELICOPTER, SANDBAG or SWIM
+         * @param role role of the acting pawn
+         * @param slot slot of the acting pawn
+         */
+        public Query(BoardState board, int kind, int role, int slot) {
+            this(board, kind, role, slot, true);
+        }
+
+        /**
+         * @param board copy of the board, not shared with the game
+         * @param kind what to highlight: NONE, TURN, NAVIGATE, HELICOPTER, SANDBAG or SWIM
+         * @param role role of the acting pawn
+         * @param slot slot of the acting pawn
+         * @param canFly whether a Pilot may still fly this turn
+         */
+        public Query(BoardState board, int kind, int role, int slot, boolean canFly) {
+            this.board = board;
+            this.kind = kind;
+            this.role = role;
+            this.slot = slot;
+            this.canFly = canFly;
+        }
+    }
+
+    /**
+     * Highlighted slots of one update.
+     */
+    public static final class Targets {
+        /** Slots the acting pawn can be moved to */
+        public final int move;
+        /** Slots that can be shored up */
+        public final int shore;
+
+        Targets(int move, int shore) {
+            this.move = move;
+            this.shore = shore;
+        }
+    }
+
+    /**
+     * Recomputes the highlighted tiles for the current state of the game.
+     */
+    @Override
+    public void update() {
+        Query query = ElementEngine.getView().getTargets();
+        int current = generation.incrementAndGet();
+        worker.execute(() -> {
+            Targets targets = compute(query);
+            SwingUtilities.invokeLater(() -> {
+                if (generation.get() == current) {
+                    apply(targets);
+                }
+            });
+        });
+    }
+
+    /**
+     * Called at game end, removes every highlight.
+     */
+    @Override
+    public void finish() {
+        generation.incrementAndGet();
+        apply(new Targets(0, 0));
+    }
+
+    /**
+     * Reads what the current player is doing from a session.
+     *
+     * @param session game session
+     * @return query for the highlighted tiles
+     */
+    public static Query capture(GameSession session) {
+        Adventurer current = session.getAdventurers()[session.getRoundNum()];
+        BoardState board = session.getBoard().getState().copy();
+        int slot = IslandLayout.slotAt(current.getX(), current.getY());
+        int role = current.getId();
+        if (session.isGameOver()) {
+            return new Query(board, NONE, role, slot);
+        }
+        if (session.isInFakeRound() && session.isNeed2save()) {
+            return new Query(board, SWIM, role, slot);
+        }
+
+        ArrayList<Integer> cards = session.getCardsInRound();
+        if (!cards.isEmpty()) {
+            int card = 1 << cards.get(cards.size() - 1);
+            if ((card & Cards.HELICOPTER_MASK) != 0) {
+                return new Query(board, HELICOPTER, role, slot);
+            }
+            if ((card & Cards.SANDBAG_MASK) != 0) {
+                return new Query(board, SANDBAG, role, slot);
+            }
+        }
+        int selected = session.getSelectedPawn();
+        boolean pushing = role == GameState.NAVIGATOR && selected != -1 && selected != session.getRoundNum();
+        // The second step of a push is free, even after the last action
+        if (session.getActionCount() >= GameState.ACTIONS_PER_TURN && !session.isPushInProgress()) {
+            return new Query(board, NONE, role, slot);
+        }
+        if (pushing) {
+            Adventurer pushed = session.getAdventurers()[selected];
+            return new Query(board, NAVIGATE, pushed.getId(), IslandLayout.slotAt(pushed.getX(), pushed.getY()));
+        }
+        return new Query(board, TURN, role, slot, !session.isPilotFlown());
+    }
+
+    /**
+     * Computes the highlighted tiles from the reachability bitmasks of the rules.
+     * Pure function of the query, safe to call from any thread.
+     *
+     * @param query captured state
+     * @return slots to highlight
+     */
+    public static Targets compute(Query query) {
+        BoardState board = query.board;
+        int others = board.getExistMask() & ~IslandLayout.bit(query.slot);
+        switch (query.kind) {
+            case TURN:
+                int move = query.role == GameState.PILOT && query.canFly
+                        ? others : Rules.moveTargets(board, query.role, query.slot);
+                return new Targets(move, Rules.shoreTargets(board, query.role, query.slot));
+            case NAVIGATE:
+                // The session pushes the pawn one orthogonal step per click, the second step is another click
+                return new Targets(IslandLayout.orthogonal(query.slot) & board.getExistMask(), 0);
+            case HELICOPTER:
+                return new Targets(others, 0);
+            case SANDBAG:
+                return new Targets(0, board.getFloodedMask());
+            case SWIM:
+                return new Targets(Rules.swimTargets(board, query.role, query.slot), 0);
+            default:
+                return new Targets(0, 0);
+        }
+    }
+
+    /**
+     * Draws the highlights on the tile buttons, on the EDT.
+     */
+    private static void apply(Targets targets) {
+        for (int slot = 0; slot < TileGridPanel.tileCards.size(); slot++) {
+            JButton tileButton = TileGridPanel.tileCards.get(slot);
+            int bit = IslandLayout.bit(slot);
+            if ((targets.move & bit) != 0) {
+                tileButton.setBorder(MOVE_BORDER);
+                tileButton.setBorderPainted(true);
+            } else if ((targets.shore & bit) != 0) {
+                tileButton.setBorder(SHORE_BORDER);
+                tileButton.setBorderPainted(true);
+            } else {
+                tileButton.setBorderPainted(false);
+            }
+        }
+    }
+}
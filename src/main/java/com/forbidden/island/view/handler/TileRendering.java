@@ -1,109 +1,128 @@
 package com.forbidden.island.view.handler;
 
-import com.forbidden.island.model.adventurer.Adventurer;
-import com.forbidden.island.utils.Constant;
-import com.forbidden.island.utils.ImageUtil;
-import com.forbidden.island.utils.Map;
-import com.forbidden.island.view.AdventurerIcon;
+import com.forbidden.island.model.board.BoardState;
 import com.forbidden.island.view.ElementEngine;
-import com.forbidden.island.view.Tile;
+import com.forbidden.island.view.GameView;
 import com.forbidden.island.view.TileGridPanel;
+import com.forbidden.island.view.TileSprites;
 
 import javax.swing.*;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * TileRendering implements the IRendering interface,
  * responsible for updating the state and display of each tile on the main game panel (TileGridPanel) during gameplay.
  * Includes: tile image loading, tile visibility and enabling, character icon overlays, and disabling interaction at game end.
+ * Updates are incremental: the render state of every tile is remembered and unchanged tiles are not repainted.
+ * A tile and its characters are painted from one composited sprite (TileSprites), drawn from the published
+ * GameView.
  */
 public class TileRendering implements IRendering {
+    /** Render state of a tile that has not been drawn yet */
+    private static final int UNKNOWN = -1;
+
+    /** Slot → render state drawn by the last update, see TileSprites.key */
+    private final int[] renderedStates = new int[BoardState.SLOT_COUNT];
+
+    private long updateCount;
+    private int lastRepaintCount;
+    private long repaintCount;
 
     /**
      * Constructor called at game startup, initializes tile graphics and character initial position images.
-     * Gets map IDs and character position information from ElementEngine to set up initial display.
+     * Gets the tiles and character positions from the view of ElementEngine to set up initial display.
      */
     public TileRendering() {
-        // Get initialized tile ID sequence
-        ArrayList<Integer> tiles = new ArrayList<>(ElementEngine.getTilesArray());
-
-        // Iterate through all tile card components and set images, visibility, and enabled state
-        for (int i = 0; i < TileGridPanel.tileCards.size(); i++) {
-            JButton tileButton = TileGridPanel.tileCards.get(i);
+        // Enable and show all tile card components
+        for (JButton tileButton : TileGridPanel.tileCards) {
             tileButton.setEnabled(true); // Enable interaction
             tileButton.setVisible(true); // Set visible
-
-            // Set tile image
-            tileButton.setBorderPainted(false);
-            tileButton.setContentAreaFilled(false);
-            tileButton.setFocusPainted(false);
-
-            tileButton.setIcon(new ImageIcon(
-                    ImageUtil.getImage("/Tiles/" + tiles.get(i) + ".png", Constant.TILE_WIDTH, Constant.TILE_HEIGHT)));
         }
 
-        // Set initial position icons for all adventurers (overlaid on tiles)
-        for (int i = 0; i < ElementEngine.getAdventurers().length; i++) {
-            Adventurer adv = ElementEngine.getAdventurers()[i];
-            int posIndex = adv.getPos();
-
-            // Get overlay icon (character + tile)
-            AdventurerIcon icon = new AdventurerIcon(
-                    new ImageIcon(ImageUtil.getImage(
-                            adv.getPawnImg())),
-                    TileGridPanel.tileCards.get(tiles.indexOf(adv.getId() + 9)).getIcon());
-
-            TileGridPanel.tileCards.get(posIndex).setIcon(icon);
-        }
+        // Draw every tile with the characters on their start tiles
+        invalidate();
+        repaintChanged();
     }
 
     /**
      * Called whenever game state updates (e.g., tile floods, character moves).
-     * Updates tile states (visible/invisible) and character overlay icons.
+     * Only the tile buttons whose render state (status, captured, pawns) differs from the last update are repainted
+     * with the tile's composited sprite, sunk tiles are hidden and disabled.
      */
     @Override
     public void update() {
-        int idx = 0;
-
-        // Iterate through each tile in the game map and refresh display based on state
-        for (Tile[] tiles : ElementEngine.getBoard().getTileMap()) {
-            for (Tile tile : tiles) {
-                if (tile.isExist()) {
-                    // Tile exists: show normal image
-                    JButton tileButton = TileGridPanel.tileCards.get(idx);
-                    tileButton.setBorderPainted(false);
-                    tileButton.setContentAreaFilled(false);
-                    tileButton.setFocusPainted(false);
-                    tileButton.setIcon(new ImageIcon(
-                            ImageUtil.getImage(tile.getImg(), Constant.TILE_WIDTH, Constant.TILE_HEIGHT)));
-                } else if (!tile.isExist() && (tile.getTileId() != -1)) {
-                    // Tile has sunk but once existed: set invisible and disabled
-                    TileGridPanel.tileCards.get(idx).setVisible(false);
-                    TileGridPanel.tileCards.get(idx).setEnabled(false);
-                } else {
-                    // Empty tile (tileId is -1): skip current index (idx-- to backtrack)
-                    idx--;
-                }
-                idx++;
+        int repainted = repaintChanged();
+        updateCount++;
+        lastRepaintCount = repainted;
+        repaintCount += repainted;
+
+        // Borders of repainted tiles were reset, highlight the reachable tiles of the new state
+        RenderingEngine.updateTargets();
+    }
+
+    /**
+     * Repaints the tiles whose render state changed.
+     *
+     * @return number of repainted tiles
+     */
+    private int repaintChanged() {
+        GameView view = ElementEngine.getView();
+        int repainted = 0;
+
+        // Refresh the tiles that changed, slot by slot
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            int state = view.getTileState(slot);
+            if (state != renderedStates[slot]) {
+                renderedStates[slot] = state;
+                repaint(TileGridPanel.tileCards.get(slot), state);
+                repainted++;
             }
         }
+        return repainted;
+    }
 
-        // Iterate through all adventurers, update their overlay icons on tiles
-        for (int i = 0; i < ElementEngine.getAdventurers().length; i++) {
-            Adventurer adv = ElementEngine.getAdventurers()[i];
-            Tile tile = ElementEngine.getBoard().getTile(adv.getX(), adv.getY());
-
-            for (int j = 0; j < tile.getPlayerOnBoard().size(); j++) {
-                String pawnName = Map.adventurerMatcher.get(tile.getPlayerOnBoard().get(j));
-                AdventurerIcon advIcon = new AdventurerIcon(
-                        new ImageIcon(ImageUtil.getImage(
-                                "/Pawns/" + pawnName + ".png",
-                                Constant.TILE_WIDTH,
-                                Constant.TILE_HEIGHT)),
-                        TileGridPanel.tileCards.get(adv.getPos()).getIcon(), j);    // Control multiple character icon position offset
-                TileGridPanel.tileCards.get(adv.getPos()).setIcon(advIcon);
-            }
+    /**
+     * Forgets the rendered states, so the next update repaints every tile.
+     */
+    public void invalidate() {
+        Arrays.fill(renderedStates, UNKNOWN);
+    }
+
+    /**
+     * @return number of updates since the game started
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return number of tiles repainted by the last update
+     */
+    public int getLastRepaintCount() {
+        return lastRepaintCount;
+    }
+
+    /**
+     * @return number of tiles repainted by all updates
+     */
+    public long getRepaintCount() {
+        return repaintCount;
+    }
+
+    /**
+     * Draws a tile button for a render state of its tile.
+     */
+    private static void repaint(JButton tileButton, int state) {
+        if (state == TileSprites.SUNK) {
+            // Tile has sunk: set invisible and disabled
+            tileButton.setVisible(false);
+            tileButton.setEnabled(false);
+            return;
         }
+        tileButton.setBorderPainted(false);
+        tileButton.setContentAreaFilled(false);
+        tileButton.setFocusPainted(false);
+        tileButton.setIcon(TileSprites.get(state));
     }
 
     /**
@@ -6,6 +6,7 @@ import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.TreasurePanel;
 
 import javax.swing.*;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -34,8 +35,10 @@ public class TreasureRendering implements IRendering {
      */
     @Override
     public void update() {
+        List<Integer> displayedTreasureCards = ElementEngine.getView().getDisplayedTreasureCards();
+
         // Iterate through currently displayed treasure cards
-        for (int i = 0; i < ElementEngine.getDisplayedTreasureCard().size(); i++) {
+        for (int i = 0; i < displayedTreasureCards.size(); i++) {
             // Enable corresponding button, indicating card is clickable
             TreasurePanel.treasureCards.get(i).setEnabled(true);
 
@@ -43,14 +46,14 @@ public class TreasureRendering implements IRendering {
             TreasurePanel.treasureCards.get(i).setIcon(new ImageIcon((
                     Objects.requireNonNull(
                             ImageUtil.getImage("/TreasureCards/"
-                                            + ElementEngine.getDisplayedTreasureCard().get(i) + ".png",
+                                            + displayedTreasureCards.get(i) + ".png",
                                     Constant.TREASURE_WIDTH,
                                     Constant.TREASURE_HEIGHT,
                                     270d)))));  // Image rotation angle in degrees
         }
 
         // Handle excess buttons (buttons exceeding current displayed card count)
-        for (int i = ElementEngine.getDisplayedTreasureCard().size(); i < TreasurePanel.treasureCards.size(); i++) {
+        for (int i = displayedTreasureCards.size(); i < TreasurePanel.treasureCards.size(); i++) {
             // Clear icon, hide excess buttons
             TreasurePanel.treasureCards.get(i).setIcon(null);
             // Disable buttons to prevent clicking
@@ -22,7 +22,7 @@ public class WaterMeterRendering implements IRendering {
         // Get current water meter image path through ElementEngine
         // Set icon for waterMeter component in TreasurePanel, specifying image width and height
         TreasurePanel.waterMeter.setIcon(new ImageIcon(
-                ImageUtil.getImage(ElementEngine.getWaterMeterImg(),
+                ImageUtil.getImage(ElementEngine.getView().getWaterMeterImg(),
                         Constant.WATER_METER_WIDTH,
                         Constant.WATER_METER_HEIGHT)));
     }
@@ -36,7 +36,7 @@ public class WaterMeterRendering implements IRendering {
     public void update() {
         // Get current water meter image and update icon display
         TreasurePanel.waterMeter.setIcon(new ImageIcon(
-                ImageUtil.getImage(ElementEngine.getWaterMeterImg(),
+                ImageUtil.getImage(ElementEngine.getView().getWaterMeterImg(),
                         Constant.WATER_METER_WIDTH,
                         Constant.WATER_METER_HEIGHT)));
     }
@@ -1,11 +1,14 @@
 package com.forbidden.island.view.handler;
 
+import com.forbidden.island.utils.AssetPreloader;
+import com.forbidden.island.utils.ImageUtil;
 import com.forbidden.island.view.ForbiddenIslandFrame;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Welcome screen frame for the Forbidden Island game.
@@ -14,6 +17,7 @@ import java.awt.event.MouseEvent;
  * - Viewing game rules
  * - Accessing help
  * - Exiting the game
+ * Starting a game waits until the images preloaded in the background are ready.
  */
 public class WelcomeFrame extends JFrame {
 
@@ -32,8 +36,8 @@ public class WelcomeFrame extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
 
-        // Background image path
-        ImageIcon bgIcon = new ImageIcon("src/main/resources/image/TitleScreen.png");
+        // Background image, preloaded while the splash screen played
+        ImageIcon bgIcon = new ImageIcon(ImageUtil.getImage("/TitleScreen.png"));
         JLabel background = new JLabel(bgIcon);
         background.setLayout(new BorderLayout());
         setContentPane(background);
@@ -58,6 +62,17 @@ public class WelcomeFrame extends JFrame {
 
         exitBtn.addActionListener(e -> System.exit(0));
 
+        // The game needs the preloaded images: wait for them without blocking the EDT
+        CompletableFuture<Void> assets = AssetPreloader.getReady();
+        if (!assets.isDone()) {
+            startBtn.setEnabled(false);
+            startBtn.setText("Loading...");
+            assets.thenRun(() -> SwingUtilities.invokeLater(() -> {
+                startBtn.setText("Start Game");
+                startBtn.setEnabled(true);
+            }));
+        }
+
         // Button area layout
         JPanel buttonPanel = new JPanel();
         buttonPanel.setOpaque(false);
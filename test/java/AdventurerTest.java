@@ -11,7 +11,7 @@ import java.util.ArrayList;
  * 1. Contains basic properties: id, order, x, y, targetX, targetY, shoreUpX, shoreUpY, name, pawnImg
  * 2. Contains two ArrayLists: handCards (cards in hand) and capturedFigurines (collected treasures)
  * 3. Provides basic operations: move, set position, add cards, collect treasures, etc.
- * 4. Uses Map.numberMatcher for coordinate conversion
+ * 4. Uses IslandLayout for coordinate conversion
  * 
  * Note: Since Adventurer is an abstract class, we use Engineer subclass for testing
  */
@@ -65,4 +65,13 @@ public class AdventurerTest {
         assertEquals("Name should be Engineer", "Engineer", adventurer.getName());
         assertEquals("Pawn image path should be correct", "/Pawns/Engineer.png", adventurer.getPawnImg());
     }
-} 
+
+    @Test
+    public void testPositionIndex() {
+        // Position (2,0) is the 7th tile of the layout
+        adventurer.setPosition(2, 0);
+        assertEquals("Position should map to tile number 6", 6, adventurer.getPos());
+        adventurer.setShoreUp(5, 3);
+        assertEquals("Shore up target should map to tile number 23", 23, adventurer.getShoredPos());
+    }
+}
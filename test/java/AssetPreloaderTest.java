@@ -0,0 +1,37 @@
+import com.forbidden.island.utils.AssetPreloader;
+import com.forbidden.island.utils.Constant;
+import com.forbidden.island.utils.ImageUtil;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the background asset preloader
+ * 1. Preloading starts once and its readiness future completes
+ * 2. Once ready, the sprites and backgrounds the game draws are served from the cache
+ */
+public class AssetPreloaderTest {
+
+    @Test
+    public void testPreloadWarmsCache() throws Exception {
+        CompletableFuture<Void> ready = AssetPreloader.start();
+        assertSame("Preloading should only start once", ready, AssetPreloader.getReady());
+        ready.get(30, TimeUnit.SECONDS);
+        assertTrue(ready.isDone());
+        assertFalse(ready.isCompletedExceptionally());
+        assertTrue("The atlas sprites should be preloaded",
+                ImageUtil.getCacheSize() >= ImageUtil.getAtlasSpriteCount() && ImageUtil.getAtlasSpriteCount() > 0);
+
+        long misses = ImageUtil.getCacheMisses();
+        assertNotNull(ImageUtil.getImage("/Tiles/1.png", Constant.TILE_WIDTH, Constant.TILE_HEIGHT));
+        assertNotNull(ImageUtil.getImage("/SubmersedTiles/1.png", Constant.TILE_WIDTH, Constant.TILE_HEIGHT));
+        assertNotNull(ImageUtil.getImage("/Flood/1.png", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT));
+        assertNotNull(ImageUtil.getImage("/TreasureCards/20.png", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 270d));
+        assertNotNull(ImageUtil.getImage("/Map/Arena.jpg"));
+        assertNotNull(ImageUtil.getImage("/TitleScreen.png"));
+        assertEquals("Preloaded images should be cache hits", misses, ImageUtil.getCacheMisses());
+    }
+}
@@ -0,0 +1,116 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.view.BoardCanvas;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the custom-painted board
+ * 1. Cells are laid out like GridLayout(6, 6) and clicks are hit-tested to slots
+ * 2. A click on an enabled tile goes through the tile button's listeners
+ * 3. Visible tiles are painted from their button icons, hidden ones show the background
+ */
+public class BoardCanvasTest {
+
+    private ArrayList<JButton> tileCards;
+    private BoardCanvas canvas;
+
+    @Before
+    public void setUp() {
+        tileCards = new ArrayList<>();
+        for (int i = 0; i < BoardState.SLOT_COUNT; i++) {
+            JButton tileCard = new JButton();
+            tileCard.setBorderPainted(false);
+            tileCard.setVisible(false);
+            tileCards.add(tileCard);
+        }
+        canvas = new BoardCanvas("/Map/Arena.jpg", tileCards);
+        canvas.setSize(600, 600);
+    }
+
+    private static BufferedImage solid(Color color) {
+        BufferedImage image = new BufferedImage(159, 90, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(color);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.dispose();
+        return image;
+    }
+
+    private void click(int x, int y) {
+        canvas.dispatchEvent(new MouseEvent(canvas, MouseEvent.MOUSE_CLICKED, System.currentTimeMillis(),
+                MouseEvent.BUTTON1_DOWN_MASK, x, y, 1, false, MouseEvent.BUTTON1));
+    }
+
+    @Test
+    public void testHitTest() {
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            Rectangle cell = canvas.getCellBounds(slot);
+            assertEquals(new Rectangle(IslandLayout.yOf(slot) * 100, IslandLayout.xOf(slot) * 100, 100, 100), cell);
+            assertEquals(slot, canvas.getSlotAt(cell.x + 1, cell.y + 1));
+            assertEquals(slot, canvas.getSlotAt(cell.x + cell.width - 1, cell.y + cell.height - 1));
+        }
+        assertEquals("Corner cells are blank", BoardState.NO_SLOT, canvas.getSlotAt(5, 5));
+        assertEquals(BoardState.NO_SLOT, canvas.getSlotAt(-1, 250));
+        assertEquals(BoardState.NO_SLOT, canvas.getSlotAt(250, 600));
+    }
+
+    @Test
+    public void testClickGoesToTileButton() {
+        int[] clicks = new int[BoardState.SLOT_COUNT];
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            int tileSlot = slot;
+            tileCards.get(slot).addActionListener(e -> clicks[tileSlot]++);
+        }
+        int slot = IslandLayout.slotAt(2, 3);
+        Rectangle cell = canvas.getCellBounds(slot);
+
+        click(cell.x + 10, cell.y + 10);
+        assertEquals("Hidden tiles should ignore clicks", 0, clicks[slot]);
+
+        tileCards.get(slot).setVisible(true);
+        click(cell.x + 10, cell.y + 10);
+        assertEquals("Clicks should reach the tile button's listeners", 1, clicks[slot]);
+
+        tileCards.get(slot).setEnabled(false);
+        click(cell.x + 10, cell.y + 10);
+        assertEquals("Disabled tiles should ignore clicks", 1, clicks[slot]);
+
+        int total = 0;
+        for (int count : clicks) {
+            total += count;
+        }
+        assertEquals("No other tile should be clicked", 1, total);
+    }
+
+    @Test
+    public void testPaint() {
+        int shown = IslandLayout.slotAt(2, 2);
+        int hidden = IslandLayout.slotAt(3, 3);
+        tileCards.get(shown).setIcon(new ImageIcon(solid(Color.RED)));
+        tileCards.get(shown).setVisible(true);
+        tileCards.get(hidden).setIcon(new ImageIcon(solid(Color.RED)));
+
+        BufferedImage frame = new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = frame.createGraphics();
+        canvas.paint(g2d);
+        g2d.dispose();
+
+        Rectangle shownCell = canvas.getCellBounds(shown);
+        assertEquals("Visible tile should be painted from its icon", Color.RED.getRGB(),
+                frame.getRGB(shownCell.x + 50, shownCell.y + 50));
+        Rectangle hiddenCell = canvas.getCellBounds(hidden);
+        assertNotEquals("Hidden tile should show the background", Color.RED.getRGB(),
+                frame.getRGB(hiddenCell.x + 50, hiddenCell.y + 50));
+        assertNotEquals("The icon should be clipped to its cell", Color.RED.getRGB(),
+                frame.getRGB(shownCell.x - 5, shownCell.y + 50));
+    }
+}
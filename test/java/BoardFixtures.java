@@ -0,0 +1,21 @@
+import com.forbidden.island.model.board.BoardState;
+
+/**
+ * Boards shared by the tests of the bitboard model, the engine and the bots
+ */
+final class BoardFixtures {
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * @return board with tile i + 1 on slot i, every tile dry
+     */
+    static BoardState identityBoard() {
+        int[] slotTiles = new int[BoardState.SLOT_COUNT];
+        for (int i = 0; i < slotTiles.length; i++) {
+            slotTiles[i] = i + 1;
+        }
+        return new BoardState(slotTiles);
+    }
+}
@@ -0,0 +1,119 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.enums.TileStatus;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for BoardState
+ * 1. Slot layout: tile → slot lookups
+ * 2. Tile status: flood (Normal->Flooded->Sunk) and shoreUp
+ * 3. Shrine loss: both shrines of an uncaptured treasure sunk, Fools' Landing sunk, also after a restore
+ * 4. Pawns: placement and per-slot masks
+ * 5. Copies are independent
+ */
+public class BoardStateTest {
+    private BoardState board;
+
+    @Before
+    public void setUp() {
+        board = BoardFixtures.identityBoard();
+    }
+
+    @Test
+    public void testLayout() {
+        assertEquals("Tile 5 should be on slot 4", 4, board.getSlotOfTile(5));
+        assertEquals("Slot 4 should hold tile 5", 5, board.getTileId(4));
+        assertFalse("Blank cells never exist", board.isExist(BoardState.NO_SLOT));
+    }
+
+    @Test
+    public void testFloodAndShoreUp() {
+        assertEquals(TileStatus.Normal, board.getStatus(3));
+        assertFalse("First flood should not sink the tile", board.flood(3));
+        assertEquals(TileStatus.Flooded, board.getStatus(3));
+        assertEquals("Flooded mask should hold the slot", 1 << 3, board.getFloodedMask());
+
+        assertTrue("Flooded tile can be shored up", board.shoreUp(3));
+        assertEquals(TileStatus.Normal, board.getStatus(3));
+        assertFalse("Normal tile cannot be shored up", board.shoreUp(3));
+
+        board.flood(3);
+        assertTrue("Second flood should sink the tile", board.flood(3));
+        assertEquals(TileStatus.Sunk, board.getStatus(3));
+        assertFalse("Sunk tile should not exist", board.isExist(3));
+        assertEquals("Sunk tile is not flooded any more", 0, board.getFloodedMask());
+        assertEquals("Sunk mask should hold the slot", 1 << 3, board.getSunkMask());
+        assertEquals("Exist mask should lose the slot", BoardState.ALL_SLOTS & ~(1 << 3), board.getExistMask());
+    }
+
+    @Test
+    public void testShrinesFlooded() {
+        // Shrines of the first treasure are tiles 1 and 2 (slots 0 and 1)
+        board.flood(0);
+        board.flood(0);
+        assertFalse("One sunk shrine is not a loss", board.isShrinesFlooded());
+        board.flood(1);
+        board.flood(1);
+        assertTrue("Both sunk shrines are a loss", board.isShrinesFlooded());
+
+        board.setCaptured(0);
+        board.setCaptured(1);
+        assertFalse("Captured treasure cannot be lost", board.isShrinesFlooded());
+    }
+
+    @Test
+    public void testPawns() {
+        assertEquals("Pawns start off the board", BoardState.NO_SLOT, board.getPawnSlot(0));
+        board.setPawnSlot(0, 7);
+        board.setPawnSlot(5, 7);
+        board.setPawnSlot(3, 23);
+        assertEquals(7, board.getPawnSlot(0));
+        assertEquals("Diver and Pilot should share slot 7", 0b100001, board.getPawnMask(7));
+        assertEquals("Messenger should be on slot 23", 0b1000, board.getPawnMask(23));
+
+        board.setPawnSlot(5, BoardState.NO_SLOT);
+        assertEquals("Pilot should have left slot 7", 0b1, board.getPawnMask(7));
+        assertEquals(BoardState.NO_SLOT, board.getPawnSlot(5));
+    }
+
+    @Test
+    public void testCopy() {
+        board.flood(2);
+        board.setPawnSlot(1, 2);
+        BoardState copy = board.copy();
+        assertEquals(board.getTileBits(), copy.getTileBits());
+        assertEquals(board.getPawnBits(), copy.getPawnBits());
+
+        copy.flood(2);
+        copy.setPawnSlot(1, 4);
+        assertEquals("Original should stay flooded", TileStatus.Flooded, board.getStatus(2));
+        assertEquals("Original pawn should not move", 2, board.getPawnSlot(1));
+        assertEquals(TileStatus.Sunk, copy.getStatus(2));
+        assertEquals(4, copy.getPawnSlot(1));
+    }
+
+    @Test
+    public void testLossTracking() {
+        int landing = board.getSlotOfTile(BoardState.FOOLS_LANDING_TILE_ID);
+        board.flood(landing);
+        assertFalse("Flooded Fools' Landing is not a loss", board.isLandingSunk());
+        long tileBits = board.getTileBits();
+        long hash = board.getHash();
+        board.flood(landing);
+        assertTrue("Sunk Fools' Landing is a loss", board.isLandingSunk());
+
+        // Shrines of the third treasure are tiles 5 and 6
+        for (int i = 0; i < 2; i++) {
+            board.flood(4);
+            board.flood(5);
+        }
+        assertEquals("Third treasure should be lost", 0b100, board.getLostTreasures());
+
+        board.restore(tileBits, board.getCapturedBits(), board.getPawnBits(), hash);
+        assertFalse("Restore should recompute the losses", board.isLandingSunk());
+        assertEquals(0, board.getLostTreasures());
+        assertFalse(board.isShrinesFlooded());
+    }
+}
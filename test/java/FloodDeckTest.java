@@ -1,4 +1,7 @@
+import com.forbidden.island.model.board.BoardState;
 import com.forbidden.island.model.cards.FloodDeck;
+import com.forbidden.island.model.engine.FloodRisk;
+import com.forbidden.island.model.engine.GameState;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -10,6 +13,7 @@ import java.util.ArrayList;
  * 1. Manages flood cards
  * 2. Provides operations for drawing, discarding, and managing flood cards
  * 3. Tracks initialization state and number of cards
+ * 4. Computes the odds of the next flood phase without touching the deck
  */
 public class FloodDeckTest {
     private FloodDeck floodDeck;
@@ -27,6 +31,32 @@ public class FloodDeckTest {
         assertNotNull(cards);
     }
 
+    @Test
+    public void testNormalDrawCount() {
+        assertEquals("Initialization draws 6 cards", 6, floodDeck.getCards().size());
+        floodDeck.discard();
+        floodDeck.set2Norm();
+        assertEquals("At the lowest water level 2 cards are drawn", 2, floodDeck.getCards().size());
+    }
+
+    @Test
+    public void testComputeRisk() {
+        floodDeck.getCards();
+        floodDeck.discard();
+        floodDeck.set2Norm();
+        while (floodDeck.size() > 0) {
+            floodDeck.getCards();
+            floodDeck.discard();
+        }
+        BoardState board = BoardFixtures.identityBoard();
+        board.flood(board.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID));
+
+        double loss = floodDeck.computeRisk(board, new FloodRisk()).getLossProbability();
+        assertEquals("Both cards come from the discard pile reshuffled before the phase", 2.0 / 24, loss, 1e-12);
+        assertEquals("Computing the odds should not reshuffle", 0, floodDeck.size());
+        assertEquals(24, floodDeck.discardSize());
+    }
+
     @Test
     public void testDiscard() {
         floodDeck.discard();
@@ -48,4 +78,19 @@ public class FloodDeckTest {
             floodDeck.removeFloodCard(cards.get(0));
         }
     }
-} 
+
+    @Test
+    public void testDiscardSkipsRemovedCard() {
+        ArrayList<Integer> drawn = new ArrayList<>(floodDeck.getCards());
+        // Tile of the first card sinks before the cards are discarded
+        floodDeck.removeFloodCard(drawn.get(0));
+        floodDeck.discard();
+        assertEquals("Only the 5 remaining drawn cards should be discarded", 5, floodDeck.discardSize());
+        assertEquals("Undrawn cards should stay in the deck", 18, floodDeck.size());
+
+        floodDeck.putBack2Top();
+        ArrayList<Integer> redrawn = floodDeck.getCards();
+        assertFalse("Removed card should not come back", redrawn.contains(drawn.get(0)));
+        assertTrue("Discarded cards should be back on top", drawn.containsAll(redrawn.subList(0, 5)));
+    }
+}
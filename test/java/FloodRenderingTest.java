@@ -1,3 +1,6 @@
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.engine.GameState;
 import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.FloodPanel;
 import com.forbidden.island.view.handler.FloodRendering;
@@ -12,6 +15,8 @@ import static org.junit.Assert.*;
 
 /**
  * Test class for FloodRendering
+ * 1. The flood panel shows the cards drawn in the last flood phase, without touching the flood deck
+ * 2. The flood deck tells the chance to lose in the next flood phase
  */
 public class FloodRenderingTest {
 
@@ -27,6 +32,7 @@ public class FloodRenderingTest {
         for (int i = 0; i < 6; i++) {
             FloodPanel.floodCards.add(new JButton());
         }
+        FloodPanel.floodDeck = new JLabel();
 
         // Initialize FloodRendering
         floodRendering = new FloodRendering();
@@ -47,7 +53,7 @@ public class FloodRenderingTest {
         // Verify card states
         for (int i = 0; i < FloodPanel.floodCards.size(); i++) {
             JButton card = FloodPanel.floodCards.get(i);
-            if (i < ElementEngine.getFloodDeck().getCards().size()) {
+            if (i < ElementEngine.getView().getFloodCards().size()) {
                 assertTrue("Valid flood cards should be visible", card.isVisible());
                 assertTrue("Valid flood cards should be enabled", card.isEnabled());
                 assertNotNull("Valid flood cards should have an icon", card.getIcon());
@@ -58,6 +64,41 @@ public class FloodRenderingTest {
         }
     }
 
+    @Test
+    public void testShowsDrawnCards() {
+        GameSession session = ElementEngine.getSession();
+        session.setVerbose(false);
+        session.start();
+        ArrayList<Integer> drawn = new ArrayList<>(session.getLastFloodCards());
+        int deckSize = session.getFloodDeck().size();
+        int discardSize = session.getFloodDeck().discardSize();
+
+        floodRendering.update();
+
+        assertEquals("The initial flood phase draws 6 cards", 6, drawn.size());
+        assertEquals("The panel should show the cards just drawn", drawn, ElementEngine.getView().getFloodCards());
+        for (JButton card : FloodPanel.floodCards) {
+            assertTrue("Every drawn card should be visible", card.isVisible());
+        }
+        assertEquals("Drawing the panel should not touch the draw pile", deckSize, session.getFloodDeck().size());
+        assertEquals("Drawing the panel should not touch the discard pile", discardSize, session.getFloodDeck().discardSize());
+    }
+
+    @Test
+    public void testShowsLossOdds() {
+        floodRendering.update();
+        assertEquals("Nothing can sink on a dry island", "Chance to lose in the next flood phase: 0%",
+                FloodPanel.floodDeck.getToolTipText());
+
+        // The initial flood phase draws 6 of the 24 cards
+        BoardState board = ElementEngine.getSession().getBoard().getState();
+        board.flood(board.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID));
+        floodRendering.update();
+        assertEquals("A flooded Fools' Landing sinks when its card is drawn", 0.25,
+                ElementEngine.getView().getFloodLoss(), 1e-12);
+        assertEquals("Chance to lose in the next flood phase: 25%", FloodPanel.floodDeck.getToolTipText());
+    }
+
     @Test
     public void testFinish() {
         // Test finish method
@@ -0,0 +1,150 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.FloodRisk;
+import com.forbidden.island.model.engine.GameState;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for FloodRisk
+ * 1. Every card of a shuffled draw pile is drawn with the same odds
+ * 2. Cards put back on top by a Water Rise are drawn first
+ * 3. Odds match sampled flood phases, including a reshuffle before the phase
+ */
+public class FloodRiskTest {
+    private static final double EPSILON = 1e-12;
+
+    private final FloodRisk risk = new FloodRisk();
+
+    private static IntDeck fullDeck(SplittableRandom random) {
+        IntDeck deck = new IntDeck(Cards.FLOOD_DECK_SIZE, random);
+        for (int tileId = 1; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+            deck.addToBottom(tileId);
+        }
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Plays a flood phase the way GameEngine and FloodDeck do.
+     */
+    private static void flood(BoardState board, IntDeck deck, int count) {
+        if (deck.size() < count) {
+            deck.reshuffleDiscardToBottom();
+        }
+        for (int i = 0; i < count; i++) {
+            int tileId = deck.draw();
+            if (tileId < 0) {
+                break;
+            }
+            if (!board.flood(board.getSlotOfTile(tileId))) {
+                deck.discard(tileId);
+            }
+        }
+    }
+
+    @Test
+    public void testUniformDrawPile() {
+        BoardState board = BoardFixtures.identityBoard();
+        IntDeck deck = fullDeck(new SplittableRandom(1));
+        board.flood(board.getSlotOfTile(5));
+        risk.compute(board, deck, 3);
+        for (int tileId = 1; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+            if (tileId == 5) {
+                assertEquals("Flooded tile sinks when drawn", 3.0 / 24, risk.getSinkProbability(tileId), EPSILON);
+                assertEquals("Flooded tile cannot flood again", 0, risk.getFloodProbability(tileId), EPSILON);
+            } else {
+                assertEquals(3.0 / 24, risk.getFloodProbability(tileId), EPSILON);
+                assertEquals("Dry tile cannot sink", 0, risk.getSinkProbability(tileId), EPSILON);
+            }
+        }
+        assertEquals("Only a flooded Fools' Landing can sink", 0, risk.getLossProbability(), EPSILON);
+
+        board.flood(board.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID));
+        risk.compute(board, deck, 3);
+        assertEquals(3.0 / 24, risk.getLossProbability(), EPSILON);
+    }
+
+    @Test
+    public void testKnownTopCards() {
+        BoardState board = BoardFixtures.identityBoard();
+        IntDeck deck = fullDeck(new SplittableRandom(2));
+        for (int i = 0; i < 6; i++) {
+            int tileId = deck.draw();
+            board.flood(board.getSlotOfTile(tileId));
+            deck.discard(tileId);
+        }
+        deck.reshuffleDiscardToTop();
+        int[] cards = new int[24];
+        deck.peek(24, cards);
+
+        risk.compute(board, deck, 4);
+        for (int i = 0; i < 24; i++) {
+            if (i < 6) {
+                assertEquals("Top cards share the draws", 4.0 / 6, risk.getSinkProbability(cards[i]), EPSILON);
+            } else {
+                assertEquals("Cards below the top are safe", 0, risk.getFloodProbability(cards[i]), EPSILON);
+            }
+        }
+
+        risk.compute(board, deck, 8);
+        assertEquals("All top cards are drawn", 1, risk.getSinkProbability(cards[0]), EPSILON);
+        assertEquals(2.0 / 18, risk.getFloodProbability(cards[10]), EPSILON);
+    }
+
+    @Test
+    public void testMatchesSampling() {
+        SplittableRandom random = new SplittableRandom(3);
+        BoardState board = BoardFixtures.identityBoard();
+        IntDeck deck = fullDeck(random);
+        // Late game: the draw pile is too short, the rest is drawn from the discard pile reshuffled below it
+        for (int i = 0; i < 18; i++) {
+            int tileId = deck.draw();
+            board.flood(board.getSlotOfTile(tileId));
+            deck.discard(tileId);
+        }
+        for (int tileId = 4; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+            if (tileId != GameState.FOOLS_LANDING_TILE_ID && tileId % 3 != 0) {
+                board.shoreUp(board.getSlotOfTile(tileId));
+            }
+        }
+        int count = deck.size() + 3;
+        risk.compute(board, deck, count);
+        double loss = risk.getLossProbability();
+        assertTrue("Scenario should be uncertain: " + loss, loss > 0.05 && loss < 0.95);
+
+        int trials = 40_000;
+        int[] sunk = new int[Cards.FLOOD_DECK_SIZE];
+        int[] flooded = new int[Cards.FLOOD_DECK_SIZE];
+        int losses = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            BoardState copy = board.copy();
+            IntDeck deckCopy = deck.copy(random);
+            deckCopy.shuffleUnknown();
+            flood(copy, deckCopy, count);
+            for (int tileId = 1; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+                int slot = board.getSlotOfTile(tileId);
+                if (board.isExist(slot) && !copy.isExist(slot)) {
+                    sunk[tileId]++;
+                }
+                if (!board.isFlooded(slot) && board.isExist(slot) && copy.isFlooded(slot)) {
+                    flooded[tileId]++;
+                }
+            }
+            if (!copy.isExist(copy.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID)) || copy.isShrinesFlooded()) {
+                losses++;
+            }
+        }
+        for (int tileId = 1; tileId < Cards.FLOOD_DECK_SIZE; tileId++) {
+            assertEquals("Sink odds of tile " + tileId, risk.getSinkProbability(tileId),
+                    (double) sunk[tileId] / trials, 0.01);
+            assertEquals("Flood odds of tile " + tileId, risk.getFloodProbability(tileId),
+                    (double) flooded[tileId] / trials, 0.01);
+        }
+        assertEquals("Loss odds", loss, (double) losses / trials, 0.01);
+    }
+}
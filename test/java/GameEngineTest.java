@@ -0,0 +1,119 @@
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for GameEngine
+ * 1. Single actions: move, capture, end of actions
+ * 2. Apply followed by undo restores the identical state, across whole random games
+ * 3. Random games always end with an outcome
+ */
+public class GameEngineTest {
+    private final int[] buffer = new int[Action.MAX_ACTIONS];
+
+    @Test
+    public void testMoveAndUndo() {
+        GameState state = GameState.newGame(2, 1, new SplittableRandom(3));
+        GameState before = new GameState(state, new SplittableRandom(0));
+        GameEngine engine = new GameEngine(state);
+
+        int n = engine.legalActions(buffer);
+        int move = -1;
+        for (int i = 0; i < n && move < 0; i++) {
+            if (Action.type(buffer[i]) == Action.MOVE) {
+                move = buffer[i];
+            }
+        }
+        assertTrue("A new game always has a move", move >= 0);
+        engine.apply(move);
+        assertEquals("Pawn should be on the target slot", Action.a(move), state.getPawnSlot(0));
+        assertEquals("Move should cost an action", 1, state.getActionsTaken());
+
+        engine.undo();
+        assertTrue("Undo should restore the state", state.sameState(before));
+        assertEquals(0, engine.getDepth());
+    }
+
+    @Test
+    public void testCapture() {
+        SplittableRandom random = new SplittableRandom(1);
+        GameState state = new GameState(BoardFixtures.identityBoard(), new int[]{GameState.DIVER}, 1,
+                new IntDeck(Cards.TREASURE_DECK_SIZE, random), new IntDeck(Cards.FLOOD_DECK_SIZE, random));
+        // Tile 1 (slot 0) is an Earth shrine, five Earth cards in hand
+        state.getBoard().setPawnSlot(GameState.DIVER, 0);
+        state.setHand(0, Cards.treasureMask(0) | (1 << 20));
+        GameState before = new GameState(state, random);
+        GameEngine engine = new GameEngine(state);
+
+        engine.apply(Action.of(Action.CAPTURE, 0, 0));
+        assertTrue(state.isCaptured(0));
+        assertTrue("Both shrines should be captured", state.getBoard().isCaptured(0) && state.getBoard().isCaptured(1));
+        assertEquals("Four cards should be discarded", (1 << 4) | (1 << 20), state.getHand(0));
+        assertEquals(4, state.getTreasureDeck().discardSize());
+
+        engine.undo();
+        assertTrue("Undo should restore hand, figurines and discard pile", state.sameState(before));
+    }
+
+    @Test
+    public void testEndActions() {
+        GameState state = GameState.newGame(3, 1, new SplittableRandom(7));
+        GameEngine engine = new GameEngine(state);
+        int cards = Cards.count(state.getHand(0));
+        int treasureSize = state.getTreasureDeck().size();
+
+        engine.apply(Action.of(Action.END_ACTIONS, 0, 0));
+        assertEquals("Two treasure cards should be drawn", treasureSize - 2, state.getTreasureDeck().size());
+        int risen = state.getWaterLevel() - 1;
+        assertEquals("Every card is either kept or raises the water", cards + 2 - risen, Cards.count(state.getHand(0)));
+        if (state.getPhase() == GameState.ACTION) {
+            assertEquals("Turn should pass to the next player", 1, state.getCurrentPlayer());
+            assertEquals(1, state.getTurn());
+        }
+    }
+
+    @Test
+    public void testApplyUndoRestoresIdenticalState() {
+        for (int seed = 0; seed < 30; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            GameState state = GameState.newGame(2 + seed % 3, 1 + seed % 4, random.split());
+            GameEngine engine = new GameEngine(state);
+            ArrayList<GameState> history = new ArrayList<>();
+
+            while (!state.isOver() && history.size() < 400) {
+                history.add(new GameState(state, random.split()));
+                int n = engine.legalActions(buffer);
+                assertTrue("Unfinished games always have an action", n > 0);
+                engine.apply(buffer[random.nextInt(n)]);
+            }
+            for (int i = history.size() - 1; i >= 0; i--) {
+                engine.undo();
+                assertTrue("Undo should restore the state before action " + i + " (seed " + seed + ")",
+                        state.sameState(history.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomGamesEnd() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int game = 0; game < 50; game++) {
+            GameState state = GameState.newGame(4, 2, random.split());
+            GameEngine engine = new GameEngine(state);
+            for (int step = 0; step < 100_000 && !state.isOver(); step++) {
+                int n = engine.legalActions(buffer);
+                engine.apply(buffer[random.nextInt(n)]);
+            }
+            assertTrue("Game should end", state.isOver());
+            assertNotEquals(GameState.ONGOING, state.getOutcome());
+        }
+    }
+}
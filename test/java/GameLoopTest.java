@@ -0,0 +1,136 @@
+import com.forbidden.island.controller.ForbiddenIslandGame;
+import com.forbidden.island.controller.GameLoop;
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.cards.FloodDeck;
+import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.view.GameView;
+import com.forbidden.island.view.handler.IRendering;
+import com.forbidden.island.view.handler.RenderingEngine;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the game loop
+ * 1. Commands run one after the other on one game-logic thread, never on the EDT
+ * 2. After a command an immutable view is published and the requested renderers draw it once on the EDT
+ * 3. A failing command does not stop the loop and still publishes a view
+ * 4. Taking a view does not change the session
+ */
+public class GameLoopTest {
+
+    private GameLoop loop;
+
+    @Before
+    public void setUp() {
+        ElementEngine.init(2, 1, 7L);
+        ElementEngine.getSession().setVerbose(false);
+        loop = new GameLoop();
+    }
+
+    /** Waits for the view of the submitted commands, then for the flush it queued */
+    private static void drainEdt() throws Exception {
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    @Test
+    public void testCommandsRunOnGameThread() throws Exception {
+        ArrayList<String> threads = new ArrayList<>();
+        ArrayList<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int command = i;
+            loop.submit(() -> {
+                assertFalse("Commands should not run on the EDT", SwingUtilities.isEventDispatchThread());
+                assertSame(loop, GameLoop.current());
+                threads.add(Thread.currentThread().getName());
+                order.add(command);
+            });
+        }
+        loop.submit(() -> { }).get();
+        assertEquals("[0, 1, 2, 3, 4]", order.toString());
+        assertEquals("One game-logic thread", 1, new HashSet<>(threads).size());
+        assertEquals(6, loop.getCommandCount());
+        assertNull("The test thread is not a game-logic thread", GameLoop.current());
+    }
+
+    @Test
+    public void testPublishesViewToRenderers() throws Exception {
+        ArrayList<Integer> drawnRounds = new ArrayList<>();
+        boolean[] onEdt = new boolean[1];
+        IRendering player = new IRendering() {
+            @Override
+            public void update() {
+                onEdt[0] = SwingUtilities.isEventDispatchThread();
+                drawnRounds.add(ElementEngine.getView().getRoundNum());
+            }
+
+            @Override
+            public void finish() {
+            }
+        };
+
+        loop.submit(() -> {
+            ForbiddenIslandGame.setRoundNum(1);
+            RenderingEngine.requestUpdate(player);
+            RenderingEngine.requestUpdate(player);
+        }).get();
+        drainEdt();
+
+        assertTrue("Renderers should draw on the EDT", onEdt[0]);
+        assertEquals("The renderer should draw the new view once", "[1]", drawnRounds.toString());
+        assertEquals(1, loop.getPublishCount());
+
+        // The published view is a snapshot, later changes of the session do not show through
+        GameView view = ElementEngine.getView();
+        ForbiddenIslandGame.setRoundNum(0);
+        assertSame(view, ElementEngine.getView());
+        assertEquals(1, view.getRoundNum());
+        try {
+            view.getHandCards(0).clear();
+            fail("Hands of a view should be unmodifiable");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test
+    public void testFailingCommand() throws Exception {
+        loop.submit(() -> {
+            throw new IllegalStateException("Broken rule");
+        }).get();
+        loop.submit(() -> ForbiddenIslandGame.setRoundNum(1)).get();
+        drainEdt();
+
+        assertEquals(1, loop.getFailureCount());
+        assertEquals(2, loop.getCommandCount());
+        assertEquals(2, loop.getPublishCount());
+        assertEquals(1, ElementEngine.getView().getRoundNum());
+    }
+
+    @Test
+    public void testViewDoesNotChangeSession() {
+        GameSession session = new GameSession(2, 4, 1L);
+        session.setVerbose(false);
+        session.start();
+        List<Integer> drawn = new ArrayList<>(session.getLastFloodCards());
+        // Empty the draw pile, so drawing the next flood cards would reshuffle the discard pile
+        FloodDeck deck = session.getFloodDeck();
+        while (deck.size() > 0) {
+            deck.getCards();
+            deck.discard();
+        }
+        int discardSize = deck.discardSize();
+
+        GameView view = GameView.of(session);
+
+        assertEquals("The draw pile should be untouched", 0, deck.size());
+        assertEquals("The discard pile should be untouched", discardSize, deck.discardSize());
+        assertEquals("The view should show the cards of the last flood phase", drawn, view.getFloodCards());
+    }
+}
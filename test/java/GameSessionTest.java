@@ -0,0 +1,280 @@
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import com.forbidden.island.model.enums.DeckType;
+import com.forbidden.island.model.event.GameEventListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for GameSession
+ * 1. Each session owns its own board, decks, water meter and adventurers
+ * 2. Turn counters are kept per session
+ * 3. Sessions can be played concurrently on separate threads
+ * 4. Game events are published to registered listeners
+ * 5. Seeded sessions reproduce the same game on any thread
+ * 6. Tile clicks follow the rules engine: the Pilot flies once per turn, a Navigator push is one action
+ */
+public class GameSessionTest {
+
+    /**
+     * Plays a few quiet rounds on a session: draw and flood phases followed by the round end.
+     */
+    private static void playRounds(GameSession session, int rounds) {
+        for (int i = 0; i < rounds && !session.isGameOver(); i++) {
+            session.stage23();
+            while (session.isNeed2save() && !session.isGameOver()) {
+                session.savePlayersRound();
+            }
+            // Keep within the hand limit so the round can end
+            for (int card : session.getDisplayedTreasureCard()) {
+                session.getTreasureDeck().discard(card);
+            }
+            session.getDisplayedTreasureCard().clear();
+            session.roundEnd();
+        }
+    }
+
+    @Test
+    public void testInitialization() {
+        GameSession session = new GameSession(3, 2);
+        assertEquals("Should have 3 players", 3, session.getNumOfPlayer());
+        assertEquals("Should have 3 adventurers", 3, session.getAdventurers().length);
+        assertEquals("Should start with player 1", 0, session.getRoundNum());
+        assertEquals("Should start without actions", 0, session.getActionCount());
+        assertFalse("Game should not be over", session.isGameOver());
+        for (Adventurer adventurer : session.getAdventurers()) {
+            assertEquals("Each player should be dealt 2 cards", 2, adventurer.getHandCards().size());
+        }
+    }
+
+    @Test
+    public void testSessionsAreIndependent() {
+        GameSession first = new GameSession(2, 1);
+        GameSession second = new GameSession(4, 3);
+        first.setVerbose(false);
+
+        first.start();
+        first.doAction();
+
+        assertNotSame("Sessions should not share a board", first.getBoard(), second.getBoard());
+        assertNotSame("Sessions should not share a flood deck", first.getFloodDeck(), second.getFloodDeck());
+        assertEquals("Action count should be per session", 1, first.getActionCount());
+        assertEquals("Other session should be untouched", 0, second.getActionCount());
+        assertEquals("Player count should be per session", 4, second.getNumOfPlayer());
+    }
+
+    @Test
+    public void testRoundEndRotatesPlayers() {
+        GameSession session = new GameSession(2, 1);
+        session.setVerbose(false);
+        session.start();
+        playRounds(session, 1);
+        if (!session.isGameOver()) {
+            assertEquals("Turn should pass to player 2", 1, session.getRoundNum());
+            assertFalse("New round should start before the draw phase", session.isStage23Done());
+        }
+    }
+
+    /**
+     * Plays a seeded session for a few rounds and describes where it ended up.
+     */
+    private static String playToEnd(long seed) {
+        GameSession session = new GameSession(4, 2, seed);
+        session.setVerbose(false);
+        session.start();
+        playRounds(session, 20);
+        StringBuilder result = new StringBuilder();
+        result.append(session.getOutcome()).append(' ')
+                .append(session.getRoundNum()).append(' ')
+                .append(session.getWaterMeter().getWaterLevel()).append(' ')
+                .append(session.getBoard().getState().getTileBits()).append(' ')
+                .append(session.getBoard().getState().getPawnBits());
+        for (Adventurer adventurer : session.getAdventurers()) {
+            result.append(adventurer.getHandCards());
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void testConcurrentSessions() throws Exception {
+        List<String> sequential = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            sequential.add(playToEnd(i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> games = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                long seed = i;
+                games.add(pool.submit(() -> playToEnd(seed)));
+            }
+            for (int i = 0; i < games.size(); i++) {
+                assertEquals("Session " + i + " should end the same on a shared pool as alone",
+                        sequential.get(i), games.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue("The seeds should not all play the same game", new HashSet<>(sequential).size() > 1);
+    }
+
+    @Test
+    public void testEventsArePublished() {
+        GameSession session = new GameSession(2, 1);
+        session.setVerbose(false);
+        List<String> events = new ArrayList<>();
+        session.addListener(new GameEventListener() {
+            @Override
+            public void onCardsDrawn(DeckType deck, List<Integer> cards) {
+                events.add(deck + ":" + cards.size());
+            }
+
+            @Override
+            public void onTileFlooded(int tileId) {
+                events.add("Flooded");
+            }
+
+            @Override
+            public void onFloodPhaseEnded() {
+                events.add("FloodPhaseEnded");
+            }
+
+            @Override
+            public void onTurnEnded(int nextPlayerOrder) {
+                events.add("TurnEnded:" + nextPlayerOrder);
+            }
+        });
+
+        session.start();
+        assertEquals("Initial flood should draw 6 cards", "Flood:6", events.get(0));
+        assertEquals("6 tiles should be flooded", 6, events.stream().filter("Flooded"::equals).count());
+        assertEquals("Flood phase should end last", "FloodPhaseEnded", events.get(events.size() - 1));
+
+        events.clear();
+        playRounds(session, 1);
+        assertTrue("Treasure cards should be drawn first", events.get(0).startsWith("Treasure:"));
+        if (!session.isGameOver()) {
+            assertEquals("Turn should end last", "TurnEnded:1", events.get(events.size() - 1));
+        }
+    }
+
+    /**
+     * Plays a seeded game and records everything that depends on the random source.
+     */
+    private static String playSeeded(long seed) {
+        GameSession session = new GameSession(4, 2, seed);
+        session.setVerbose(false);
+        StringBuilder trace = new StringBuilder(session.getTilesArray().toString());
+        for (Adventurer adventurer : session.getAdventurers()) {
+            trace.append(adventurer.getName()).append(adventurer.getHandCards());
+        }
+        session.start();
+        for (int i = 0; i < 10 && !session.isGameOver(); i++) {
+            playRounds(session, 1);
+            trace.append(session.getFloodDeck().getCards()).append(session.getBoard().getState().getTileBits());
+        }
+        return trace.toString();
+    }
+
+    @Test
+    public void testSeededSessionsAreReproducible() throws Exception {
+        String expected = playSeeded(2024L);
+        assertEquals("Same seed should replay the same game", expected, playSeeded(2024L));
+        assertNotEquals("Different seeds should deal different games", expected, playSeeded(2025L));
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> replays = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                replays.add(pool.submit(() -> playSeeded(2024L)));
+            }
+            for (Future<String> replay : replays) {
+                assertEquals("Replay on a worker thread should match", expected, replay.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Finds a seeded, started two-player session whose first player has the given role.
+     */
+    private static GameSession sessionWithFirstRole(int role) {
+        for (long seed = 0; ; seed++) {
+            GameSession session = new GameSession(2, 1, seed);
+            if (session.getAdventurers()[0].getId() == role) {
+                session.setVerbose(false);
+                session.start();
+                return session;
+            }
+        }
+    }
+
+    private static void click(GameSession session, int slot) {
+        session.nextTile(new int[]{IslandLayout.xOf(slot), IslandLayout.yOf(slot)});
+    }
+
+    @Test
+    public void testPilotFliesOncePerTurn() {
+        GameSession session = sessionWithFirstRole(GameState.PILOT);
+        Adventurer pilot = session.getAdventurers()[0];
+        BoardState board = session.getBoard().getState();
+        int walks = Rules.moveTargets(board, GameState.PILOT, pilot.getPos());
+        int flights = board.getExistMask() & ~walks & ~IslandLayout.bit(pilot.getPos());
+
+        int first = Integer.numberOfTrailingZeros(flights);
+        click(session, first);
+        assertTrue("The Pilot should fly to a distant tile", session.getBoard().isCanMove());
+        session.moveTo();
+        assertEquals(first, pilot.getPos());
+        assertTrue(session.isPilotFlown());
+        assertTrue("The snapshot should carry the flight", session.snapshot().isPilotFlown());
+
+        int walksNow = Rules.moveTargets(board, GameState.PILOT, pilot.getPos());
+        int farther = board.getExistMask() & ~walksNow & ~IslandLayout.bit(pilot.getPos());
+        click(session, Integer.numberOfTrailingZeros(farther));
+        assertFalse("The Pilot should fly only once per turn", session.getBoard().isCanMove());
+        click(session, Integer.numberOfTrailingZeros(walksNow));
+        assertTrue("The Pilot should still walk", session.getBoard().isCanMove());
+    }
+
+    @Test
+    public void testNavigatorPushIsOneAction() {
+        GameSession session = sessionWithFirstRole(GameState.NAVIGATOR);
+        Adventurer pushed = session.getAdventurers()[1];
+        BoardState board = session.getBoard().getState();
+        session.selectPawn(1);
+
+        int start = pushed.getPos();
+        int first = Integer.numberOfTrailingZeros(IslandLayout.orthogonal(start) & board.getExistMask());
+        click(session, first);
+        assertTrue("The selected pawn should be pushed one step", session.getBoard().isCanMove());
+        session.moveTo();
+        assertEquals(first, pushed.getPos());
+        assertEquals("The first step of a push costs the action", 1, session.getActionCount());
+        assertTrue(session.isPushInProgress());
+
+        int second = Integer.numberOfTrailingZeros(IslandLayout.orthogonal(first) & board.getExistMask());
+        click(session, second);
+        assertTrue(session.getBoard().isCanMove());
+        session.moveTo();
+        assertEquals(second, pushed.getPos());
+        assertEquals("The second step is free", 1, session.getActionCount());
+        assertEquals("The push ends after two steps", -1, session.getSelectedPawn());
+        assertTrue("Two steps stay within Rules.navigatorTargets",
+                (Rules.navigatorTargets(board, start) & IslandLayout.bit(second)) != 0 || second == start);
+    }
+}
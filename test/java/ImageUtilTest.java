@@ -1,3 +1,4 @@
+import com.forbidden.island.utils.ImageUtil;
 import org.junit.Test;
 
 import java.awt.*;
@@ -123,6 +124,53 @@ public class ImageUtilTest {
         assertTrue("Rotated width should be close to original height", Math.abs(rotated.getWidth() - original.getHeight()) <= 1);
     }
     
+    @Test
+    public void testCacheServesRepeatedLoads() {
+        ImageUtil.clearCache();
+        BufferedImage first = ImageUtil.getImage("/Tiles/1.png", 159, 90);
+        assertNotNull("Tile image should load from the classpath", first);
+        assertEquals(159, first.getWidth());
+        assertEquals(90, first.getHeight());
+        long misses = ImageUtil.getCacheMisses();
+
+        for (int i = 0; i < 10; i++) {
+            assertSame("Repeated loads should return the cached image", first, ImageUtil.getImage("/Tiles/1.png", 159, 90));
+        }
+        assertEquals("Repeated loads should not decode again", misses, ImageUtil.getCacheMisses());
+        assertEquals(10, ImageUtil.getCacheHits());
+
+        // Another size or rotation is another variant, built from the cached original
+        BufferedImage rotated = ImageUtil.getImage("/Tiles/1.png", 50, 120, 90d);
+        assertEquals(50, rotated.getWidth());
+        assertEquals(120, rotated.getHeight());
+        assertNotSame(first, ImageUtil.getImage("/Tiles/1.png", 120, 50));
+        assertEquals("Original, two scaled and one rotated variant", 4, ImageUtil.getCacheSize());
+    }
+
+    @Test
+    public void testCacheEvictsLeastRecentlyUsed() {
+        ImageUtil.clearCache();
+        BufferedImage kept = ImageUtil.getImage("/Tiles/2.png", 1, 1);
+        for (int size = 2; size < ImageUtil.CACHE_CAPACITY + 10; size++) {
+            ImageUtil.getImage("/Tiles/2.png", size, 1);
+            // Keep touching the first variant so it stays recent
+            assertSame(kept, ImageUtil.getImage("/Tiles/2.png", 1, 1));
+        }
+        assertEquals("Cache should stay within its capacity", ImageUtil.CACHE_CAPACITY, ImageUtil.getCacheSize());
+        assertTrue("Old variants should have been evicted", ImageUtil.getCacheEvictions() > 0);
+
+        long misses = ImageUtil.getCacheMisses();
+        ImageUtil.getImage("/Tiles/2.png", 2, 1);
+        assertEquals("Evicted variant should be built again", misses + 1, ImageUtil.getCacheMisses());
+    }
+
+    @Test
+    public void testMissingImage() {
+        ImageUtil.clearCache();
+        assertNull("Missing image should load as null", ImageUtil.getImage("/Tiles/missing.png", 10, 10));
+        assertEquals("Failed loads should not be cached", 0, ImageUtil.getCacheSize());
+    }
+
     /**
      * Helper method to wait for image loading completion
      */
@@ -0,0 +1,132 @@
+import com.forbidden.island.model.cards.IntDeck;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for IntDeck
+ * 1. Draw from top, insert at top and bottom
+ * 2. Removal of cards anywhere in the deck
+ * 3. Reshuffling the discard pile back onto the deck
+ * 4. The ring keeps working once it is full of stale entries
+ * 5. Re-dealing the unknown order keeps the reshuffled cards on top
+ * 6. A card already in a pile cannot be discarded again
+ */
+public class IntDeckTest {
+    private IntDeck deck;
+
+    @Before
+    public void setUp() {
+        deck = new IntDeck(10, new SplittableRandom(42));
+        for (int i = 0; i < 5; i++) {
+            deck.addToBottom(i);
+        }
+    }
+
+    @Test
+    public void testDrawOrder() {
+        deck.addToTop(9);
+        assertEquals("Card on top should be drawn first", 9, deck.draw());
+        assertEquals(0, deck.draw());
+        int[] top = new int[3];
+        assertEquals("Peek should see 3 cards", 3, deck.peek(3, top));
+        assertArrayEquals(new int[]{1, 2, 3}, top);
+        assertEquals("Peek should not draw", 4, deck.size());
+    }
+
+    @Test
+    public void testRemove() {
+        assertTrue(deck.remove(2));
+        assertFalse("Card is already gone", deck.remove(2));
+        assertEquals(4, deck.size());
+        deck.discard(7);
+        deck.discard(8);
+        assertTrue(deck.remove(7));
+        assertEquals("Discard pile should lose the card", 1, deck.discardSize());
+
+        int[] drawn = new int[4];
+        for (int i = 0; i < drawn.length; i++) {
+            drawn[i] = deck.draw();
+        }
+        assertArrayEquals("Removed card should be skipped", new int[]{0, 1, 3, 4}, drawn);
+        assertEquals("Empty deck draws nothing", -1, deck.draw());
+    }
+
+    @Test
+    public void testDoubleDiscard() {
+        deck.discard(7);
+        try {
+            deck.discard(7);
+            fail("A discarded card should not be discarded again");
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            deck.discard(0);
+            fail("A card in the draw pile should not be discarded");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals("Rejected discards should not change the piles", 1, deck.discardSize());
+        assertEquals(5, deck.size());
+    }
+
+    @Test
+    public void testReshuffleToTop() {
+        deck.draw();
+        deck.draw();
+        deck.discard(8);
+        deck.discard(9);
+        deck.reshuffleDiscardToTop();
+        assertEquals(0, deck.discardSize());
+        assertEquals(5, deck.size());
+
+        int first = deck.draw();
+        int second = deck.draw();
+        assertTrue("Discarded cards should come first", first >= 8 && second >= 8 && first != second);
+        assertEquals("Old deck should follow", 2, deck.draw());
+    }
+
+    @Test
+    public void testStaleEntriesAreReclaimed() {
+        // Remove cards from the middle and keep refilling until the ring had to compact several times
+        for (int round = 0; round < 20; round++) {
+            int card = 5 + round % 5;
+            deck.addToBottom(card);
+            deck.remove(card);
+        }
+        for (int card = 5; card < 10; card++) {
+            deck.addToBottom(card);
+        }
+        assertEquals(10, deck.size());
+        for (int card = 0; card < 10; card++) {
+            assertEquals("Order should survive compaction", card, deck.draw());
+        }
+    }
+
+    @Test
+    public void testShuffleUnknown() {
+        deck.draw();
+        deck.discard(7);
+        deck.discard(8);
+        deck.discard(9);
+        deck.reshuffleDiscardToTop();
+        deck.draw();
+        assertEquals("Two reshuffled cards are still on top", 2, deck.knownTopCount());
+
+        for (int round = 0; round < 20; round++) {
+            deck.shuffleUnknown();
+            assertEquals(6, deck.size());
+            assertEquals(2, deck.knownTopCount());
+            int[] cards = new int[6];
+            deck.peek(6, cards);
+            assertTrue("Reshuffled cards should stay on top", cards[0] >= 7 && cards[1] >= 7);
+            for (int i = 2; i < 6; i++) {
+                assertTrue("Old deck should stay below", cards[i] >= 1 && cards[i] <= 4);
+            }
+        }
+        deck.shuffle();
+        assertEquals("A full shuffle forgets the top cards", 0, deck.knownTopCount());
+    }
+}
@@ -0,0 +1,61 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for IslandLayout
+ * 1. Cell → slot and slot → cell lookups
+ * 2. Orthogonal, diagonal and all-8 neighbour masks, blank cells excluded
+ * 3. Cell masks: slot conversion and orthogonal growth without wrapping rows
+ */
+public class IslandLayoutTest {
+
+    @Test
+    public void testSlotAt() {
+        assertEquals("First slot should be at (0,2)", 0, IslandLayout.slotAt(0, 2));
+        assertEquals("Last slot should be at (5,3)", 23, IslandLayout.slotAt(5, 3));
+        assertEquals("Corner should be blank", BoardState.NO_SLOT, IslandLayout.slotAt(0, 0));
+        assertEquals("Cells outside the map have no slot", BoardState.NO_SLOT, IslandLayout.slotAt(-1, 2));
+        for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+            assertEquals("Slot should map back to itself", slot,
+                    IslandLayout.slotAt(IslandLayout.xOf(slot), IslandLayout.yOf(slot)));
+        }
+    }
+
+    @Test
+    public void testCornerNeighbours() {
+        // (0,2): right (0,3), below (1,2); diagonals (1,1) and (1,3); (0,1) is blank
+        int slot = IslandLayout.slotAt(0, 2);
+        int right = IslandLayout.bit(IslandLayout.slotAt(0, 3));
+        int below = IslandLayout.bit(IslandLayout.slotAt(1, 2));
+        int diagonals = IslandLayout.bit(IslandLayout.slotAt(1, 1)) | IslandLayout.bit(IslandLayout.slotAt(1, 3));
+        assertEquals(right | below, IslandLayout.orthogonal(slot));
+        assertEquals(diagonals, IslandLayout.diagonal(slot));
+        assertEquals(right | below | diagonals, IslandLayout.all(slot));
+    }
+
+    @Test
+    public void testInnerNeighbours() {
+        int slot = IslandLayout.slotAt(2, 2);
+        assertEquals("Inner tile has 4 orthogonal neighbours", 4, Integer.bitCount(IslandLayout.orthogonal(slot)));
+        assertEquals("Inner tile has 4 diagonal neighbours", 4, Integer.bitCount(IslandLayout.diagonal(slot)));
+        assertEquals("Inner tile has 8 neighbours", 8, Integer.bitCount(IslandLayout.all(slot)));
+        assertEquals("Masks should be symmetric", IslandLayout.bit(slot),
+                IslandLayout.orthogonal(IslandLayout.slotAt(2, 3)) & IslandLayout.bit(slot));
+        assertEquals("Blank cells have no neighbours", 0, IslandLayout.all(BoardState.NO_SLOT));
+    }
+
+    @Test
+    public void testCellMasks() {
+        int slots = IslandLayout.bit(IslandLayout.slotAt(0, 2)) | IslandLayout.bit(IslandLayout.slotAt(5, 3));
+        assertEquals("Slot masks should survive a round trip", slots, IslandLayout.toSlots(IslandLayout.toCells(slots)));
+        assertEquals("Blank cells hold no slots", 0, IslandLayout.toSlots(IslandLayout.BLANK_CELLS));
+
+        // (2,5) is at the end of row 2, growing it must not reach (3,0)
+        long cell = IslandLayout.toCells(IslandLayout.bit(IslandLayout.slotAt(2, 5)));
+        int grown = IslandLayout.toSlots(IslandLayout.expandOrthogonal(cell));
+        assertEquals(IslandLayout.orthogonal(IslandLayout.slotAt(2, 5)), grown);
+    }
+}
@@ -0,0 +1,98 @@
+import com.forbidden.island.Simulation;
+import com.forbidden.island.bot.BotPolicy;
+import com.forbidden.island.bot.MctsBot;
+import com.forbidden.island.bot.SimulationStats;
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MctsBot
+ * 1. Decisions are legal and leave the game state untouched
+ * 2. The time limit bounds a decision
+ * 3. Root-parallel search on several threads
+ * 4. An obvious capture is found
+ * 5. On the same games the batch policy captures more figurines than GreedyBot and wins as often
+ */
+public class MctsBotTest {
+    private final int[] buffer = new int[Action.MAX_ACTIONS];
+
+    @Test
+    public void testLegalAndStateUnchanged() {
+        GameState state = GameState.newGame(4, 1, new SplittableRandom(5));
+        GameEngine engine = new GameEngine(state);
+        MctsBot bot = new MctsBot(200, 1, 0, 4, new SplittableRandom(6));
+        for (int step = 0; step < 30 && !state.isOver(); step++) {
+            GameState before = new GameState(state, new SplittableRandom(0));
+            int action = bot.chooseAction(engine);
+            assertTrue("Search should leave the state untouched", state.sameState(before));
+            assertEquals("Search should leave the state hash untouched", before.getHash(), state.getHash());
+            assertTrue("Chosen action should be legal: " + Action.toString(action), Rules.isLegal(state, action, buffer));
+            engine.apply(action);
+        }
+    }
+
+    @Test
+    public void testTimeLimit() {
+        GameState state = GameState.newGame(4, 1, new SplittableRandom(8));
+        GameEngine engine = new GameEngine(state);
+        MctsBot bot = new MctsBot(Integer.MAX_VALUE, 1, 50, 4, new SplittableRandom(9));
+        long start = System.nanoTime();
+        int action = bot.chooseAction(engine);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue("Decision should stop near the time limit, took " + millis + " ms", millis < 1_000);
+        assertTrue(Rules.isLegal(state, action, buffer));
+    }
+
+    @Test
+    public void testRootParallel() {
+        GameState state = GameState.newGame(3, 2, new SplittableRandom(11));
+        GameEngine engine = new GameEngine(state);
+        MctsBot bot = new MctsBot(400, 2, 0, 4, new SplittableRandom(12));
+        GameState before = new GameState(state, new SplittableRandom(0));
+        int action = bot.chooseAction(engine);
+        assertTrue(state.sameState(before));
+        assertTrue(Rules.isLegal(state, action, buffer));
+    }
+
+    @Test
+    public void testFindsCapture() {
+        SplittableRandom random = new SplittableRandom(1);
+        IntDeck treasureDeck = new IntDeck(Cards.TREASURE_DECK_SIZE, random);
+        IntDeck floodDeck = new IntDeck(Cards.FLOOD_DECK_SIZE, random);
+        for (int card = 5; card < Cards.TREASURE_DECK_SIZE; card++) {
+            treasureDeck.addToBottom(card);
+        }
+        for (int card = 1; card < Cards.FLOOD_DECK_SIZE; card++) {
+            floodDeck.addToBottom(card);
+        }
+        treasureDeck.shuffle();
+        floodDeck.shuffle();
+        GameState state = new GameState(BoardFixtures.identityBoard(), new int[]{GameState.DIVER}, 1,
+                treasureDeck, floodDeck);
+        // Tile 1 (slot 0) is an Earth shrine, the Diver stands on it with four Earth cards
+        state.getBoard().setPawnSlot(GameState.DIVER, 0);
+        state.setHand(0, 0b1111);
+        GameEngine engine = new GameEngine(state);
+
+        int action = new MctsBot(500, 1, 0, 4, new SplittableRandom(2)).chooseAction(engine);
+        assertEquals("Capturing should be preferred", Action.CAPTURE, Action.type(action));
+    }
+
+    @Test
+    public void testBeatsGreedy() {
+        SimulationStats greedy = Simulation.run(16, 2, 1, BotPolicy.GREEDY, 21, 1);
+        SimulationStats mcts = Simulation.run(16, 2, 1, BotPolicy.MCTS, 21, 1);
+        assertTrue("MCTS should capture more figurines: " + mcts.getAverageFigurines() + " vs "
+                + greedy.getAverageFigurines(), mcts.getAverageFigurines() > greedy.getAverageFigurines());
+        assertTrue("MCTS should win as often", mcts.getWins() >= greedy.getWins());
+    }
+}
@@ -6,6 +6,11 @@ import com.forbidden.island.view.handler.PlayerRendering;
 import com.forbidden.island.view.handler.IRendering;
 import com.forbidden.island.view.ElementEngine;
 import com.forbidden.island.view.GamePanel;
+import com.forbidden.island.view.PlayerBadges;
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.enums.TreasureFigurines;
+import com.forbidden.island.utils.Constant;
+import javax.swing.Icon;
 import com.forbidden.island.controller.ForbiddenIslandGame;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +18,8 @@ import javax.swing.JButton;
 
 /**
  * Test class for PlayerRendering
+ * 1. Pawns and hand cards are set up for the players in the game
+ * 2. Pawn badges come from a cache keyed by role and captured figurines, however many updates happen
  */
 public class PlayerRenderingTest {
     
@@ -68,8 +75,10 @@ public class PlayerRenderingTest {
         int currentPlayer = ForbiddenIslandGame.getRoundNum();
         for (int i = 0; i < ForbiddenIslandGame.getNumOfPlayer(); i++) {
             List<JButton> handCards = GamePanel.playerHandCards.get(i);
-            for (JButton card : handCards) {
-                if (i == currentPlayer) {
+            int handSize = ElementEngine.getAdventurers()[i].getHandCards().size();
+            for (int j = 0; j < handCards.size(); j++) {
+                JButton card = handCards.get(j);
+                if (i == currentPlayer && j < handSize) {
                     assertTrue("Current player's hand cards should be enabled", card.isEnabled());
                 } else {
                     assertFalse("Other players' hand cards should be disabled", card.isEnabled());
@@ -79,6 +88,31 @@ public class PlayerRenderingTest {
         }
     }
     
+    @Test
+    public void testBadgesStayBounded() {
+        Adventurer adventurer = ElementEngine.getAdventurers()[0];
+        JButton pawn = GamePanel.playerPawnList.get(0);
+        adventurer.getCapturedFigurines().add(TreasureFigurines.Fire);
+        playerRendering.update();
+        Icon badge = pawn.getIcon();
+        assertEquals("Badge should keep the pawn size", Constant.TREASURE_WIDTH, badge.getIconWidth());
+        assertEquals(Constant.TREASURE_HEIGHT, badge.getIconHeight());
+
+        long misses = PlayerBadges.getCacheMisses();
+        for (int i = 0; i < 100; i++) {
+            playerRendering.update();
+        }
+        assertSame("Repeated updates should reuse the badge", badge, pawn.getIcon());
+        assertEquals("Repeated updates should composite nothing", misses, PlayerBadges.getCacheMisses());
+
+        adventurer.getCapturedFigurines().add(TreasureFigurines.Earth);
+        playerRendering.update();
+        assertNotSame("A new figurine should change the badge", badge, pawn.getIcon());
+        assertSame(PlayerBadges.get(adventurer.getId(), PlayerBadges.mask(adventurer.getCapturedFigurines())),
+                pawn.getIcon());
+        adventurer.getCapturedFigurines().clear();
+    }
+
     @Test
     public void testFinish() {
         // Test finish method
@@ -0,0 +1,115 @@
+import com.forbidden.island.view.handler.IRendering;
+import com.forbidden.island.view.handler.RenderScheduler;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the coalescing render scheduler
+ * 1. Repeated requests update a renderer once, in first request order, and are counted as suppressed
+ * 2. Requests are flushed on the EDT, requests made while flushing wait for the next cycle
+ * 3. Cancelled requests are dropped
+ */
+public class RenderSchedulerTest {
+
+    /** Renderer recording its updates in a shared log */
+    private static class Recorder implements IRendering {
+        private final String name;
+        private final ArrayList<String> log;
+        private Runnable onUpdate = () -> { };
+
+        Recorder(String name, ArrayList<String> log) {
+            this.name = name;
+            this.log = log;
+        }
+
+        @Override
+        public void update() {
+            log.add(name);
+            onUpdate.run();
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    @Test
+    public void testCoalescesRequests() throws Exception {
+        // The scheduler is only used on the EDT, where its queued flush cannot run before this one
+        SwingUtilities.invokeAndWait(this::coalesceRequests);
+    }
+
+    private void coalesceRequests() {
+        ArrayList<String> log = new ArrayList<>();
+        Recorder board = new Recorder("board", log);
+        Recorder treasure = new Recorder("treasure", log);
+        Recorder player = new Recorder("player", log);
+        RenderScheduler scheduler = new RenderScheduler();
+
+        // Like drawing treasure cards then sinking tiles in one action
+        scheduler.request(treasure);
+        scheduler.request(player);
+        scheduler.request(treasure);
+        scheduler.request(board);
+        scheduler.request(board);
+        scheduler.request(null);
+        assertEquals("Nothing should be updated before the flush", 0, log.size());
+        assertEquals(3, scheduler.getPendingCount());
+
+        scheduler.flush();
+        assertEquals("Each renderer once, in first request order", "[treasure, player, board]", log.toString());
+        assertEquals(5, scheduler.getRequestCount());
+        assertEquals(2, scheduler.getSuppressedCount());
+        assertEquals(3, scheduler.getUpdateCount());
+        assertEquals(1, scheduler.getFlushCount());
+
+        scheduler.flush();
+        assertEquals("An empty flush should update nothing", 3, log.size());
+        assertEquals(1, scheduler.getFlushCount());
+    }
+
+    @Test
+    public void testFlushesOnEdt() throws Exception {
+        ArrayList<String> log = new ArrayList<>();
+        Recorder targets = new Recorder("targets", log);
+        Recorder board = new Recorder("board", log);
+        RenderScheduler scheduler = new RenderScheduler();
+        boolean[] onEdt = new boolean[1];
+        board.onUpdate = () -> {
+            onEdt[0] = SwingUtilities.isEventDispatchThread();
+            // Like TileRendering asking for the target highlights
+            scheduler.request(targets);
+            scheduler.request(targets);
+        };
+
+        SwingUtilities.invokeAndWait(() -> {
+            scheduler.request(board);
+            scheduler.request(board);
+        });
+        // The first flush is queued behind the requests, the second one behind the first
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertTrue("Updates should run on the EDT", onEdt[0]);
+        assertEquals("[board, targets]", log.toString());
+        assertEquals(2, scheduler.getFlushCount());
+        assertEquals(2, scheduler.getSuppressedCount());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        ArrayList<String> log = new ArrayList<>();
+        RenderScheduler scheduler = new RenderScheduler();
+        SwingUtilities.invokeAndWait(() -> {
+            scheduler.request(new Recorder("board", log));
+            scheduler.cancel();
+            scheduler.flush();
+        });
+        assertEquals(0, log.size());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
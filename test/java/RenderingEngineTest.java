@@ -12,6 +12,7 @@ import com.forbidden.island.view.FloodPanel;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JButton;
+import javax.swing.JLabel;
 
 /**
  * Test class for RenderingEngine
@@ -56,6 +57,7 @@ public class RenderingEngineTest {
         for (int i = 0; i < 6; i++) {
             FloodPanel.floodCards.add(new JButton());
         }
+        FloodPanel.floodDeck = new JLabel();
         
         // Initialize RenderingEngine
         RenderingEngine.init();
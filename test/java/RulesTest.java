@@ -0,0 +1,267 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.Cards;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for Rules.legalActions
+ * 1. Movement: orthogonal, Explorer diagonals, Diver through flooded and missing tiles, Pilot flight
+ *    (the cached Diver destinations follow every change of the board)
+ * 2. Shore up, including the Engineer's double shore up
+ * 3. Giving cards: same tile, Messenger anywhere
+ * 4. Capture, Sandbag, Helicopter Lift and lift off
+ * 5. Navigator push, swimming and the action limit
+ */
+public class RulesTest {
+    private final int[] buffer = new int[Action.MAX_ACTIONS];
+
+    /**
+     * Creates a state with tile i + 1 on slot i, empty hands and empty decks.
+     */
+    private static GameState state(int... roles) {
+        SplittableRandom random = new SplittableRandom(1);
+        return new GameState(BoardFixtures.identityBoard(), roles, 1,
+                new IntDeck(Cards.TREASURE_DECK_SIZE, random), new IntDeck(Cards.FLOOD_DECK_SIZE, random));
+    }
+
+    private static int slot(int x, int y) {
+        return IslandLayout.slotAt(x, y);
+    }
+
+    private int count(GameState state, int type) {
+        int n = Rules.legalActions(state, buffer);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (Action.type(buffer[i]) == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean has(GameState state, int action) {
+        return Rules.isLegal(state, action, buffer);
+    }
+
+    @Test
+    public void testMoves() {
+        GameState state = state(GameState.MESSENGER, GameState.EXPLORER);
+        state.getBoard().setPawnSlot(GameState.MESSENGER, slot(2, 2));
+        state.getBoard().setPawnSlot(GameState.EXPLORER, slot(3, 3));
+        assertEquals("Messenger moves orthogonally", 4, count(state, Action.MOVE));
+
+        state.setCurrentPlayer(1);
+        assertEquals("Explorer also moves diagonally", 8, count(state, Action.MOVE));
+
+        // Sunk tiles cannot be entered
+        state.getBoard().flood(slot(3, 4));
+        state.getBoard().flood(slot(3, 4));
+        assertEquals(7, count(state, Action.MOVE));
+        assertFalse(has(state, Action.of(Action.MOVE, slot(3, 4), 0)));
+    }
+
+    @Test
+    public void testDiverMoves() {
+        GameState state = state(GameState.DIVER);
+        BoardState board = state.getBoard();
+        board.setPawnSlot(GameState.DIVER, slot(2, 2));
+        int far = Action.of(Action.MOVE, slot(2, 5), 0);
+        assertFalse("Dry tiles cannot be dived through", has(state, far));
+
+        // Flooded (2,3) and sunk (2,4) form a channel to (2,5)
+        board.flood(slot(2, 3));
+        board.flood(slot(2, 4));
+        board.flood(slot(2, 4));
+        assertTrue("Diver swims through flooded and sunk tiles", has(state, far));
+        assertTrue("Tiles next to the channel are reachable", has(state, Action.of(Action.MOVE, slot(1, 4), 0)));
+        assertTrue("Flooded tiles themselves are reachable", has(state, Action.of(Action.MOVE, slot(2, 3), 0)));
+        assertFalse("Sunk tiles are not a destination", has(state, Action.of(Action.MOVE, slot(2, 4), 0)));
+        assertEquals("Diver reach matches the generated moves",
+                Integer.bitCount(Rules.diverTargets(board, slot(2, 2))), count(state, Action.MOVE));
+    }
+
+    /**
+     * Diver destinations grown from the Diver's cell alone, as a reference for the cached ones.
+     */
+    private static int floodFill(BoardState board, int slot) {
+        long passable = IslandLayout.BLANK_CELLS | IslandLayout.toCells(board.getFloodedMask() | board.getSunkMask());
+        long region = IslandLayout.toCells(IslandLayout.bit(slot));
+        long grown = region | (IslandLayout.expandOrthogonal(region) & passable);
+        while (grown != region) {
+            region = grown;
+            grown = region | (IslandLayout.expandOrthogonal(region) & passable);
+        }
+        return IslandLayout.toSlots(IslandLayout.expandOrthogonal(region)) & board.getExistMask()
+                & ~IslandLayout.bit(slot);
+    }
+
+    @Test
+    public void testDiverTargetsCache() {
+        SplittableRandom random = new SplittableRandom(9);
+        BoardState board = state(GameState.DIVER).getBoard();
+        for (int step = 0; step < 300; step++) {
+            int slot = random.nextInt(BoardState.SLOT_COUNT);
+            if (random.nextInt(3) == 0) {
+                board.shoreUp(slot);
+            } else if (board.getSunkMask() != 0 && random.nextInt(10) == 0) {
+                board = state(GameState.DIVER).getBoard();
+            } else {
+                board.flood(slot);
+            }
+            BoardState copy = board.copy();
+            for (int diver = 0; diver < BoardState.SLOT_COUNT; diver++) {
+                assertEquals("Cached destinations should match a fresh flood fill",
+                        floodFill(board, diver), board.getDiverTargets(diver));
+                assertEquals(board.getDiverTargets(diver), copy.getDiverTargets(diver));
+            }
+        }
+    }
+
+    @Test
+    public void testPilotFlight() {
+        GameState state = state(GameState.PILOT);
+        state.getBoard().setPawnSlot(GameState.PILOT, slot(2, 2));
+        assertEquals("Pilot walks to 4 tiles", 4, count(state, Action.MOVE));
+        assertEquals("Pilot flies to every other tile", 24 - 1 - 4, count(state, Action.FLY));
+    }
+
+    @Test
+    public void testShoreUp() {
+        GameState state = state(GameState.ENGINEER, GameState.NAVIGATOR);
+        BoardState board = state.getBoard();
+        board.setPawnSlot(GameState.ENGINEER, slot(2, 2));
+        board.setPawnSlot(GameState.NAVIGATOR, slot(4, 4));
+        board.flood(slot(2, 2));
+        board.flood(slot(2, 3));
+        board.flood(slot(1, 2));
+        board.flood(slot(3, 3)); // diagonal, out of reach
+        // 3 single shore ups and 3 pairs
+        assertEquals("Engineer shores up one or two tiles", 6, count(state, Action.SHORE_UP));
+        assertTrue(has(state, Action.of(Action.SHORE_UP, slot(1, 2), slot(2, 2))));
+
+        state.setCurrentPlayer(1);
+        board.flood(slot(4, 3));
+        assertEquals("Navigator shores up single tiles", 1, count(state, Action.SHORE_UP));
+    }
+
+    @Test
+    public void testGiveCards() {
+        GameState state = state(GameState.DIVER, GameState.MESSENGER, GameState.PILOT);
+        BoardState board = state.getBoard();
+        board.setPawnSlot(GameState.DIVER, slot(2, 2));
+        board.setPawnSlot(GameState.MESSENGER, slot(2, 2));
+        board.setPawnSlot(GameState.PILOT, slot(4, 4));
+        // Two Earth cards, one Fire card and a Sandbag
+        state.setHand(0, (1 << 0) | (1 << 1) | (1 << 10) | (1 << 23));
+        state.setHand(1, 1 << 5);
+
+        assertEquals("One card per treasure to the player on the same tile", 2, count(state, Action.GIVE));
+        assertTrue(has(state, Action.of(Action.GIVE, 0, 1)));
+        assertFalse("Only the lowest card of a treasure is offered", has(state, Action.of(Action.GIVE, 1, 1)));
+        assertFalse("Players elsewhere cannot receive", has(state, Action.of(Action.GIVE, 0, 2)));
+
+        state.setCurrentPlayer(1);
+        assertEquals("Messenger gives to everybody", 2, count(state, Action.GIVE));
+        assertTrue(has(state, Action.of(Action.GIVE, 5, 2)));
+    }
+
+    @Test
+    public void testCapture() {
+        GameState state = state(GameState.DIVER);
+        // Tile 3 (slot 2) is a Wind shrine
+        state.getBoard().setPawnSlot(GameState.DIVER, 2);
+        state.setHand(0, Cards.treasureMask(1) & ~(1 << 5));
+        assertEquals(1, count(state, Action.CAPTURE));
+        assertTrue(has(state, Action.of(Action.CAPTURE, 1, 0)));
+
+        state.setFigurines(1 << 1);
+        assertEquals("Captured figurines cannot be captured again", 0, count(state, Action.CAPTURE));
+    }
+
+    @Test
+    public void testSpecialCards() {
+        GameState state = state(GameState.DIVER, GameState.ENGINEER);
+        BoardState board = state.getBoard();
+        board.setPawnSlot(GameState.DIVER, slot(2, 2));
+        board.setPawnSlot(GameState.ENGINEER, slot(2, 2));
+        board.flood(slot(5, 3));
+        board.flood(slot(0, 2));
+        state.setHand(1, (1 << 23) | (1 << 24) | (1 << 21));
+
+        assertEquals("Sandbag any flooded tile, also in another player's turn", 2, count(state, Action.SANDBAG));
+        assertTrue(has(state, Action.of(Action.SANDBAG, 23, slot(5, 3), 0, 1)));
+        // Groups {0}, {1}, {0,1} fly to any of the other 23 tiles
+        assertEquals(3 * 23, count(state, Action.HELICOPTER));
+        assertEquals("Lift off needs all figurines", 0, count(state, Action.LIFT_OFF));
+
+        int landing = board.getSlotOfTile(GameState.FOOLS_LANDING_TILE_ID);
+        board.setPawnSlot(GameState.DIVER, landing);
+        board.setPawnSlot(GameState.ENGINEER, landing);
+        state.setFigurines(0b1111);
+        assertTrue(has(state, Action.of(Action.LIFT_OFF, 21, 0, 0, 1)));
+    }
+
+    @Test
+    public void testNavigatorPush() {
+        GameState state = state(GameState.NAVIGATOR, GameState.MESSENGER);
+        BoardState board = state.getBoard();
+        board.setPawnSlot(GameState.NAVIGATOR, slot(0, 2));
+        board.setPawnSlot(GameState.MESSENGER, slot(2, 2));
+        // Up to two orthogonal steps from an inner tile
+        assertEquals(Integer.bitCount(Rules.navigatorTargets(board, slot(2, 2))), count(state, Action.NAVIGATE));
+        assertTrue(has(state, Action.of(Action.NAVIGATE, slot(4, 2), 1)));
+        assertTrue(has(state, Action.of(Action.NAVIGATE, slot(3, 3), 1)));
+        assertFalse("Three steps are too far", has(state, Action.of(Action.NAVIGATE, slot(5, 2), 1)));
+    }
+
+    @Test
+    public void testSwimTargets() {
+        GameState state = state(GameState.DIVER);
+        BoardState board = state.getBoard();
+        int slot = slot(2, 2);
+        board.flood(slot);
+        board.flood(slot);
+        assertEquals(IslandLayout.orthogonal(slot), Rules.swimTargets(board, GameState.MESSENGER, slot));
+        assertEquals(IslandLayout.all(slot), Rules.swimTargets(board, GameState.EXPLORER, slot));
+        assertEquals(BoardState.ALL_SLOTS & ~(1 << slot), Rules.swimTargets(board, GameState.PILOT, slot));
+        assertEquals("Diver swims to the nearest tiles",
+                IslandLayout.orthogonal(slot), Rules.swimTargets(board, GameState.DIVER, slot));
+
+        for (int rest = IslandLayout.orthogonal(slot); rest != 0; rest &= rest - 1) {
+            board.flood(Integer.numberOfTrailingZeros(rest));
+            board.flood(Integer.numberOfTrailingZeros(rest));
+        }
+        assertEquals("Messenger drowns", 0, Rules.swimTargets(board, GameState.MESSENGER, slot));
+        assertEquals("Diver reaches the diagonal tiles", IslandLayout.diagonal(slot),
+                Rules.swimTargets(board, GameState.DIVER, slot));
+    }
+
+    @Test
+    public void testActionLimit() {
+        GameState state = state(GameState.MESSENGER);
+        state.getBoard().setPawnSlot(GameState.MESSENGER, slot(2, 2));
+        state.setActionsTaken(GameState.ACTIONS_PER_TURN);
+        int n = Rules.legalActions(state, buffer);
+        assertEquals("Only ending the turn is left", 1, n);
+        assertEquals(Action.END_ACTIONS, Action.type(buffer[0]));
+    }
+
+    @Test
+    public void testNewGameBufferIsLargeEnough() {
+        for (int seed = 0; seed < 50; seed++) {
+            GameState state = GameState.newGame(4, 2, new SplittableRandom(seed));
+            int n = Rules.legalActions(state, buffer);
+            assertTrue("There is always something to do", n > 0);
+            assertEquals("Every player starts with two cards", 2, Cards.count(state.getHand(3)));
+            assertEquals("Six tiles start flooded", 6, Integer.bitCount(state.getBoard().getFloodedMask()));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import com.forbidden.island.Simulation;
+import com.forbidden.island.bot.BotPolicy;
+import com.forbidden.island.bot.SimulationStats;
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.cards.FloodDeck;
+import com.forbidden.island.model.cards.IntDeck;
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the batch simulation
+ * 1. Every game is counted under exactly one outcome
+ * 2. Results do not depend on the number of threads
+ * 3. Both bot policies finish their games
+ * 4. The engine floods the island like the client when the flood deck runs short
+ */
+public class SimulationTest {
+
+    private static long outcomes(SimulationStats stats) {
+        long total = 0;
+        for (int outcome = GameState.ONGOING; outcome <= GameState.LOST_DROWNED; outcome++) {
+            total += stats.getOutcomeCount(outcome);
+        }
+        return total;
+    }
+
+    @Test
+    public void testOutcomesAddUp() {
+        SimulationStats stats = Simulation.run(200, 4, 2, BotPolicy.RANDOM, 42, 2);
+        assertEquals(200, stats.getGames());
+        assertEquals("Every game should have one outcome", 200, outcomes(stats));
+        assertEquals("Random games should always finish", 0, stats.getOutcomeCount(GameState.ONGOING));
+        assertTrue(stats.getMinTurns() <= stats.getAverageTurns());
+        assertTrue(stats.getAverageTurns() <= stats.getMaxTurns());
+    }
+
+    @Test
+    public void testResultsIndependentOfThreads() {
+        SimulationStats single = Simulation.run(100, 3, 1, BotPolicy.RANDOM, 7, 1);
+        SimulationStats parallel = Simulation.run(100, 3, 1, BotPolicy.RANDOM, 7, 4);
+        assertEquals(single.report(), parallel.report());
+    }
+
+    @Test
+    public void testGreedyBot() {
+        SimulationStats stats = Simulation.run(40, 2, 1, BotPolicy.GREEDY, 3, 2);
+        assertEquals(40, outcomes(stats));
+        assertEquals("Greedy games should always finish", 0, stats.getOutcomeCount(GameState.ONGOING));
+    }
+
+    @Test
+    public void testEngineFloodsLikeSession() {
+        for (long seed = 1; seed <= 20; seed++) {
+            GameSession session = new GameSession(2, 1, seed);
+            session.setVerbose(false);
+            session.start();
+
+            // Leave one card in the draw pile and one in the discard pile; the phase draws two
+            FloodDeck floodDeck = session.getFloodDeck();
+            IntDeck piles = session.snapshot().getFloodDeck();
+            int[] drawPile = new int[24];
+            int size = piles.peek(24, drawPile);
+            for (int i = 1; i < size; i++) {
+                floodDeck.removeFloodCard(drawPile[i]);
+            }
+            boolean keptDiscard = false;
+            for (int card = 1; card <= 24; card++) {
+                if (piles.inDiscardPile(card)) {
+                    if (keptDiscard) floodDeck.removeFloodCard(card);
+                    keptDiscard = true;
+                }
+            }
+
+            GameState state = session.snapshot();
+            for (int card = 25; card <= 27; card++) {
+                state.getTreasureDeck().remove(card);   // No Water Rise during the treasure draw
+            }
+            new GameEngine(state).apply(Action.of(Action.END_ACTIONS, 0, 0));
+            session.floodIsland();
+
+            assertEquals("Both should flood the same two tiles, seed " + seed,
+                    session.getBoard().getState().getTileBits(), state.getBoard().getTileBits());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import com.forbidden.island.utils.AtlasGenerator;
+import com.forbidden.island.utils.Constant;
+import com.forbidden.island.utils.ImageUtil;
+import com.forbidden.island.utils.SpriteAtlas;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the sprite atlas
+ * 1. Packed sprites do not overlap and keep their pixels through a write and read
+ * 2. The shipped atlas holds every variant the renderers draw, identical to decoding the PNG
+ */
+public class SpriteAtlasTest {
+
+    private static BufferedImage solid(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(color);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+
+    private static void assertSamePixels(String message, BufferedImage expected, BufferedImage actual) {
+        assertEquals(message, expected.getWidth(), actual.getWidth());
+        assertEquals(message, expected.getHeight(), actual.getHeight());
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                assertEquals(message + " at " + x + "," + y, expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testPackWriteRead() throws IOException {
+        LinkedHashMap<String, BufferedImage> sprites = new LinkedHashMap<>();
+        Color[] colors = {Color.RED, Color.GREEN, Color.BLUE, Color.ORANGE, Color.CYAN};
+        for (int i = 0; i < 40; i++) {
+            sprites.put(SpriteAtlas.key("/Test/" + i + ".png", 10 + i, 5 + i % 7, 0),
+                    solid(10 + i, 5 + i % 7, colors[i % colors.length]));
+        }
+        SpriteAtlas packed = SpriteAtlas.pack(sprites, 128);
+        assertTrue("Sheet should respect the maximum width", packed.getSheet().getWidth() <= 128);
+
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        packed.write(image, index);
+        SpriteAtlas atlas = SpriteAtlas.read(new ByteArrayInputStream(image.toByteArray()),
+                new ByteArrayInputStream(index.toByteArray()));
+
+        assertEquals(40, atlas.getSpriteCount());
+        for (String key : sprites.keySet()) {
+            assertSamePixels(key, sprites.get(key), atlas.getSprite(key));
+        }
+        assertNull("Unknown key should not be in the atlas", atlas.getSprite(SpriteAtlas.key("/Test/0.png", 1, 1, 0)));
+    }
+
+    @Test
+    public void testShippedAtlasIsUpToDate() throws IOException {
+        SpriteAtlas generated = AtlasGenerator.generate(new File("src/main/resources/image"));
+        ImageUtil.clearCache();
+        String[] keys = {
+                SpriteAtlas.key("/Tiles/14.png", Constant.TILE_WIDTH, Constant.TILE_HEIGHT, 0),
+                SpriteAtlas.key("/SubmersedTiles/3.png", Constant.TILE_WIDTH, Constant.TILE_HEIGHT, 0),
+                SpriteAtlas.key("/TreasureCards/25.png", Constant.TREASURE_WIDTH, Constant.TREASURE_HEIGHT, 270),
+                SpriteAtlas.key("/Pawns/Diver.png", 0, 0, 0),
+                SpriteAtlas.key("/Back/Flood Deck.png", Constant.FLOOD_WIDTH, Constant.FLOOD_HEIGHT, 90),
+        };
+        for (String key : keys) {
+            String[] fields = key.split("\\|");
+            BufferedImage shipped = ImageUtil.getImage(fields[0], Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]), Double.parseDouble(fields[3]));
+            assertNotNull(key, generated.getSprite(key));
+            assertSamePixels("Shipped atlas should match the images, run AtlasGenerator: " + key,
+                    generated.getSprite(key), shipped);
+        }
+        assertEquals("Every shipped sprite should still be generated", generated.getSpriteCount(),
+                ImageUtil.getAtlasSpriteCount());
+    }
+}
@@ -0,0 +1,122 @@
+import com.forbidden.island.controller.GameSession;
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.model.engine.Rules;
+import com.forbidden.island.view.ElementEngine;
+import com.forbidden.island.view.TileGridPanel;
+import com.forbidden.island.view.handler.TargetRendering;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for TargetRendering
+ * 1. Targets of every kind come from the rules' reachability masks
+ * 2. The query follows the selections of the session
+ * 3. Updates are computed off the EDT and painted as tile borders
+ */
+public class TargetRenderingTest {
+
+    @Test
+    public void testCompute() {
+        BoardState board = BoardFixtures.identityBoard();
+        int slot = IslandLayout.slotAt(2, 2);
+        board.flood(IslandLayout.slotAt(2, 3));
+        board.flood(IslandLayout.slotAt(0, 2));
+        int others = BoardState.ALL_SLOTS & ~IslandLayout.bit(slot);
+
+        TargetRendering.Targets explorer = TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.TURN, GameState.EXPLORER, slot));
+        assertEquals(IslandLayout.all(slot), explorer.move);
+        assertEquals("Only the adjacent flooded tile", IslandLayout.bit(IslandLayout.slotAt(2, 3)), explorer.shore);
+
+        TargetRendering.Targets pilot = TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.TURN, GameState.PILOT, slot));
+        assertEquals("Pilot reaches every other tile", others, pilot.move);
+        TargetRendering.Targets flown = TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.TURN, GameState.PILOT, slot, false));
+        assertEquals("After the flight of the turn the Pilot only walks",
+                Rules.moveTargets(board, GameState.PILOT, slot), flown.move);
+
+        TargetRendering.Targets diver = TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.TURN, GameState.DIVER, slot));
+        assertEquals(Rules.diverTargets(board, slot), diver.move);
+
+        assertEquals("The pushed pawn goes one orthogonal step per click", IslandLayout.orthogonal(slot),
+                TargetRendering.compute(new TargetRendering.Query(board, TargetRendering.NAVIGATE, GameState.DIVER, slot)).move);
+        assertEquals(others, TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.HELICOPTER, GameState.DIVER, slot)).move);
+        assertEquals("Sandbags reach every flooded tile", board.getFloodedMask(), TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.SANDBAG, GameState.DIVER, slot)).shore);
+        TargetRendering.Targets none = TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.NONE, GameState.DIVER, slot));
+        assertEquals(0, none.move | none.shore);
+
+        // The flooded tile at (2, 3) sinks and cannot be pushed onto any more
+        board.flood(IslandLayout.slotAt(2, 3));
+        assertEquals(IslandLayout.orthogonal(slot) & ~IslandLayout.bit(IslandLayout.slotAt(2, 3)), TargetRendering.compute(
+                new TargetRendering.Query(board, TargetRendering.NAVIGATE, GameState.DIVER, slot)).move);
+    }
+
+    @Test
+    public void testCaptureFollowsSelections() {
+        GameSession session = new GameSession(2, 1, 5L);
+        session.setVerbose(false);
+        TargetRendering.Targets turn = TargetRendering.compute(TargetRendering.capture(session));
+        Adventurer current = session.getAdventurers()[0];
+        int slot = IslandLayout.slotAt(current.getX(), current.getY());
+        if (current.getId() != GameState.PILOT) {
+            assertEquals(Rules.moveTargets(session.getBoard().getState(), current.getId(), slot), turn.move);
+        }
+
+        session.getCardsInRound().add(23);
+        assertEquals("A selected Sandbag highlights the flooded tiles", session.getBoard().getState().getFloodedMask(),
+                TargetRendering.compute(TargetRendering.capture(session)).shore);
+        session.getCardsInRound().clear();
+
+        session.setActionCount(GameState.ACTIONS_PER_TURN);
+        TargetRendering.Targets spent = TargetRendering.compute(TargetRendering.capture(session));
+        assertEquals("No actions left, nothing to highlight", 0, spent.move | spent.shore);
+    }
+
+    @Test
+    public void testUpdatePaintsBorders() throws Exception {
+        ElementEngine.init(2, 1, 7L);
+        ElementEngine.getSession().setVerbose(false);
+        TileGridPanel.tileCards = new ArrayList<>();
+        for (int i = 0; i < BoardState.SLOT_COUNT; i++) {
+            JButton tile = new JButton();
+            tile.setBorderPainted(false);
+            TileGridPanel.tileCards.add(tile);
+        }
+        TargetRendering rendering = new TargetRendering();
+        TargetRendering.Targets targets = TargetRendering.compute(TargetRendering.capture(ElementEngine.getSession()));
+        int expected = targets.move | targets.shore;
+        assertNotEquals(0, expected);
+
+        rendering.update();
+        int painted = 0;
+        for (int attempt = 0; attempt < 200 && painted != expected; attempt++) {
+            Thread.sleep(5);
+            SwingUtilities.invokeAndWait(() -> { });
+            painted = 0;
+            for (int slot = 0; slot < BoardState.SLOT_COUNT; slot++) {
+                if (TileGridPanel.tileCards.get(slot).isBorderPainted()) {
+                    painted |= IslandLayout.bit(slot);
+                }
+            }
+        }
+        assertEquals("Exactly the targets should be highlighted", expected, painted);
+
+        rendering.finish();
+        SwingUtilities.invokeAndWait(() -> { });
+        for (JButton tile : TileGridPanel.tileCards) {
+            assertFalse("Highlights should be removed at the end", tile.isBorderPainted());
+        }
+    }
+}
@@ -79,4 +79,16 @@ public class TileBoardTest {
         assertEquals("Tile map should be 6x6", 6, tileMap.length);
         assertEquals("Tile map should be 6x6", 6, tileMap[0].length);
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testTilesShareBoardState() {
+        // Tiles are views on the packed board state
+        Tile tile = board.getTile(0, 2);
+        assertEquals("Slot 0 should hold the first tile", 1, tile.getTileId());
+        tile.sinkTile();
+        assertTrue("Board state should see the flood", board.getState().isFlooded(0));
+        tile.sinkTile();
+        assertFalse("Board should see the sunk tile", board.isExist(0, 2));
+        assertFalse("Blank cells do not exist", board.isExist(0, 0));
+    }
+}
@@ -1,3 +1,6 @@
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.board.IslandLayout;
+import com.forbidden.island.utils.Constant;
 import com.forbidden.island.view.*;
 import com.forbidden.island.view.handler.IRendering;
 import com.forbidden.island.view.handler.TileRendering;
@@ -12,6 +15,9 @@ import static org.junit.Assert.*;
 
 /**
  * Test class for TileRendering
+ * 1. The first update draws every tile, later updates only the tiles whose state changed
+ * 2. Sunk tiles are hidden and disabled
+ * 3. A tile and its pawns are painted from one cached composited sprite
  */
 public class TileRenderingTest {
     
@@ -55,6 +61,7 @@ public class TileRenderingTest {
         for (int i = 0; i < 6; i++) {
             FloodPanel.floodCards.add(new JButton());
         }
+        FloodPanel.floodDeck = new JLabel();
         
         // Initialize TileRendering
         tileRendering = new TileRendering();
@@ -74,6 +81,63 @@ public class TileRenderingTest {
         // of how the update affects the tile state
     }
     
+    @Test
+    public void testRepaintsChangedTilesOnly() {
+        tileRendering.update();
+        assertEquals("Tiles drawn at startup should not be repainted", 0, tileRendering.getLastRepaintCount());
+
+        BoardState board = ElementEngine.getBoard().getState();
+        int slot = -1;
+        for (int i = 0; i < BoardState.SLOT_COUNT && slot == -1; i++) {
+            if (board.getPawnMask(i) == 0) {
+                slot = i;
+            }
+        }
+        Icon before = TileGridPanel.tileCards.get(slot).getIcon();
+        board.flood(slot);
+        tileRendering.update();
+        assertEquals("Only the flooded tile should be repainted", 1, tileRendering.getLastRepaintCount());
+        assertNotSame(before, TileGridPanel.tileCards.get(slot).getIcon());
+
+        board.flood(slot);
+        tileRendering.update();
+        assertEquals(1, tileRendering.getLastRepaintCount());
+        assertFalse("Sunk tile should be hidden", TileGridPanel.tileCards.get(slot).isVisible());
+        assertFalse("Sunk tile should be disabled", TileGridPanel.tileCards.get(slot).isEnabled());
+
+        tileRendering.invalidate();
+        tileRendering.update();
+        assertEquals("Invalidated tiles should all be repainted", 24, tileRendering.getLastRepaintCount());
+        assertEquals(4, tileRendering.getUpdateCount());
+        assertEquals(26, tileRendering.getRepaintCount());
+    }
+
+    @Test
+    public void testTileSprites() {
+        BoardState board = ElementEngine.getBoard().getState();
+        int slot = -1;
+        for (int i = 0; i < BoardState.SLOT_COUNT && slot == -1; i++) {
+            if (board.getPawnMask(i) != 0) {
+                slot = i;
+            }
+        }
+        Icon icon = TileGridPanel.tileCards.get(slot).getIcon();
+        assertTrue("A tile with pawns should be one composited image", icon instanceof ImageIcon);
+        assertEquals(Constant.TILE_WIDTH, icon.getIconWidth());
+        assertEquals(Constant.TILE_HEIGHT, icon.getIconHeight());
+
+        // Same state, same sprite, nothing is composited again
+        long misses = TileSprites.getCacheMisses();
+        Tile tile = ElementEngine.getBoard().getTile(IslandLayout.xOf(slot), IslandLayout.yOf(slot));
+        assertSame(icon, TileSprites.get(tile));
+        assertEquals(misses, TileSprites.getCacheMisses());
+
+        int key = TileSprites.key(tile);
+        board.flood(slot);
+        assertNotEquals("Flooding should change the sprite key", key, TileSprites.key(tile));
+        assertNotSame(icon, TileSprites.get(tile));
+    }
+
     @Test
     public void testFinish() {
         // Test the finish method
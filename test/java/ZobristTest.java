@@ -0,0 +1,140 @@
+import com.forbidden.island.model.adventurer.Adventurer;
+import com.forbidden.island.model.adventurer.Diver;
+import com.forbidden.island.model.adventurer.Engineer;
+import com.forbidden.island.model.board.BoardState;
+import com.forbidden.island.model.engine.Action;
+import com.forbidden.island.model.engine.GameEngine;
+import com.forbidden.island.model.engine.GameState;
+import com.forbidden.island.view.Tile;
+import com.forbidden.island.view.TileBoard;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the Zobrist hash of BoardState and GameState
+ * 1. Tile and pawn changes through the Tile view update the board hash
+ * 2. The incremental hash always equals a full recomputation during random games, also after undo
+ * 3. Hands hash as multisets of card kinds, and equal states reached in different orders hash equally
+ * 4. The Pilot flight and pending flood flags, which change the legal actions and the next transition, are hashed
+ */
+public class ZobristTest {
+    private final int[] buffer = new int[Action.MAX_ACTIONS];
+
+    @Test
+    public void testTileChangesUpdateHash() {
+        ArrayList<Integer> tiles = new ArrayList<>();
+        for (int i = 1; i <= 24; i++) {
+            tiles.add(i);
+        }
+        Diver diver = new Diver(0);
+        TileBoard board = new TileBoard(new ArrayList<>(Arrays.asList(0, 1)), tiles,
+                new Adventurer[]{diver, new Engineer(1)});
+        BoardState state = board.getState();
+        long start = state.getHash();
+        assertEquals(state.computeHash(), start);
+
+        Tile tile = board.getTile(2, 2);
+        tile.sinkTile();
+        assertNotEquals("Flooding should change the hash", start, state.getHash());
+        tile.shoreUp();
+        assertEquals("Shoring up should restore the hash", start, state.getHash());
+
+        tile.sinkTile();
+        tile.sinkTile();
+        assertEquals("Sinking should be hashed incrementally", state.computeHash(), state.getHash());
+
+        Tile other = board.getTile(2, 3);
+        other.moveOn(0);
+        assertEquals(state.computeHash(), state.getHash());
+        other.moveOff(diver);
+        assertEquals(state.computeHash(), state.getHash());
+    }
+
+    @Test
+    public void testIncrementalHashMatchesRecomputation() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int game = 0; game < 20; game++) {
+            GameState state = GameState.newGame(2 + game % 3, 1 + game % 3, random.split());
+            GameEngine engine = new GameEngine(state);
+            assertEquals(state.computeHash(), state.getHash());
+            ArrayList<Long> hashes = new ArrayList<>();
+            while (!state.isOver() && hashes.size() < 300) {
+                hashes.add(state.getHash());
+                int n = engine.legalActions(buffer);
+                engine.apply(buffer[random.nextInt(n)]);
+                assertEquals("Incremental hash should match", state.computeHash(), state.getHash());
+            }
+            for (int i = hashes.size() - 1; i >= 0; i--) {
+                engine.undo();
+                assertEquals("Undo should restore the hash", (long) hashes.get(i), state.getHash());
+            }
+        }
+    }
+
+    @Test
+    public void testHandsHashAsMultisets() {
+        GameState a = GameState.newGame(2, 1, new SplittableRandom(9));
+        GameState b = new GameState(a, new SplittableRandom(9));
+        // Cards 0 and 1 are both Earth cards
+        a.setHand(0, 1);
+        a.setHand(1, 0);
+        b.setHand(0, 1 << 1);
+        b.setHand(1, 0);
+        assertEquals("Interchangeable cards should hash equally", a.getHash(), b.getHash());
+        b.setHand(0, 1 << 5);
+        assertNotEquals("Different treasures should hash differently", a.getHash(), b.getHash());
+        b.setHand(0, 0);
+        b.setHand(1, 1);
+        assertNotEquals("The same card in another hand should hash differently", a.getHash(), b.getHash());
+    }
+
+    @Test
+    public void testTranspositions() {
+        GameState a = GameState.newGame(2, 1, new SplittableRandom(2));
+        GameState b = new GameState(a, new SplittableRandom(2));
+        a.getBoard().shoreUp(3);
+        b.getBoard().shoreUp(3);
+        a.getBoard().flood(3);
+        a.getBoard().flood(5);
+        b.getBoard().flood(5);
+        b.getBoard().flood(3);
+        assertEquals("Move order should not matter", a.getHash(), b.getHash());
+        a.setActionsTaken(1);
+        assertNotEquals("Action count should be hashed", a.getHash(), b.getHash());
+        b.setActionsTaken(1);
+        b.setCurrentPlayer(1);
+        assertNotEquals("Current player should be hashed", a.getHash(), b.getHash());
+    }
+
+    @Test
+    public void testPilotFlownIsHashed() {
+        GameState a = GameState.newGame(2, 1, new SplittableRandom(4));
+        GameState b = new GameState(a, new SplittableRandom(4));
+        a.setPilotFlown(true);
+        assertNotEquals("A used Pilot flight should be hashed", a.getHash(), b.getHash());
+        assertEquals(a.computeHash(), a.getHash());
+        a.setPilotFlown(true);
+        assertEquals("Setting the flag again should not change the hash", a.computeHash(), a.getHash());
+        a.setPilotFlown(false);
+        assertEquals(b.getHash(), a.getHash());
+    }
+
+    @Test
+    public void testFloodPendingIsHashed() {
+        GameState a = GameState.newGame(2, 1, new SplittableRandom(6));
+        GameState b = new GameState(a, new SplittableRandom(6));
+        a.setFloodPending(true);
+        assertNotEquals("A pending flood should be hashed", a.getHash(), b.getHash());
+        assertEquals(a.computeHash(), a.getHash());
+        b.setPilotFlown(true);
+        assertNotEquals("The two flags should have different keys", a.getHash(), b.getHash());
+        a.setFloodPending(false);
+        b.setPilotFlown(false);
+        assertEquals(b.getHash(), a.getHash());
+    }
+}